@@ -31,7 +31,7 @@ public class CorsConfig {
         configuration.setAllowCredentials(true);
 
         // Expose headers to the frontend
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Query-Count"));
 
         // Cache preflight response for 1 hour
         configuration.setMaxAge(3600L);
@@ -0,0 +1,20 @@
+package com.turfbook.backend.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements one request to the annotated endpoint may
+ * execute. On a controller class it applies to every endpoint that does not
+ * declare its own. Endpoints without a budget get queries.budget.default.
+ * Enforced by QueryCountFilter. Only statements issued through Hibernate
+ * count against it; JdbcTemplate SQL is excluded (see QueryCounter).
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
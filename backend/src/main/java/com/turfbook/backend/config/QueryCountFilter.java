@@ -0,0 +1,153 @@
+package com.turfbook.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Counts the SQL statements each request executes and checks them against
+ * the endpoint's QueryBudget.
+ * The count is sent in the X-Query-Count header and recorded per endpoint
+ * as http.server.queries. Requests over budget are logged and counted as
+ * http.server.queries.over.budget, and fail with an exception when
+ * queries.budget.fail-on-exceed is set, as it is for test runs.
+ * Runs first so that statements issued by the security filters count too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${queries.budget.default:50}")
+    private int defaultBudget;
+
+    @Value("${queries.budget.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    @Value("${queries.header.enabled:true}")
+    private boolean headerEnabled;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        int queries;
+        try {
+            filterChain.doFilter(request, headerEnabled ? new CountingResponse(response) : response);
+        } finally {
+            queries = QueryCounter.stop();
+        }
+        if (headerEnabled && !response.isCommitted()) {
+            // No body was written
+            response.setIntHeader(HEADER, queries);
+        }
+
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("http.server.queries")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(queries);
+
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        int budget = budgetOf(handlerMethod);
+        if (queries > budget) {
+            meterRegistry.counter("http.server.queries.over.budget", "method", request.getMethod(), "uri", uri)
+                    .increment();
+            String message = request.getMethod() + " " + uri + " executed " + queries
+                    + " queries, budget is " + budget;
+            if (failOnExceed) {
+                throw new IllegalStateException(message);
+            }
+            logger.warn(message);
+        }
+    }
+
+    private int budgetOf(HandlerMethod handlerMethod) {
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+        }
+        return budget != null ? budget.value() : defaultBudget;
+    }
+
+    /**
+     * Sets the header just before the response commits. Statements issued
+     * while the body is being written, e.g. lazy loads during serialization,
+     * are therefore missing from the header but included in the metrics.
+     */
+    private static class CountingResponse extends HttpServletResponseWrapper {
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            stamp();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            stamp();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            stamp();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            stamp();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            stamp();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            stamp();
+            super.sendRedirect(location);
+        }
+
+        private void stamp() {
+            if (!isCommitted()) {
+                setIntHeader(HEADER, QueryCounter.current());
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.turfbook.backend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between
+ * start() and stop(). Statements run outside a counted section, e.g. by
+ * schedulers or async workers, are not counted. SQL that bypasses Hibernate
+ * is not counted either: JdbcTemplate statements, such as the bulk slot
+ * insert in SlotCalendarService and the notification writes in
+ * NotificationDispatcher, never reach the inspector.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Statements counted so far on this thread, or 0 if counting is off
+     */
+    public static int current() {
+        int[] count = COUNT.get();
+        return count != null ? count[0] : 0;
+    }
+
+    /**
+     * Stop counting and return the total
+     */
+    public static int stop() {
+        int count = current();
+        COUNT.remove();
+        return count;
+    }
+}
@@ -4,7 +4,9 @@ import com.turfbook.backend.dto.response.AnalyticsResponse;
 import com.turfbook.backend.dto.response.OwnerAnalyticsResponse;
 import com.turfbook.backend.dto.response.RevenueDataPoint;
 import com.turfbook.backend.dto.response.OccupancyDataPoint;
+import com.turfbook.backend.model.enums.RevenueGranularity;
 import com.turfbook.backend.security.UserDetailsImpl;
+import com.turfbook.backend.service.AnalyticsRollupService;
 import com.turfbook.backend.service.AnalyticsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +30,9 @@ public class AnalyticsController {
     @Autowired
     private AnalyticsService analyticsService;
 
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
     /**
      * Get current authenticated user ID from security context
      * 
@@ -86,19 +91,21 @@ public class AnalyticsController {
      * Get revenue data for the current owner over specified days
      * Requires OWNER role
      * 
-     * @param days Number of days (default: 7, max: 365)
+     * @param days        Number of days (default: 7, max: 365)
+     * @param granularity Bucket size: DAY, WEEK or MONTH (default: DAY)
      * @return List of revenue data points
      */
     @GetMapping("/owner/revenue")
     @PreAuthorize("hasRole('OWNER')")
     public ResponseEntity<List<RevenueDataPoint>> getOwnerRevenue(
-            @RequestParam(defaultValue = "7") int days) {
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "DAY") RevenueGranularity granularity) {
         try {
             Long ownerId = securityUtils.getCurrentUserId();
-            logger.info("GET /api/analytics/owner/revenue?days={} - Fetching revenue data for ownerId: {}", days,
-                    ownerId);
+            logger.info("GET /api/analytics/owner/revenue?days={}&granularity={} - Fetching revenue data for ownerId: {}",
+                    days, granularity, ownerId);
 
-            List<RevenueDataPoint> response = analyticsService.getOwnerRevenueData(ownerId, days);
+            List<RevenueDataPoint> response = analyticsService.getOwnerRevenueData(ownerId, days, granularity);
 
             logger.info("Successfully fetched revenue data for ownerId: {}, returned {} data points",
                     ownerId, response.size());
@@ -135,4 +142,17 @@ public class AnalyticsController {
             return ResponseEntity.ok(Collections.emptyList());
         }
     }
+
+    /**
+     * Rebuild the owner analytics rollup from historical bookings and slots
+     * 
+     * @return Confirmation message
+     */
+    @PostMapping("/rollup/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> backfillRollup() {
+        logger.info("POST /api/analytics/rollup/backfill - Rebuilding analytics rollup");
+        analyticsRollupService.backfill();
+        return ResponseEntity.ok("Analytics rollup rebuilt");
+    }
 }
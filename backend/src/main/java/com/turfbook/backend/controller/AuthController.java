@@ -3,6 +3,7 @@ package com.turfbook.backend.controller;
 import com.turfbook.backend.dto.AuthDto;
 import com.turfbook.backend.model.User;
 import com.turfbook.backend.repository.UserRepository;
+import com.turfbook.backend.service.UserSearchIndex;
 import com.turfbook.backend.security.JwtUtils;
 import com.turfbook.backend.security.UserDetailsImpl;
 import jakarta.validation.Valid;
@@ -27,6 +28,9 @@ public class AuthController {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    UserSearchIndex userSearchIndex;
+
     @Autowired
     PasswordEncoder encoder;
 
@@ -81,7 +85,7 @@ public class AuthController {
                 ? com.turfbook.backend.model.enums.UserRole.valueOf(signUpRequest.getRole())
                 : com.turfbook.backend.model.enums.UserRole.USER);
 
-        userRepository.save(user);
+        userSearchIndex.put(userRepository.save(user));
 
         return ResponseEntity.ok("User registered successfully!");
     }
@@ -100,7 +104,7 @@ public class AuthController {
                 .map(refreshTokenService::verifyExpiration)
                 .map(RefreshToken::getUser)
                 .map(user -> {
-                    String token = jwtUtils.generateTokenFromUsername(user.getEmail());
+                    String token = jwtUtils.generateTokenFromUserDetails(UserDetailsImpl.build(user));
                     return ResponseEntity.ok(new AuthDto.TokenRefreshResponse(token, requestRefreshToken));
                 })
                 .orElseThrow(() -> new com.turfbook.backend.exception.TokenRefreshException(requestRefreshToken,
@@ -1,17 +1,14 @@
 package com.turfbook.backend.controller;
 
+import com.turfbook.backend.dto.response.BookingPage;
 import com.turfbook.backend.model.Booking;
 import com.turfbook.backend.repository.BookingRepository;
-import com.turfbook.backend.repository.UserRepository;
+import com.turfbook.backend.security.SecurityUtils;
 import com.turfbook.backend.service.BookingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 
@@ -27,10 +24,10 @@ public class BookingController {
         Long userId = ((Number) request.get("userId")).longValue();
         Long turfId = ((Number) request.get("turfId")).longValue();
         Long slotId = ((Number) request.get("slotId")).longValue();
-        BigDecimal totalAmount = new BigDecimal(request.get("totalAmount").toString());
 
         try {
-            Booking booking = bookingService.initiateBooking(userId, turfId, slotId, totalAmount);
+            // Any client-sent totalAmount is ignored; the server prices the slot
+            Booking booking = bookingService.initiateBooking(userId, turfId, slotId);
             return ResponseEntity.ok(booking);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -48,21 +45,31 @@ public class BookingController {
     }
 
     @GetMapping("/my")
-    public ResponseEntity<List<Booking>> getMyBookings() {
+    public ResponseEntity<BookingPage> getMyBookings(@RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit) {
         try {
-            return ResponseEntity.ok(bookingService.getBookingsByUserId(getCurrentUserId()));
+            return ResponseEntity.ok(bookingService.getBookingHistory(getCurrentUserId(), cursor, limit));
         } catch (Exception e) {
-            return ResponseEntity.ok(List.of());
+            return ResponseEntity.ok(new BookingPage(List.of(), null));
+        }
+    }
+
+    @GetMapping("/owner")
+    @org.springframework.security.access.prepost.PreAuthorize("hasRole('OWNER')")
+    public ResponseEntity<?> getOwnerBookings(@RequestParam(required = false) Long turfId,
+            @RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(bookingService.getOwnerBookings(getCurrentUserId(), turfId, cursor, limit));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
     @Autowired
-    com.turfbook.backend.repository.UserRepository userRepository;
+    SecurityUtils securityUtils;
 
     private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return userRepository.findByEmail(userDetails.getUsername()).get().getId();
+        return securityUtils.getCurrentUserId();
     }
 
     @PostMapping("/owner/book")
@@ -3,6 +3,7 @@ package com.turfbook.backend.controller;
 import com.turfbook.backend.model.*;
 import com.turfbook.backend.model.enums.UserRole;
 import com.turfbook.backend.repository.*;
+import com.turfbook.backend.service.UserSearchIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,6 +22,8 @@ public class DataSeederController {
     @Autowired
     private UserRepository userRepository;
     @Autowired
+    private UserSearchIndex userSearchIndex;
+    @Autowired
     private TurfRepository turfRepository;
     @Autowired
     private TurfSlotRepository turfSlotRepository;
@@ -43,7 +46,7 @@ public class DataSeederController {
         player.setSkillRating(1500);
         player.setMatchesPlayed(10);
         player.setMatchesWon(6);
-        userRepository.save(player);
+        userSearchIndex.put(userRepository.save(player));
 
         User owner = new User();
         owner.setName("Demo Owner");
@@ -51,7 +54,7 @@ public class DataSeederController {
         owner.setPassword(passwordEncoder.encode("password123"));
         owner.setPhone("9876543211");
         owner.setRole(UserRole.OWNER);
-        userRepository.save(owner);
+        userSearchIndex.put(userRepository.save(owner));
 
         // 2. Create Turfs
         createTurf(owner.getId(), "Green Valley Turf", "Downtown, City Center",
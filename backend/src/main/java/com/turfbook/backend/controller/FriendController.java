@@ -1,12 +1,11 @@
 package com.turfbook.backend.controller;
 
+import com.turfbook.backend.config.QueryBudget;
 import com.turfbook.backend.model.Friend;
+import com.turfbook.backend.security.SecurityUtils;
 import com.turfbook.backend.service.FriendService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,12 +18,10 @@ public class FriendController {
     FriendService friendService;
 
     @Autowired
-    com.turfbook.backend.repository.UserRepository userRepository;
+    SecurityUtils securityUtils;
 
     private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return userRepository.findByEmail(userDetails.getUsername()).get().getId();
+        return securityUtils.getCurrentUserId();
     }
 
     @PostMapping("/invite")
@@ -97,6 +94,22 @@ public class FriendController {
         return friendService.searchUsers(getCurrentUserId(), query);
     }
 
+    @GetMapping("/mutual/{userId}")
+    @QueryBudget(2)
+    public List<com.turfbook.backend.model.User> getMutualFriends(@PathVariable Long userId) {
+        return friendService.getMutualFriends(getCurrentUserId(), userId);
+    }
+
+    @GetMapping("/suggestions")
+    @QueryBudget(3)
+    public ResponseEntity<?> getSuggestions(@RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(friendService.getSuggestions(getCurrentUserId(), limit));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @PostMapping("/request/{userId}")
     public ResponseEntity<?> sendRequestById(@PathVariable Long userId) {
         try {
@@ -11,6 +11,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -29,10 +30,38 @@ public class NotificationController {
     @GetMapping
     public ResponseEntity<?> getMyNotifications() {
         Long userId = securityUtils.getCurrentUserId();
-        // Map to DTO if needed, or return entity for now (as per service return type)
+        // Latest page only; older notifications are paged through /feed
         return ResponseEntity.ok(notificationService.getUserNotifications(userId));
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<?> getNotificationFeed(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            Long userId = securityUtils.getCurrentUserId();
+            return ResponseEntity.ok(notificationService.getNotificationFeed(userId, cursor, limit));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/unread")
+    public ResponseEntity<?> getUnreadNotifications(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            Long userId = securityUtils.getCurrentUserId();
+            return ResponseEntity.ok(notificationService.getUnreadNotifications(userId, cursor, limit));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<?> getUnreadCount() {
+        Long userId = securityUtils.getCurrentUserId();
+        return ResponseEntity.ok(Map.of("count", notificationService.getUnreadCount(userId)));
+    }
+
     @PutMapping("/{id}/read")
     public ResponseEntity<?> markAsRead(@PathVariable Long id) {
         try {
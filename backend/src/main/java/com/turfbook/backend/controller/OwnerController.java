@@ -2,6 +2,8 @@ package com.turfbook.backend.controller;
 
 import com.turfbook.backend.repository.TurfRepository;
 import com.turfbook.backend.security.UserDetailsImpl;
+import com.turfbook.backend.service.PricingEngine;
+import com.turfbook.backend.service.TurfGeoIndex;
 import com.turfbook.backend.service.TurfService;
 import com.turfbook.backend.model.Turf;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +22,12 @@ public class OwnerController {
     @Autowired
     private TurfRepository turfRepository;
 
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private TurfGeoIndex turfGeoIndex;
+
     @GetMapping("/turfs")
     public ResponseEntity<List<Turf>> getMyTurfs(Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
@@ -45,13 +53,24 @@ public class OwnerController {
     public ResponseEntity<?> addTurf(@RequestBody Turf turf, Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         turf.setOwnerId(userDetails.getId());
+        try {
+            PricingEngine.compile(turf.getPricingRules(), turf.getBasePrice());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
         Turf savedTurf = turfRepository.save(turf);
+        turfGeoIndex.put(savedTurf);
         return ResponseEntity.ok(savedTurf);
     }
 
     @PutMapping("/turfs/{id}")
     public ResponseEntity<?> updateTurf(@PathVariable Long id, @RequestBody Turf turf, Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        try {
+            PricingEngine.compile(turf.getPricingRules(), turf.getBasePrice());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
 
         return turfRepository.findById(id)
                 .map(existingTurf -> {
@@ -60,10 +79,14 @@ public class OwnerController {
                     }
                     existingTurf.setName(turf.getName());
                     existingTurf.setLocation(turf.getLocation());
+                    existingTurf.setLatitude(turf.getLatitude());
+                    existingTurf.setLongitude(turf.getLongitude());
                     existingTurf.setPricingRules(turf.getPricingRules());
                     existingTurf.setAmenities(turf.getAmenities());
                     existingTurf.setImages(turf.getImages());
                     Turf updated = turfRepository.save(existingTurf);
+                    pricingEngine.invalidate(id);
+                    turfGeoIndex.put(updated);
                     return ResponseEntity.ok(updated);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -79,6 +102,8 @@ public class OwnerController {
                         return ResponseEntity.status(403).body("Not authorized to delete this turf");
                     }
                     turfRepository.delete(turf);
+                    pricingEngine.invalidate(id);
+                    turfGeoIndex.remove(id);
                     return ResponseEntity.ok().build();
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -1,14 +1,10 @@
 package com.turfbook.backend.controller;
 
-import com.turfbook.backend.model.Booking;
-import com.turfbook.backend.model.Booking;
-import com.turfbook.backend.model.enums.BookingStatus;
-import com.turfbook.backend.repository.BookingRepository;
+import com.turfbook.backend.service.CheckInService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
 import java.util.Map;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -16,33 +12,19 @@ import java.util.Map;
 @RequestMapping("/api/qr")
 public class QRController {
     @Autowired
-    BookingRepository bookingRepository;
+    CheckInService checkInService;
 
     @PostMapping("/scan")
     public ResponseEntity<?> scanQR(@RequestBody Map<String, String> request) {
         String secret = request.get("qrSecret");
+        String turfId = request.get("turfId");
 
-        Booking booking = bookingRepository.findAll().stream()
-                .filter(b -> secret.equals(b.getQrSecret()))
-                .findFirst()
-                .orElse(null);
-
-        if (booking == null) {
-            return ResponseEntity.badRequest().body("Invalid QR Code");
-        }
-
-        if (BookingStatus.CONFIRMED != booking.getStatus()) {
-            return ResponseEntity.badRequest().body("Booking not confirmed");
+        try {
+            checkInService.checkIn(secret, turfId != null ? Long.valueOf(turfId) : null);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
 
-        if (booking.getCheckedInAt() != null) {
-            return ResponseEntity.badRequest().body("Already checked in");
-        }
-
-        booking.setCheckedInAt(LocalDateTime.now());
-        booking.setStatus(BookingStatus.COMPLETED);
-        bookingRepository.save(booking);
-
         return ResponseEntity.ok("Check-in successful");
     }
 }
@@ -1,14 +1,12 @@
 package com.turfbook.backend.controller;
 
+import com.turfbook.backend.config.QueryBudget;
 import com.turfbook.backend.dto.request.TeamRequest;
 import com.turfbook.backend.dto.response.TeamResponse;
-import com.turfbook.backend.repository.UserRepository;
+import com.turfbook.backend.security.SecurityUtils;
 import com.turfbook.backend.service.TeamService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,12 +20,10 @@ public class TeamController {
     private TeamService teamService;
 
     @Autowired
-    private UserRepository userRepository;
+    private SecurityUtils securityUtils;
 
     private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return userRepository.findByEmail(userDetails.getUsername()).get().getId();
+        return securityUtils.getCurrentUserId();
     }
 
     @PostMapping
@@ -42,6 +38,7 @@ public class TeamController {
     }
 
     @GetMapping("/my")
+    @QueryBudget(3)
     public ResponseEntity<List<TeamResponse>> getMyTeams() {
         Long userId = getCurrentUserId();
         return ResponseEntity.ok(teamService.getMyTeams(userId));
@@ -101,6 +98,7 @@ public class TeamController {
     }
 
     @GetMapping("/invites")
+    @QueryBudget(3)
     public ResponseEntity<?> getPendingInvites() {
         Long userId = getCurrentUserId();
         return ResponseEntity.ok(teamService.getPendingInvites(userId));
@@ -3,8 +3,12 @@ package com.turfbook.backend.controller;
 import com.turfbook.backend.model.Turf;
 import com.turfbook.backend.service.TurfService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -19,6 +23,21 @@ public class TurfController {
         return turfService.getAllTurfs(location);
     }
 
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyTurfs(@RequestParam double lat, @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(turfService.searchNearby(lat, lng, radiusKm, date, from, to, page, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     public Turf getTurfById(@PathVariable Long id) {
         return turfService.getTurfById(id);
@@ -1,16 +1,22 @@
 package com.turfbook.backend.controller;
 
+import com.turfbook.backend.dto.request.SlotCalendarRequest;
+import com.turfbook.backend.model.TurfScheduleTemplate;
 import com.turfbook.backend.model.TurfSlot;
-import com.turfbook.backend.repository.TurfSlotRepository;
+import com.turfbook.backend.security.SecurityUtils;
+import com.turfbook.backend.service.PricingEngine;
+import com.turfbook.backend.service.SlotAvailabilityService;
+import com.turfbook.backend.service.SlotCalendarService;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -18,13 +24,23 @@ import java.util.List;
 public class TurfSlotController {
 
     @Autowired
-    private TurfSlotRepository turfSlotRepository;
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Autowired
+    private SlotCalendarService slotCalendarService;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private SecurityUtils securityUtils;
 
     @GetMapping("/{turfId}/slots")
     public ResponseEntity<List<TurfSlot>> getSlots(
             @PathVariable Long turfId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<TurfSlot> slots = turfSlotRepository.findByTurfIdAndDate(turfId, date);
+        List<TurfSlot> slots = slotAvailabilityService.getSlots(turfId, date);
+        pricingEngine.priceDay(turfId, slots);
         return ResponseEntity.ok(slots);
     }
 
@@ -38,44 +54,46 @@ public class TurfSlotController {
             @RequestParam(defaultValue = "60") int slotDurationMinutes,
             @RequestParam(defaultValue = "500") double pricePerSlot) {
 
-        if (slotDurationMinutes <= 0) {
-            return ResponseEntity.badRequest().body("Slot duration must be greater than 0");
+        try {
+            List<TurfSlot> slots = slotCalendarService.generateDay(turfId, date, LocalTime.parse(startTime),
+                    LocalTime.parse(endTime), slotDurationMinutes, BigDecimal.valueOf(pricePerSlot));
+            return ResponseEntity.ok(slots);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
+    }
 
-        System.out.println(
-                "Generating slots: " + date + " " + startTime + " - " + endTime + " duration: " + slotDurationMinutes);
-
-        LocalTime start = LocalTime.parse(startTime);
-        LocalTime end = LocalTime.parse(endTime);
-
-        if (end.isBefore(start)) {
-            return ResponseEntity.badRequest()
-                    .body("End time cannot be before start time (overnight slots not supported yet)");
+    /**
+     * Generate slots across several turfs and a date range from weekday templates
+     */
+    @PostMapping("/slots/calendar")
+    @PreAuthorize("hasRole('OWNER')")
+    public ResponseEntity<?> generateCalendar(@Valid @RequestBody SlotCalendarRequest request) {
+        try {
+            return ResponseEntity.ok(slotCalendarService.generateCalendar(securityUtils.getCurrentUserId(), request));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
+    }
 
-        List<TurfSlot> slots = new ArrayList<>();
-        LocalTime currentTime = start;
-        int safetyCounter = 0;
-        while ((currentTime.plusMinutes(slotDurationMinutes).isBefore(end) ||
-                currentTime.plusMinutes(slotDurationMinutes).equals(end)) && safetyCounter < 100) {
-            TurfSlot slot = new TurfSlot();
-            slot.setTurfId(turfId);
-            slot.setDate(date);
-            slot.setStartTime(currentTime);
-            slot.setEndTime(currentTime.plusMinutes(slotDurationMinutes));
-            slot.setCustomPrice(java.math.BigDecimal.valueOf(pricePerSlot));
-            slot.setIsAvailable(true);
-
-            slots.add(slot);
-            currentTime = currentTime.plusMinutes(slotDurationMinutes);
-            safetyCounter++;
-        }
+    @GetMapping("/{turfId}/schedule")
+    public ResponseEntity<List<TurfScheduleTemplate>> getSchedule(@PathVariable Long turfId) {
+        return ResponseEntity.ok(slotCalendarService.getSchedule(turfId));
+    }
 
-        if (safetyCounter >= 100) {
-            System.err.println("Safety limit reached in slot generation!");
+    /**
+     * Replace the weekly schedule slots are computed from; one template per
+     * weekday the turf is open
+     */
+    @PutMapping("/{turfId}/schedule")
+    @PreAuthorize("hasRole('OWNER')")
+    public ResponseEntity<?> updateSchedule(@PathVariable Long turfId,
+            @RequestBody List<TurfScheduleTemplate> templates) {
+        try {
+            return ResponseEntity
+                    .ok(slotCalendarService.updateSchedule(securityUtils.getCurrentUserId(), turfId, templates));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
-
-        List<TurfSlot> savedSlots = turfSlotRepository.saveAll(slots);
-        return ResponseEntity.ok(savedSlots);
     }
 }
@@ -2,6 +2,8 @@ package com.turfbook.backend.controller;
 
 import com.turfbook.backend.model.User;
 import com.turfbook.backend.repository.UserRepository;
+import com.turfbook.backend.service.UserSearchIndex;
+import com.turfbook.backend.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -10,6 +12,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -19,6 +23,12 @@ public class UserController {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserSearchIndex userSearchIndex;
+
     @Autowired
     private com.turfbook.backend.security.SecurityUtils securityUtils;
 
@@ -43,6 +53,7 @@ public class UserController {
                         user.setAvatarUrl(userUpdates.getAvatarUrl());
                     // Don't allow updating email/role/password here for simplicity
                     userRepository.save(user);
+                    userSearchIndex.put(user);
                     return ResponseEntity.ok(user);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -50,12 +61,8 @@ public class UserController {
 
     @GetMapping("/search")
     public ResponseEntity<List<User>> searchUsers(@RequestParam String query) {
-        // Simple search by name or email
-        // In real app, use a more robust search or Specification
-        // For now, we'll assume we have a custom query or just filter all (inefficient
-        // but works for MVP)
-        // Let's add a method to repository
-        List<User> users = userRepository.findByNameContainingOrEmailContaining(query, query);
+        // Search by name or email through the in-memory index
+        List<User> users = userService.searchUsers(query, true, Map.of(), Set.of());
         return ResponseEntity.ok(users);
     }
 
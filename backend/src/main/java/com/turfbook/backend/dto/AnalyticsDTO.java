@@ -4,31 +4,26 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 public class AnalyticsDTO {
 
     @Data
     @NoArgsConstructor
     public static class DailyRevenueDTO {
-        private String date;
+        private LocalDate date;
         private BigDecimal amount;
 
-        public DailyRevenueDTO(String date, BigDecimal amount) {
+        public DailyRevenueDTO(LocalDate date, BigDecimal amount) {
             this.date = date;
             this.amount = amount;
         }
 
-        // Constructor for JPQL results where date might be Object
-        public DailyRevenueDTO(Object date, BigDecimal amount) {
-            this.date = String.valueOf(date);
-            this.amount = amount;
-        }
-
-        public String getDate() {
+        public LocalDate getDate() {
             return date;
         }
 
-        public void setDate(String date) {
+        public void setDate(LocalDate date) {
             this.date = date;
         }
 
@@ -42,7 +37,6 @@ public class AnalyticsDTO {
     }
 
     @Data
-    @AllArgsConstructor
     @NoArgsConstructor
     public static class DailyOccupancyDTO {
         private String date;
@@ -71,7 +65,6 @@ public class AnalyticsDTO {
     }
 
     @Data
-    @AllArgsConstructor
     @NoArgsConstructor
     public static class OwnerDashboardDTO {
         private BigDecimal totalRevenue;
@@ -0,0 +1,137 @@
+package com.turfbook.backend.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Request DTO for generating slots across turfs and a date range.
+ * Every turf gets, on every date in the range, the slots of each template
+ * whose daysOfWeek include that date's weekday.
+ */
+public class SlotCalendarRequest {
+
+    @NotEmpty(message = "At least one turf is required")
+    private List<Long> turfIds;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    @NotEmpty(message = "At least one template is required")
+    @Valid
+    private List<DayTemplate> templates;
+
+    public List<Long> getTurfIds() {
+        return turfIds;
+    }
+
+    public void setTurfIds(List<Long> turfIds) {
+        this.turfIds = turfIds;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public List<DayTemplate> getTemplates() {
+        return templates;
+    }
+
+    public void setTemplates(List<DayTemplate> templates) {
+        this.templates = templates;
+    }
+
+    /**
+     * Slot layout for a set of weekdays
+     */
+    public static class DayTemplate {
+
+        @NotEmpty(message = "At least one weekday is required")
+        private List<DayOfWeek> daysOfWeek;
+
+        @NotNull(message = "Start time is required")
+        private LocalTime startTime;
+
+        @NotNull(message = "End time is required")
+        private LocalTime endTime;
+
+        @Positive(message = "Slot duration must be greater than 0")
+        private int slotDurationMinutes = 60;
+
+        private BigDecimal price; // Optional - turf base price applies if not set
+
+        public DayTemplate() {
+        }
+
+        public DayTemplate(List<DayOfWeek> daysOfWeek, LocalTime startTime, LocalTime endTime,
+                int slotDurationMinutes, BigDecimal price) {
+            this.daysOfWeek = daysOfWeek;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.slotDurationMinutes = slotDurationMinutes;
+            this.price = price;
+        }
+
+        public List<DayOfWeek> getDaysOfWeek() {
+            return daysOfWeek;
+        }
+
+        public void setDaysOfWeek(List<DayOfWeek> daysOfWeek) {
+            this.daysOfWeek = daysOfWeek;
+        }
+
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        public void setStartTime(LocalTime startTime) {
+            this.startTime = startTime;
+        }
+
+        public LocalTime getEndTime() {
+            return endTime;
+        }
+
+        public void setEndTime(LocalTime endTime) {
+            this.endTime = endTime;
+        }
+
+        public int getSlotDurationMinutes() {
+            return slotDurationMinutes;
+        }
+
+        public void setSlotDurationMinutes(int slotDurationMinutes) {
+            this.slotDurationMinutes = slotDurationMinutes;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.turfbook.backend.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of booking summaries, newest first. Pass nextCursor back to fetch
+ * the following page; it is null on the last page.
+ */
+public class BookingPage {
+    private List<BookingSummary> bookings;
+    private Long nextCursor;
+
+    public BookingPage() {
+    }
+
+    public BookingPage(List<BookingSummary> bookings, Long nextCursor) {
+        this.bookings = bookings;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<BookingSummary> getBookings() {
+        return bookings;
+    }
+
+    public void setBookings(List<BookingSummary> bookings) {
+        this.bookings = bookings;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
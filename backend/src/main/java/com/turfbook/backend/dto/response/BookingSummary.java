@@ -0,0 +1,176 @@
+package com.turfbook.backend.dto.response;
+
+import com.turfbook.backend.model.enums.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Slim booking row for history and owner lists. Built directly by a JPQL
+ * constructor expression, with the turf name and slot time joined in the same
+ * query, so no entity or lazy association is loaded.
+ */
+public class BookingSummary {
+
+    private Long id;
+    private Long userId;
+    private String customerName;
+    private Long turfId;
+    private String turfName;
+    private Long slotId;
+    private LocalDate slotDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private BookingStatus status;
+    private BigDecimal totalAmount;
+    private LocalDateTime expiresAt;
+    private String qrSecret;
+    private LocalDateTime checkedInAt;
+    private LocalDateTime createdAt;
+
+    public BookingSummary() {
+    }
+
+    public BookingSummary(Long id, Long userId, String customerName, Long turfId, String turfName, Long slotId,
+            LocalDate slotDate, LocalTime startTime, LocalTime endTime, BookingStatus status,
+            BigDecimal totalAmount, LocalDateTime expiresAt, String qrSecret, LocalDateTime checkedInAt,
+            LocalDateTime createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.customerName = customerName;
+        this.turfId = turfId;
+        this.turfName = turfName;
+        this.slotId = slotId;
+        this.slotDate = slotDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.expiresAt = expiresAt;
+        this.qrSecret = qrSecret;
+        this.checkedInAt = checkedInAt;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public Long getTurfId() {
+        return turfId;
+    }
+
+    public void setTurfId(Long turfId) {
+        this.turfId = turfId;
+    }
+
+    public String getTurfName() {
+        return turfName;
+    }
+
+    public void setTurfName(String turfName) {
+        this.turfName = turfName;
+    }
+
+    public Long getSlotId() {
+        return slotId;
+    }
+
+    public void setSlotId(Long slotId) {
+        this.slotId = slotId;
+    }
+
+    public LocalDate getSlotDate() {
+        return slotDate;
+    }
+
+    public void setSlotDate(LocalDate slotDate) {
+        this.slotDate = slotDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public BookingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BookingStatus status) {
+        this.status = status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public String getQrSecret() {
+        return qrSecret;
+    }
+
+    public void setQrSecret(String qrSecret) {
+        this.qrSecret = qrSecret;
+    }
+
+    public LocalDateTime getCheckedInAt() {
+        return checkedInAt;
+    }
+
+    public void setCheckedInAt(LocalDateTime checkedInAt) {
+        this.checkedInAt = checkedInAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.turfbook.backend.dto.response;
+
+import com.turfbook.backend.model.User;
+
+/**
+ * A "people you may know" entry: a friend of a friend with the number of
+ * friends the two users share
+ */
+public class FriendSuggestion {
+    private User user;
+    private int mutualFriends;
+
+    public FriendSuggestion() {
+    }
+
+    public FriendSuggestion(User user, int mutualFriends) {
+        this.user = user;
+        this.mutualFriends = mutualFriends;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public int getMutualFriends() {
+        return mutualFriends;
+    }
+
+    public void setMutualFriends(int mutualFriends) {
+        this.mutualFriends = mutualFriends;
+    }
+}
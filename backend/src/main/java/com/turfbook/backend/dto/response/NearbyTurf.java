@@ -0,0 +1,35 @@
+package com.turfbook.backend.dto.response;
+
+import com.turfbook.backend.model.Turf;
+
+/**
+ * A turf with its distance from the search point
+ */
+public class NearbyTurf {
+    private Turf turf;
+    private double distanceKm;
+
+    public NearbyTurf() {
+    }
+
+    public NearbyTurf(Turf turf, double distanceKm) {
+        this.turf = turf;
+        this.distanceKm = distanceKm;
+    }
+
+    public Turf getTurf() {
+        return turf;
+    }
+
+    public void setTurf(Turf turf) {
+        this.turf = turf;
+    }
+
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
@@ -0,0 +1,36 @@
+package com.turfbook.backend.dto.response;
+
+import java.util.List;
+
+/**
+ * One page of nearby turfs, closest first. Pass nextPage back to fetch the
+ * following page; it is null on the last page.
+ */
+public class NearbyTurfPage {
+    private List<NearbyTurf> turfs;
+    private Integer nextPage;
+
+    public NearbyTurfPage() {
+    }
+
+    public NearbyTurfPage(List<NearbyTurf> turfs, Integer nextPage) {
+        this.turfs = turfs;
+        this.nextPage = nextPage;
+    }
+
+    public List<NearbyTurf> getTurfs() {
+        return turfs;
+    }
+
+    public void setTurfs(List<NearbyTurf> turfs) {
+        this.turfs = turfs;
+    }
+
+    public Integer getNextPage() {
+        return nextPage;
+    }
+
+    public void setNextPage(Integer nextPage) {
+        this.nextPage = nextPage;
+    }
+}
@@ -0,0 +1,38 @@
+package com.turfbook.backend.dto.response;
+
+import com.turfbook.backend.model.Notification;
+
+import java.util.List;
+
+/**
+ * One page of a user's notification feed. Pass nextCursor back to fetch the
+ * following page; it is null on the last page.
+ */
+public class NotificationPage {
+    private List<Notification> notifications;
+    private String nextCursor;
+
+    public NotificationPage() {
+    }
+
+    public NotificationPage(List<Notification> notifications, String nextCursor) {
+        this.notifications = notifications;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Notification> getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(List<Notification> notifications) {
+        this.notifications = notifications;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,39 @@
+package com.turfbook.backend.dto.response;
+
+import com.turfbook.backend.model.Notification;
+
+import java.util.List;
+
+/**
+ * Payload pushed to a user on /queue/notifications. Notifications created
+ * close together are coalesced into one push, and every push carries the
+ * user's current unread count so clients do not need to poll for it.
+ */
+public class NotificationPush {
+    private List<Notification> notifications;
+    private Long unreadCount;
+
+    public NotificationPush() {
+    }
+
+    public NotificationPush(List<Notification> notifications, Long unreadCount) {
+        this.notifications = notifications;
+        this.unreadCount = unreadCount;
+    }
+
+    public List<Notification> getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(List<Notification> notifications) {
+        this.notifications = notifications;
+    }
+
+    public Long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public void setUnreadCount(Long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+}
@@ -0,0 +1,47 @@
+package com.turfbook.backend.dto.response;
+
+import com.turfbook.backend.model.enums.SlotState;
+
+/**
+ * New state of one slot. version matches TurfSlot.version in the slot grid,
+ * so a client can ignore a delta older than the snapshot it already holds;
+ * it is null when this node had no cached grid for the slot.
+ */
+public class SlotDelta {
+    private Long slotId;
+    private SlotState state;
+    private Long version;
+
+    public SlotDelta() {
+    }
+
+    public SlotDelta(Long slotId, SlotState state, Long version) {
+        this.slotId = slotId;
+        this.state = state;
+        this.version = version;
+    }
+
+    public Long getSlotId() {
+        return slotId;
+    }
+
+    public void setSlotId(Long slotId) {
+        this.slotId = slotId;
+    }
+
+    public SlotState getState() {
+        return state;
+    }
+
+    public void setState(SlotState state) {
+        this.state = state;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,47 @@
+package com.turfbook.backend.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Payload pushed on /topic/turfs/{turfId}/{date}/slots: the latest state of
+ * every slot that changed during one coalescing window
+ */
+public class SlotDeltaPush {
+    private Long turfId;
+    private LocalDate date;
+    private List<SlotDelta> deltas;
+
+    public SlotDeltaPush() {
+    }
+
+    public SlotDeltaPush(Long turfId, LocalDate date, List<SlotDelta> deltas) {
+        this.turfId = turfId;
+        this.date = date;
+        this.deltas = deltas;
+    }
+
+    public Long getTurfId() {
+        return turfId;
+    }
+
+    public void setTurfId(Long turfId) {
+        this.turfId = turfId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public List<SlotDelta> getDeltas() {
+        return deltas;
+    }
+
+    public void setDeltas(List<SlotDelta> deltas) {
+        this.deltas = deltas;
+    }
+}
@@ -0,0 +1,63 @@
+package com.turfbook.backend.dto.response;
+
+/**
+ * Outcome of a bulk slot generation run
+ */
+public class SlotGenerationResult {
+    private int slotsPlanned;
+    private int slotsInserted;
+    private int slotsSkipped; // Already existed
+    private long elapsedMs;
+    private long slotsPerSecond;
+
+    public SlotGenerationResult() {
+    }
+
+    public SlotGenerationResult(int slotsPlanned, int slotsInserted, long elapsedMs) {
+        this.slotsPlanned = slotsPlanned;
+        this.slotsInserted = slotsInserted;
+        this.slotsSkipped = slotsPlanned - slotsInserted;
+        this.elapsedMs = elapsedMs;
+        this.slotsPerSecond = elapsedMs > 0 ? slotsInserted * 1000L / elapsedMs : slotsInserted;
+    }
+
+    public int getSlotsPlanned() {
+        return slotsPlanned;
+    }
+
+    public void setSlotsPlanned(int slotsPlanned) {
+        this.slotsPlanned = slotsPlanned;
+    }
+
+    public int getSlotsInserted() {
+        return slotsInserted;
+    }
+
+    public void setSlotsInserted(int slotsInserted) {
+        this.slotsInserted = slotsInserted;
+    }
+
+    public int getSlotsSkipped() {
+        return slotsSkipped;
+    }
+
+    public void setSlotsSkipped(int slotsSkipped) {
+        this.slotsSkipped = slotsSkipped;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    public long getSlotsPerSecond() {
+        return slotsPerSecond;
+    }
+
+    public void setSlotsPerSecond(long slotsPerSecond) {
+        this.slotsPerSecond = slotsPerSecond;
+    }
+}
@@ -5,15 +5,19 @@ import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.CreationTimestamp;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
 @Table(name = "bookings", indexes = {
         @Index(name = "idx_bookings_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_bookings_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_bookings_turf_id", columnList = "turf_id, id"),
         @Index(name = "idx_bookings_expires_at", columnList = "status, expires_at"),
         @Index(name = "idx_bookings_qr_secret", columnList = "qr_secret", unique = true),
-        @Index(name = "idx_bookings_slot_id", columnList = "slot_id", unique = true)
+        @Index(name = "idx_bookings_slot_id", columnList = "slot_id", unique = true),
+        @Index(name = "idx_bookings_turf_date_status", columnList = "turf_id, booking_date, status")
 })
 public class Booking {
     @Id
@@ -65,6 +69,17 @@ public class Booking {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Calendar day of created_at, stored so revenue reports can range-scan an index
+    @Column(name = "booking_date")
+    private LocalDate bookingDate;
+
+    @PrePersist
+    protected void onCreate() {
+        if (bookingDate == null) {
+            bookingDate = createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+        }
+    }
+
     public Long getId() {
         return id;
     }
@@ -157,6 +172,14 @@ public class Booking {
         this.createdAt = createdAt;
     }
 
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public void setBookingDate(LocalDate bookingDate) {
+        this.bookingDate = bookingDate;
+    }
+
     public LocalDateTime getConfirmedAt() {
         return confirmedAt;
     }
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Data
 @Entity
 @Table(name = "notifications", indexes = {
-        @Index(name = "idx_notifications_user_read_created", columnList = "user_id, is_read, created_at")
+        @Index(name = "idx_notifications_user_read_created", columnList = "user_id, is_read, created_at"),
+        @Index(name = "idx_notifications_user_created_id", columnList = "user_id, created_at, id")
 })
 public class Notification {
 
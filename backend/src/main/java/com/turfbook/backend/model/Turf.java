@@ -23,6 +23,10 @@ public class Turf {
     @Column(nullable = false)
     private String location;
 
+    private Double latitude;
+
+    private Double longitude;
+
     @Column(columnDefinition = "json")
     @Convert(converter = StringListConverter.class)
     private List<String> amenities;
@@ -80,6 +84,22 @@ public class Turf {
         this.location = location;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public List<String> getAmenities() {
         return amenities;
     }
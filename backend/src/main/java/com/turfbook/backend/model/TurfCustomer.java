@@ -0,0 +1,25 @@
+package com.turfbook.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Distinct (turf, customer) pairs, so unique customers per owner can be
+ * counted without scanning bookings
+ */
+@Data
+@Entity
+@Table(name = "turf_customers", indexes = {
+        @Index(name = "idx_turf_customers_turf_user", columnList = "turf_id, user_id", unique = true)
+})
+public class TurfCustomer {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "turf_id", nullable = false)
+    private Long turfId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+}
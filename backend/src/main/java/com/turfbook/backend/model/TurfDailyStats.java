@@ -0,0 +1,41 @@
+package com.turfbook.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Daily per-turf analytics rollup, maintained incrementally by
+ * AnalyticsRollupService from booking state transitions.
+ * Revenue and active bookings are bucketed by booking creation date; slot
+ * counts are bucketed by slot date, matching the live queries they replace.
+ */
+@Data
+@Entity
+@Table(name = "turf_daily_stats", indexes = {
+        @Index(name = "idx_turf_daily_stats_turf_date", columnList = "turf_id, stat_date", unique = true)
+})
+public class TurfDailyStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "turf_id", nullable = false)
+    private Long turfId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @Column(name = "active_bookings", nullable = false)
+    private Integer activeBookings = 0;
+
+    @Column(name = "total_slots", nullable = false)
+    private Integer totalSlots = 0;
+
+    @Column(name = "booked_slots", nullable = false)
+    private Integer bookedSlots = 0;
+}
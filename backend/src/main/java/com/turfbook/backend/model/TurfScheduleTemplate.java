@@ -0,0 +1,96 @@
+package com.turfbook.backend.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Operating hours of a turf on one weekday. Slots on days covered by a
+ * template are computed from it on the fly; a TurfSlot row is only written
+ * once a slot is locked or booked.
+ */
+@Entity
+@Table(name = "turf_schedule_templates", indexes = {
+        @Index(name = "idx_turf_schedule_templates_day", columnList = "turf_id, day_of_week", unique = true)
+})
+public class TurfScheduleTemplate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "turf_id", nullable = false)
+    private Long turfId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false, length = 10)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "open_time", nullable = false)
+    private LocalTime openTime;
+
+    @Column(name = "close_time", nullable = false)
+    private LocalTime closeTime;
+
+    @Column(name = "slot_duration_minutes", nullable = false)
+    private Integer slotDurationMinutes = 60;
+
+    @Column(name = "price", precision = 10, scale = 2)
+    private BigDecimal price; // Optional - turf base price applies if not set
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTurfId() {
+        return turfId;
+    }
+
+    public void setTurfId(Long turfId) {
+        this.turfId = turfId;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public LocalTime getOpenTime() {
+        return openTime;
+    }
+
+    public void setOpenTime(LocalTime openTime) {
+        this.openTime = openTime;
+    }
+
+    public LocalTime getCloseTime() {
+        return closeTime;
+    }
+
+    public void setCloseTime(LocalTime closeTime) {
+        this.closeTime = closeTime;
+    }
+
+    public Integer getSlotDurationMinutes() {
+        return slotDurationMinutes;
+    }
+
+    public void setSlotDurationMinutes(Integer slotDurationMinutes) {
+        this.slotDurationMinutes = slotDurationMinutes;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+}
@@ -50,6 +50,9 @@ public class TurfSlot {
     @Version
     private Long version;
 
+    @Transient
+    private BigDecimal price; // Dynamic price, set by PricingEngine on grid reads
+
     public Long getId() {
         return id;
     }
@@ -114,6 +117,14 @@ public class TurfSlot {
         this.customPrice = customPrice;
     }
 
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
     public Long getVersion() {
         return version;
     }
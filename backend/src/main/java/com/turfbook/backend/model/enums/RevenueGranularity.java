@@ -0,0 +1,21 @@
+package com.turfbook.backend.model.enums;
+
+/**
+ * Bucket size for owner revenue time series
+ */
+public enum RevenueGranularity {
+    /**
+     * One bucket per calendar day
+     */
+    DAY,
+
+    /**
+     * One bucket per ISO week, starting Monday
+     */
+    WEEK,
+
+    /**
+     * One bucket per calendar month
+     */
+    MONTH
+}
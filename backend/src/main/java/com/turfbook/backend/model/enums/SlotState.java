@@ -0,0 +1,21 @@
+package com.turfbook.backend.model.enums;
+
+/**
+ * Slot state carried by slot-grid delta events
+ */
+public enum SlotState {
+    /**
+     * Free to book (a lock was released or expired)
+     */
+    AVAILABLE,
+
+    /**
+     * Held for payment by a pending booking
+     */
+    LOCKED,
+
+    /**
+     * Booked and no longer available
+     */
+    BOOKED
+}
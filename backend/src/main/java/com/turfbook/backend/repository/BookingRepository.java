@@ -1,12 +1,16 @@
 package com.turfbook.backend.repository;
 
+import com.turfbook.backend.dto.response.BookingSummary;
 import com.turfbook.backend.model.Booking;
 import com.turfbook.backend.model.enums.BookingStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -24,13 +28,42 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         List<Booking> findByUserId(Long userId);
 
         /**
-         * Find bookings by status and expiry time (for cleanup)
+         * Find IDs of pending bookings past their expiry time (for chunked cleanup)
          * 
-         * @param status     Booking status
          * @param expiryTime Expiry threshold
-         * @return List of expired bookings
+         * @param pageable   Chunk size
+         * @return IDs of expired bookings
          */
-        List<Booking> findByStatusAndExpiresAtBefore(BookingStatus status, LocalDateTime expiryTime);
+        @Query("SELECT b.id FROM Booking b WHERE b.status = com.turfbook.backend.model.enums.BookingStatus.PENDING " +
+                        "AND b.expiresAt < :expiryTime ORDER BY b.id")
+        List<Long> findExpiredPendingIds(@Param("expiryTime") LocalDateTime expiryTime, Pageable pageable);
+
+        /**
+         * Move the given pending bookings to EXPIRED in one statement
+         * 
+         * @param ids        Booking IDs
+         * @param expiryTime Expiry threshold
+         * @return Number of bookings expired
+         */
+        @Modifying
+        @Query("UPDATE Booking b SET b.status = com.turfbook.backend.model.enums.BookingStatus.EXPIRED " +
+                        "WHERE b.id IN :ids AND b.status = com.turfbook.backend.model.enums.BookingStatus.PENDING " +
+                        "AND b.expiresAt < :expiryTime")
+        int expirePendingBookings(@Param("ids") List<Long> ids, @Param("expiryTime") LocalDateTime expiryTime);
+
+        /**
+         * Move the pending booking holding a slot to EXPIRED once its expiry has
+         * passed
+         * 
+         * @param slotId     Slot ID
+         * @param expiryTime Expiry threshold
+         * @return Number of bookings expired
+         */
+        @Modifying
+        @Query("UPDATE Booking b SET b.status = com.turfbook.backend.model.enums.BookingStatus.EXPIRED " +
+                        "WHERE b.slotId = :slotId AND b.status = com.turfbook.backend.model.enums.BookingStatus.PENDING " +
+                        "AND b.expiresAt <= :expiryTime")
+        int expirePendingBookingForSlot(@Param("slotId") Long slotId, @Param("expiryTime") LocalDateTime expiryTime);
 
         /**
          * Find booking by QR secret
@@ -40,6 +73,26 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
          */
         Optional<Booking> findByQrSecret(String qrSecret);
 
+        /**
+         * Check in a confirmed booking in one conditional UPDATE. Returns 0 if the
+         * booking is no longer CONFIRMED or was already checked in, so a second
+         * scan of the same QR code can never succeed.
+         */
+        @Modifying
+        @Query("UPDATE Booking b SET b.status = com.turfbook.backend.model.enums.BookingStatus.COMPLETED, " +
+                        "b.checkedInAt = :checkedInAt " +
+                        "WHERE b.id = :id AND b.status = com.turfbook.backend.model.enums.BookingStatus.CONFIRMED " +
+                        "AND b.checkedInAt IS NULL")
+        int checkIn(@Param("id") Long id, @Param("checkedInAt") LocalDateTime checkedInAt);
+
+        /**
+         * Find confirmed bookings for a turf whose slot is on the given date
+         */
+        @Query("SELECT b FROM Booking b WHERE b.turfId = :turfId " +
+                        "AND b.status = com.turfbook.backend.model.enums.BookingStatus.CONFIRMED " +
+                        "AND b.slotId IN (SELECT s.id FROM TurfSlot s WHERE s.turfId = :turfId AND s.date = :date)")
+        List<Booking> findConfirmedByTurfIdAndSlotDate(@Param("turfId") Long turfId, @Param("date") LocalDate date);
+
         /**
          * Find bookings by user and status
          * 
@@ -67,28 +120,79 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         List<Booking> findByTurfOwnerId(@Param("ownerId") Long ownerId);
 
         /**
-         * Find bookings for turfs owned by a specific owner with eager fetching of Turf
-         * This prevents lazy loading exceptions by fetching the turf in the same query
+         * Page of a user's booking summaries older than a cursor, newest first.
+         * Range-scans idx_bookings_user_id, so every page costs the same.
          * 
-         * @param ownerId Owner ID
-         * @return List of bookings with turf eagerly loaded
+         * @param userId   User ID
+         * @param cursor   ID of the last booking already returned (Long.MAX_VALUE
+         *                 for the first page)
+         * @param pageable Page size (page number is always 0)
+         * @return Booking summaries
+         */
+        @Query("SELECT new com.turfbook.backend.dto.response.BookingSummary(b.id, b.userId, b.customerName, " +
+                        "b.turfId, t.name, b.slotId, s.date, s.startTime, s.endTime, b.status, b.totalAmount, " +
+                        "b.expiresAt, b.qrSecret, b.checkedInAt, b.createdAt) " +
+                        "FROM Booking b JOIN Turf t ON t.id = b.turfId LEFT JOIN TurfSlot s ON s.id = b.slotId " +
+                        "WHERE b.userId = :userId AND b.id < :cursor ORDER BY b.id DESC")
+        List<BookingSummary> findSummariesByUserId(@Param("userId") Long userId, @Param("cursor") Long cursor,
+                        Pageable pageable);
+
+        /**
+         * Page of booking summaries for one turf older than a cursor, newest first.
+         * Range-scans idx_bookings_turf_id.
+         * 
+         * @param turfId   Turf ID
+         * @param cursor   ID of the last booking already returned
+         * @param pageable Page size
+         * @return Booking summaries
          */
-        @Query("SELECT b FROM Booking b JOIN FETCH b.turf t WHERE t.ownerId = :ownerId")
-        List<Booking> findByTurfOwnerIdWithTurf(@Param("ownerId") Long ownerId);
+        @Query("SELECT new com.turfbook.backend.dto.response.BookingSummary(b.id, b.userId, b.customerName, " +
+                        "b.turfId, t.name, b.slotId, s.date, s.startTime, s.endTime, b.status, b.totalAmount, " +
+                        "b.expiresAt, b.qrSecret, b.checkedInAt, b.createdAt) " +
+                        "FROM Booking b JOIN Turf t ON t.id = b.turfId LEFT JOIN TurfSlot s ON s.id = b.slotId " +
+                        "WHERE b.turfId = :turfId AND b.id < :cursor ORDER BY b.id DESC")
+        List<BookingSummary> findSummariesByTurfId(@Param("turfId") Long turfId, @Param("cursor") Long cursor,
+                        Pageable pageable);
 
         /**
-         * Get daily revenue for an owner within a date range
+         * Page of booking summaries across all of an owner's turfs older than a
+         * cursor, newest first
+         * 
+         * @param ownerId  Owner ID
+         * @param cursor   ID of the last booking already returned
+         * @param pageable Page size
+         * @return Booking summaries
+         */
+        @Query("SELECT new com.turfbook.backend.dto.response.BookingSummary(b.id, b.userId, b.customerName, " +
+                        "b.turfId, t.name, b.slotId, s.date, s.startTime, s.endTime, b.status, b.totalAmount, " +
+                        "b.expiresAt, b.qrSecret, b.checkedInAt, b.createdAt) " +
+                        "FROM Booking b JOIN Turf t ON t.id = b.turfId LEFT JOIN TurfSlot s ON s.id = b.slotId " +
+                        "WHERE t.ownerId = :ownerId AND b.id < :cursor ORDER BY b.id DESC")
+        List<BookingSummary> findSummariesByOwnerId(@Param("ownerId") Long ownerId, @Param("cursor") Long cursor,
+                        Pageable pageable);
+
+        /**
+         * Get daily revenue for an owner within a date range (inclusive).
+         * Filters and groups on the stored booking_date so MySQL can range-scan
+         * idx_bookings_turf_date_status per turf.
          */
-        @Query("SELECT new com.turfbook.backend.dto.AnalyticsDTO$DailyRevenueDTO(FUNCTION('DATE_FORMAT', b.createdAt, '%Y-%m-%d'), COALESCE(SUM(b.totalAmount), 0)) "
+        @Query("SELECT new com.turfbook.backend.dto.AnalyticsDTO$DailyRevenueDTO(b.bookingDate, COALESCE(SUM(b.totalAmount), 0)) "
                         +
                         "FROM Booking b JOIN b.turf t " +
                         "WHERE t.ownerId = :ownerId " +
-                        "AND b.createdAt BETWEEN :startDate AND :endDate " +
-                        "GROUP BY FUNCTION('DATE_FORMAT', b.createdAt, '%Y-%m-%d')")
+                        "AND b.bookingDate BETWEEN :startDate AND :endDate " +
+                        "GROUP BY b.bookingDate")
         List<com.turfbook.backend.dto.AnalyticsDTO.DailyRevenueDTO> getDailyRevenue(
                         @Param("ownerId") Long ownerId,
-                        @Param("startDate") LocalDateTime startDate,
-                        @Param("endDate") LocalDateTime endDate);
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        /**
+         * Fill booking_date for bookings created before the column existed
+         */
+        @Modifying
+        @Query(value = "UPDATE bookings SET booking_date = DATE(created_at) WHERE booking_date IS NULL LIMIT :limit", nativeQuery = true)
+        int backfillBookingDates(@Param("limit") int limit);
 
         /**
          * Count total bookings for an owner
@@ -1,6 +1,7 @@
 package com.turfbook.backend.repository;
 
 import com.turfbook.backend.model.Friend;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,4 +21,22 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
     Optional<Friend> findFriendship(@Param("userId") Long userId, @Param("friendId") Long friendId);
 
     boolean existsByUserIdAndFriendId(Long userId, Long friendId);
+
+    /**
+     * Get every friendship row a user is part of, in either direction
+     * Returns list of Object[]: [userId, friendId, status]
+     */
+    @Query("SELECT f.userId, f.friendId, f.status FROM Friend f WHERE f.userId = :userId OR f.friendId = :userId")
+    List<Object[]> findRelationsOf(@Param("userId") Long userId);
+
+    /**
+     * Page through friendships whose rows are ACCEPTED in both directions, one
+     * row per pair (for building FriendGraph)
+     * Returns list of Object[]: [id, userId, friendId]
+     */
+    @Query("SELECT f.id, f.userId, f.friendId FROM Friend f WHERE f.id > :afterId AND f.userId < f.friendId "
+            + "AND f.status = com.turfbook.backend.model.enums.FriendStatus.ACCEPTED "
+            + "AND EXISTS (SELECT r.id FROM Friend r WHERE r.userId = f.friendId AND r.friendId = f.userId "
+            + "AND r.status = com.turfbook.backend.model.enums.FriendStatus.ACCEPTED) ORDER BY f.id")
+    List<Object[]> findMutuallyAcceptedAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -1,9 +1,14 @@
 package com.turfbook.backend.repository;
 
 import com.turfbook.backend.model.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -14,12 +19,52 @@ import java.util.List;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * Find all notifications for a user, ordered by creation date (newest first)
+     * First page of a user's notification feed, newest first
      * 
-     * @param userId User ID
-     * @return List of notifications
+     * @param userId   User ID
+     * @param pageable Page size (page number is always 0)
+     * @return Notifications
+     */
+    List<Notification> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+    /**
+     * Next page of a user's notification feed: the notifications strictly
+     * older than the (createdAt, id) of the last one already returned. Served
+     * as a range scan on idx_notifications_user_created_id, so the cost does
+     * not grow with how deep the user has scrolled.
+     * 
+     * @param userId    User ID
+     * @param createdAt createdAt of the last notification returned
+     * @param id        ID of the last notification returned
+     * @param pageable  Page size (page number is always 0)
+     * @return Notifications
      */
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findPageBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable pageable);
+
+    /**
+     * IDs of notifications created before a cutoff, oldest first. IDs grow
+     * with creation time, so the scan stops after the first chunk of old rows.
+     * 
+     * @param cutoff   Creation time cutoff
+     * @param pageable Chunk size
+     * @return Notification IDs
+     */
+    @Query("SELECT n.id FROM Notification n WHERE n.createdAt < :cutoff ORDER BY n.id")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Delete notifications by ID in one statement
+     * 
+     * @param ids Notification IDs
+     * @return Number of notifications deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 
     /**
      * Count unread notifications for a user
@@ -30,12 +75,41 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     Long countByUserIdAndReadFalse(Long userId);
 
     /**
-     * Find unread notifications for a user
+     * First page of a user's unread notifications, newest first
+     * 
+     * @param userId   User ID
+     * @param pageable Page size (page number is always 0)
+     * @return Unread notifications
+     */
+    List<Notification> findByUserIdAndReadFalseOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+    /**
+     * Next page of a user's unread notifications, strictly older than the
+     * (createdAt, id) of the last one already returned. A range scan on
+     * idx_notifications_user_read_created, whose entries end with the primary
+     * key, so ties on createdAt are ordered by id without a filesort.
+     * 
+     * @param userId    User ID
+     * @param createdAt createdAt of the last notification returned
+     * @param id        ID of the last notification returned
+     * @param pageable  Page size (page number is always 0)
+     * @return Unread notifications
+     */
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.read = false " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findUnreadPageBefore(@Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Mark all of a user's unread notifications as read in one statement
      * 
      * @param userId User ID
-     * @return List of unread notifications
+     * @return Number of notifications marked as read
      */
-    List<Notification> findByUserIdAndReadFalseOrderByCreatedAtDesc(Long userId);
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.userId = :userId AND n.read = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
 
     /**
      * Find actionable notifications for a user
@@ -2,14 +2,20 @@ package com.turfbook.backend.repository;
 
 import com.turfbook.backend.model.TeamMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
-    List<TeamMember> findByTeamId(Long teamId);
-
-    List<TeamMember> findByUserId(Long userId);
-
     java.util.Optional<TeamMember> findByTeamIdAndUserId(Long teamId, Long userId);
+
+    /**
+     * Accepted members of the given teams with their users fetched in the
+     * same query
+     */
+    @Query("SELECT m FROM TeamMember m JOIN FETCH m.user WHERE m.teamId IN :teamIds AND m.status = 'ACCEPTED' "
+            + "ORDER BY m.id")
+    List<TeamMember> findAcceptedWithUserByTeamIdIn(@Param("teamIds") List<Long> teamIds);
 }
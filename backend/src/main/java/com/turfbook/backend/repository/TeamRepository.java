@@ -13,4 +13,10 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     List<Team> findByMembersId(@Param("userId") Long userId);
 
     List<Team> findByCaptainId(Long captainId);
+
+    /**
+     * Teams where a user's membership has the given status, in membership order
+     */
+    @Query("SELECT t FROM TeamMember m JOIN m.team t WHERE m.userId = :userId AND m.status = :status ORDER BY m.id")
+    List<Team> findByMemberUserIdAndStatus(@Param("userId") Long userId, @Param("status") String status);
 }
@@ -0,0 +1,38 @@
+package com.turfbook.backend.repository;
+
+import com.turfbook.backend.model.TurfCustomer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TurfCustomerRepository extends JpaRepository<TurfCustomer, Long> {
+
+        /**
+         * Record that a user has booked a turf (no-op if already recorded)
+         */
+        @Modifying
+        @Query(value = "INSERT IGNORE INTO turf_customers (turf_id, user_id) VALUES (:turfId, :userId)", nativeQuery = true)
+        int addIfAbsent(@Param("turfId") Long turfId, @Param("userId") Long userId);
+
+        /**
+         * Count unique customers across all turfs owned by an owner
+         */
+        @Query("SELECT COUNT(DISTINCT c.userId) FROM TurfCustomer c JOIN Turf t ON c.turfId = t.id " +
+                        "WHERE t.ownerId = :ownerId")
+        Long countUniqueCustomersByOwnerId(@Param("ownerId") Long ownerId);
+
+        /**
+         * Rebuild from the bookings table (backfill)
+         */
+        @Modifying
+        @Query(value = "INSERT IGNORE INTO turf_customers (turf_id, user_id) "
+                        + "SELECT DISTINCT turf_id, user_id FROM bookings WHERE user_id IS NOT NULL", nativeQuery = true)
+        int backfill();
+
+        @Modifying
+        @Query(value = "DELETE FROM turf_customers", nativeQuery = true)
+        int deleteAllRows();
+}
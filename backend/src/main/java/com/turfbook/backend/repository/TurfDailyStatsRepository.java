@@ -0,0 +1,107 @@
+package com.turfbook.backend.repository;
+
+import com.turfbook.backend.model.TurfDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TurfDailyStatsRepository extends JpaRepository<TurfDailyStats, Long> {
+
+        /**
+         * Add non-negative deltas to a turf's rollup row for a day, creating the row
+         * if needed
+         */
+        @Modifying
+        @Query(value = "INSERT INTO turf_daily_stats (turf_id, stat_date, revenue, active_bookings, total_slots, booked_slots) "
+                        + "VALUES (:turfId, :statDate, :revenue, :activeBookings, :totalSlots, :bookedSlots) "
+                        + "ON DUPLICATE KEY UPDATE revenue = revenue + VALUES(revenue), "
+                        + "active_bookings = active_bookings + VALUES(active_bookings), "
+                        + "total_slots = total_slots + VALUES(total_slots), "
+                        + "booked_slots = booked_slots + VALUES(booked_slots)", nativeQuery = true)
+        int addDelta(@Param("turfId") Long turfId,
+                        @Param("statDate") LocalDate statDate,
+                        @Param("revenue") BigDecimal revenue,
+                        @Param("activeBookings") int activeBookings,
+                        @Param("totalSlots") int totalSlots,
+                        @Param("bookedSlots") int bookedSlots);
+
+        /**
+         * Decrement active bookings for a turf and day (booking cancelled, expired or
+         * completed)
+         */
+        @Modifying
+        @Query("UPDATE TurfDailyStats r SET r.activeBookings = r.activeBookings - 1 " +
+                        "WHERE r.turfId = :turfId AND r.statDate = :statDate AND r.activeBookings > 0")
+        int decrementActiveBookings(@Param("turfId") Long turfId, @Param("statDate") LocalDate statDate);
+
+        /**
+         * Decrement active bookings for a batch of bookings that have just been
+         * moved to EXPIRED
+         */
+        @Modifying
+        @Query(value = "UPDATE turf_daily_stats r JOIN ("
+                        + "SELECT turf_id, DATE(created_at) AS stat_date, COUNT(*) AS n FROM bookings "
+                        + "WHERE id IN (:bookingIds) AND status = 'EXPIRED' GROUP BY turf_id, DATE(created_at)) x "
+                        + "ON r.turf_id = x.turf_id AND r.stat_date = x.stat_date "
+                        + "SET r.active_bookings = GREATEST(r.active_bookings - x.n, 0)", nativeQuery = true)
+        int decrementActiveBookingsForExpired(@Param("bookingIds") List<Long> bookingIds);
+
+        /**
+         * Total revenue for an owner across all days
+         */
+        @Query("SELECT COALESCE(SUM(r.revenue), 0) FROM TurfDailyStats r JOIN Turf t ON r.turfId = t.id " +
+                        "WHERE t.ownerId = :ownerId")
+        BigDecimal sumRevenueByOwnerId(@Param("ownerId") Long ownerId);
+
+        /**
+         * Active (PENDING or CONFIRMED) bookings for an owner across all days
+         */
+        @Query("SELECT COALESCE(SUM(r.activeBookings), 0) FROM TurfDailyStats r JOIN Turf t ON r.turfId = t.id " +
+                        "WHERE t.ownerId = :ownerId")
+        Long sumActiveBookingsByOwnerId(@Param("ownerId") Long ownerId);
+
+        /**
+         * Get daily occupancy stats for an owner within a date range
+         * Returns list of Object[]: [date, totalSlots, bookedSlots]
+         */
+        @Query("SELECT r.statDate, SUM(r.totalSlots), SUM(r.bookedSlots) " +
+                        "FROM TurfDailyStats r JOIN Turf t ON r.turfId = t.id " +
+                        "WHERE t.ownerId = :ownerId " +
+                        "AND r.statDate BETWEEN :startDate AND :endDate " +
+                        "GROUP BY r.statDate")
+        List<Object[]> getDailyOccupancyStats(
+                        @Param("ownerId") Long ownerId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        /**
+         * Rebuild booking columns from the bookings table (backfill)
+         */
+        @Modifying
+        @Query(value = "INSERT INTO turf_daily_stats (turf_id, stat_date, revenue, active_bookings, total_slots, booked_slots) "
+                        + "SELECT turf_id, DATE(created_at), SUM(total_amount), "
+                        + "SUM(CASE WHEN status IN ('PENDING', 'CONFIRMED') THEN 1 ELSE 0 END), 0, 0 "
+                        + "FROM bookings GROUP BY turf_id, DATE(created_at)", nativeQuery = true)
+        int backfillBookings();
+
+        /**
+         * Rebuild slot columns from the turf_slots table (backfill)
+         */
+        @Modifying
+        @Query(value = "INSERT INTO turf_daily_stats (turf_id, stat_date, revenue, active_bookings, total_slots, booked_slots) "
+                        + "SELECT turf_id, slot_date, 0, 0, COUNT(*), SUM(CASE WHEN is_available = false THEN 1 ELSE 0 END) "
+                        + "FROM turf_slots GROUP BY turf_id, slot_date "
+                        + "ON DUPLICATE KEY UPDATE total_slots = VALUES(total_slots), booked_slots = VALUES(booked_slots)", nativeQuery = true)
+        int backfillSlots();
+
+        @Modifying
+        @Query(value = "DELETE FROM turf_daily_stats", nativeQuery = true)
+        int deleteAllRows();
+}
@@ -2,14 +2,21 @@ package com.turfbook.backend.repository;
 
 import com.turfbook.backend.model.Turf;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface TurfRepository extends JpaRepository<Turf, Long> {
-    List<Turf> findByLocationContaining(String location);
 
     List<Turf> findByOwnerId(Long ownerId);
 
     long countByOwnerId(Long ownerId);
+
+    /**
+     * Get location data of every live turf (for building TurfGeoIndex)
+     * Returns list of Object[]: [id, location, latitude, longitude]
+     */
+    @Query("SELECT t.id, t.location, t.latitude, t.longitude FROM Turf t WHERE t.deletedAt IS NULL")
+    List<Object[]> findLocations();
 }
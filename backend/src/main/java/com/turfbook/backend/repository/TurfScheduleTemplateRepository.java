@@ -0,0 +1,53 @@
+package com.turfbook.backend.repository;
+
+import com.turfbook.backend.model.TurfScheduleTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TurfScheduleTemplateRepository extends JpaRepository<TurfScheduleTemplate, Long> {
+
+        /**
+         * Find the weekly schedule of a turf
+         * 
+         * @param turfId Turf ID
+         * @return One template per weekday the turf is open
+         */
+        List<TurfScheduleTemplate> findByTurfIdOrderByDayOfWeek(Long turfId);
+
+        /**
+         * Find the template for a turf on a weekday
+         * 
+         * @param turfId    Turf ID
+         * @param dayOfWeek Weekday
+         * @return Template, if the turf has one for that day
+         */
+        Optional<TurfScheduleTemplate> findByTurfIdAndDayOfWeek(Long turfId, DayOfWeek dayOfWeek);
+
+        /**
+         * Find the templates of all turfs of an owner (for occupancy capacity)
+         * 
+         * @param ownerId Owner ID
+         * @return Templates of the owner's turfs
+         */
+        @Query("SELECT s FROM TurfScheduleTemplate s JOIN Turf t ON s.turfId = t.id WHERE t.ownerId = :ownerId")
+        List<TurfScheduleTemplate> findByOwnerId(@Param("ownerId") Long ownerId);
+
+        /**
+         * Delete the weekly schedule of a turf in one statement, so a replacement
+         * schedule can be inserted in the same transaction
+         * 
+         * @param turfId Turf ID
+         * @return Number of templates deleted
+         */
+        @Modifying
+        @Query("DELETE FROM TurfScheduleTemplate s WHERE s.turfId = :turfId")
+        int deleteByTurfId(@Param("turfId") Long turfId);
+}
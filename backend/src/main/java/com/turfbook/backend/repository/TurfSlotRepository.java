@@ -1,15 +1,16 @@
 package com.turfbook.backend.repository;
 
 import com.turfbook.backend.model.TurfSlot;
-import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,16 @@ public interface TurfSlotRepository extends JpaRepository<TurfSlot, Long> {
          */
         List<TurfSlot> findByTurfIdAndDate(Long turfId, LocalDate date);
 
+        /**
+         * Find the slot starting at a given time (to resolve a materialized slot)
+         * 
+         * @param turfId    Turf ID
+         * @param date      Slot date
+         * @param startTime Slot start time
+         * @return Slot, if one exists
+         */
+        Optional<TurfSlot> findByTurfIdAndDateAndStartTime(Long turfId, LocalDate date, LocalTime startTime);
+
         /**
          * Find all slots for a turf
          * 
@@ -34,22 +45,93 @@ public interface TurfSlotRepository extends JpaRepository<TurfSlot, Long> {
         List<TurfSlot> findByTurfId(Long turfId);
 
         /**
-         * Find slot by ID with pessimistic write lock (prevents concurrent booking)
+         * Atomically lock a free slot for payment (prevents concurrent booking)
+         * 
+         * @param id        Slot ID
+         * @param userId    User taking the lock
+         * @param lockedAt  Lock time
+         * @param expiresAt Lock expiry time
+         * @return 1 if the slot was claimed, 0 if it is missing, unavailable or
+         *         already locked
+         */
+        @Modifying
+        @Query("UPDATE TurfSlot s SET s.isLocked = true, s.lockedBy = :userId, s.lockedAt = :lockedAt, " +
+                        "s.lockExpiresAt = :expiresAt, s.version = s.version + 1 " +
+                        "WHERE s.id = :id AND s.isAvailable = true AND s.isLocked = false")
+        int claimSlot(@Param("id") Long id,
+                        @Param("userId") Long userId,
+                        @Param("lockedAt") LocalDateTime lockedAt,
+                        @Param("expiresAt") LocalDateTime expiresAt);
+
+        /**
+         * Atomically mark a free, unlocked slot as booked (walk-in bookings)
          * 
          * @param id Slot ID
-         * @return Optional slot with lock
+         * @return 1 if the slot was booked, 0 if it is missing, unavailable or locked
+         */
+        @Modifying
+        @Query("UPDATE TurfSlot s SET s.isAvailable = false, s.version = s.version + 1 " +
+                        "WHERE s.id = :id AND s.isAvailable = true AND s.isLocked = false")
+        int bookSlot(@Param("id") Long id);
+
+        /**
+         * Find IDs of locked slots with expired lock time (for chunked cleanup)
+         * 
+         * @param expiryTime Expiry threshold
+         * @param pageable   Chunk size
+         * @return IDs of slots with expired locks
+         */
+        @Query("SELECT s.id FROM TurfSlot s WHERE s.isLocked = true AND s.lockExpiresAt < :expiryTime ORDER BY s.id")
+        List<Long> findExpiredLockIds(@Param("expiryTime") LocalDateTime expiryTime, Pageable pageable);
+
+        /**
+         * Get every active slot lock with its expiry time (for scheduling releases
+         * on startup)
+         * Returns list of Object[]: [slotId, lockExpiresAt]
+         */
+        @Query("SELECT s.id, s.lockExpiresAt FROM TurfSlot s WHERE s.isLocked = true AND s.lockExpiresAt IS NOT NULL")
+        List<Object[]> findActiveLockExpiries();
+
+        /**
+         * Resolve slots to their turf and day (for streaming slot deltas)
+         * Returns list of Object[]: [slotId, turfId, date]
          */
-        @Lock(LockModeType.PESSIMISTIC_WRITE)
-        @Query("SELECT s FROM TurfSlot s WHERE s.id = :id")
-        Optional<TurfSlot> findByIdWithLock(@Param("id") Long id);
+        @Query("SELECT s.id, s.turfId, s.date FROM TurfSlot s WHERE s.id IN :ids")
+        List<Object[]> findTurfAndDateByIdIn(@Param("ids") List<Long> ids);
 
         /**
-         * Find locked slots with expired lock time (for cleanup)
+         * Release expired locks on the given slots in one statement. The expiry is
+         * re-checked so a lock renewed in the meantime is left alone.
          * 
+         * @param ids        Slot IDs
          * @param expiryTime Expiry threshold
-         * @return List of slots with expired locks
+         * @return Number of slots released
          */
-        List<TurfSlot> findByIsLockedTrueAndLockExpiresAtBefore(LocalDateTime expiryTime);
+        @Modifying
+        @Query("UPDATE TurfSlot s SET s.isLocked = false, s.lockedBy = null, s.lockedAt = null, " +
+                        "s.lockExpiresAt = null, s.version = s.version + 1 " +
+                        "WHERE s.id IN :ids AND s.isLocked = true AND s.lockExpiresAt < :expiryTime")
+        int releaseExpiredLocks(@Param("ids") List<Long> ids, @Param("expiryTime") LocalDateTime expiryTime);
+
+        /**
+         * Release a slot's lock if it expires at or before the given time
+         * (the expiry the lock was scheduled with)
+         *
+         * @param id        Slot ID
+         * @param expiresAt Scheduled expiry of the lock
+         * @return Number of slots released (0 or 1)
+         */
+        @Modifying
+        @Query("UPDATE TurfSlot s SET s.isLocked = false, s.lockedBy = null, s.lockedAt = null, " +
+                        "s.lockExpiresAt = null, s.version = s.version + 1 " +
+                        "WHERE s.id = :id AND s.isLocked = true AND s.lockExpiresAt <= :expiresAt")
+        int releaseLockExpiringBy(@Param("id") Long id, @Param("expiresAt") LocalDateTime expiresAt);
+
+        /**
+         * Get the expiry of a slot's lock, if the slot is locked
+         */
+        @Query("SELECT s.lockExpiresAt FROM TurfSlot s WHERE s.id = :id AND s.isLocked = true")
+        Optional<LocalDateTime> findLockExpiryById(@Param("id") Long id);
 
         /**
          * Find slots by multiple turf IDs and date range (for batch occupancy
@@ -66,6 +148,30 @@ public interface TurfSlotRepository extends JpaRepository<TurfSlot, Long> {
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
 
+        /**
+         * Get the start times already taken for turfs over a date range (for
+         * idempotent bulk slot generation)
+         * Returns list of Object[]: [turfId, date, startTime]
+         */
+        @Query("SELECT s.turfId, s.date, s.startTime FROM TurfSlot s " +
+                        "WHERE s.turfId IN :turfIds AND s.date BETWEEN :startDate AND :endDate")
+        List<Object[]> findSlotStartsByTurfIdInAndDateBetween(
+                        @Param("turfIds") List<Long> turfIds,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        /**
+         * Get the time ranges of stored slots for turfs over a date range (for
+         * template capacity in owner analytics)
+         * Returns list of Object[]: [turfId, date, startTime, endTime]
+         */
+        @Query("SELECT s.turfId, s.date, s.startTime, s.endTime FROM TurfSlot s " +
+                        "WHERE s.turfId IN :turfIds AND s.date BETWEEN :startDate AND :endDate")
+        List<Object[]> findSlotTimesByTurfIdInAndDateBetween(
+                        @Param("turfIds") List<Long> turfIds,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
         /**
          * Count total and booked slots for a turf on a specific date
          * Returns array: [totalSlots, bookedSlots]
@@ -1,9 +1,13 @@
 package com.turfbook.backend.repository;
 
 import com.turfbook.backend.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,7 +16,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Boolean existsByEmail(String email);
 
-    java.util.List<User> findByNameContainingOrEmailContaining(String name, String email);
-
-    java.util.List<User> findByNameContainingIgnoreCase(String name);
+    /**
+     * Page through the searchable fields of all users (for building UserSearchIndex)
+     * Returns list of Object[]: [id, name, email]
+     */
+    @Query("SELECT u.id, u.name, u.email FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
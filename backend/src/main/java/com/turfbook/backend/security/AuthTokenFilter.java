@@ -1,5 +1,6 @@
 package com.turfbook.backend.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +15,8 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class AuthTokenFilter extends OncePerRequestFilter {
 
@@ -23,20 +26,24 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
             if (jwt != null) {
-                logger.info("JWT Token present, validating...");
+                logger.debug("JWT Token present, validating...");
             }
 
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-                logger.info("Valid JWT for user: " + username);
+            Claims claims = jwt != null ? jwtUtils.verifyJwtToken(jwt) : null;
+            if (claims != null) {
+                String username = claims.getSubject();
+                logger.debug("Valid JWT for user: " + username);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = loadUserDetails(username, claims);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -54,6 +61,29 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Resolve the principal from the cache, then from the token's claims, and
+     * only load the user for tokens issued before claims were added
+     */
+    private UserDetails loadUserDetails(String username, Claims claims) {
+        UserDetailsImpl userDetails = userDetailsCache.get(username);
+        if (userDetails != null) {
+            return userDetails;
+        }
+
+        Number userId = claims.get(JwtUtils.CLAIM_USER_ID, Number.class);
+        List<?> roles = claims.get(JwtUtils.CLAIM_ROLES, List.class);
+        if (userId != null && roles != null) {
+            userDetails = UserDetailsImpl.build(userId.longValue(), username,
+                    roles.stream().map(String::valueOf).collect(Collectors.toList()));
+        } else {
+            userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(username);
+        }
+
+        userDetailsCache.put(username, userDetails);
+        return userDetails;
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
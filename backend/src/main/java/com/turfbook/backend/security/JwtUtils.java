@@ -2,74 +2,131 @@ package com.turfbook.backend.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtUtils {
 
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
 
-    public String generateJwtToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
+    @Value("${jwt.verify-cache.max-size:10000}")
+    private int verifyCacheMaxSize;
 
-        return Jwts.builder()
-                .setSubject((userPrincipal.getUsername()))
-                .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key(), SignatureAlgorithm.HS256)
-                .compact();
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
+
+    private Key key;
+    private JwtParser parser;
+
+    // Verified claims keyed by token hash, each kept until the token's exp
+    private ExpiringCache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        key = Keys.hmacShaKeyFor(io.jsonwebtoken.io.Decoders.BASE64.decode(jwtSecret));
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifiedTokens = new ExpiringCache<>(verifyCacheMaxSize);
+    }
+
+    public String generateJwtToken(Authentication authentication) {
+        return generateTokenFromUserDetails((UserDetailsImpl) authentication.getPrincipal());
     }
 
-    public String generateTokenFromUsername(String username) {
+    /**
+     * Issue a token carrying the user ID and roles as claims, so requests can
+     * be authenticated without loading the user
+     */
+    public String generateTokenFromUserDetails(UserDetailsImpl userDetails) {
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+
         return Jwts.builder()
-                .setSubject(username)
+                .setSubject(userDetails.getUsername())
+                .claim(CLAIM_USER_ID, userDetails.getId())
+                .claim(CLAIM_ROLES, roles)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(io.jsonwebtoken.io.Decoders.BASE64.decode(jwtSecret));
-    }
+    /**
+     * Verify a token and return all of its claims in one pass. A token that
+     * has already been verified is answered from the cache until it expires,
+     * so the signature check and JSON parse happen once per token rather than
+     * once per request.
+     *
+     * @param token Compact JWT
+     * @return Verified claims, or null if the token is invalid or expired
+     */
+    public Claims verifyJwtToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
 
-    public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build()
-                .parseClaimsJws(token).getBody().getSubject();
-    }
+        String tokenHash = hash(token);
+        Claims cached = verifiedTokens.get(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
 
-    public boolean validateJwtToken(String authToken) {
         try {
-            System.out.println("[JWT Validation] Attempting to validate token: "
-                    + authToken.substring(0, Math.min(20, authToken.length())) + "...");
-            System.out.println("[JWT Validation] Using secret key (first 10 chars): "
-                    + jwtSecret.substring(0, Math.min(10, jwtSecret.length())) + "...");
-
-            Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(authToken);
-            System.out.println("[JWT Validation] Token is VALID");
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(tokenHash, claims, claims.getExpiration().getTime());
+            }
+            return claims;
         } catch (MalformedJwtException e) {
-            System.err.println("[JWT Validation] Invalid JWT token: " + e.getMessage());
+            logger.warn("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
-            System.err.println("[JWT Validation] JWT token is expired: " + e.getMessage());
+            logger.warn("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            System.err.println("[JWT Validation] JWT token is unsupported: " + e.getMessage());
+            logger.warn("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            System.err.println("[JWT Validation] JWT claims string is empty: " + e.getMessage());
+            logger.warn("JWT claims string is empty: {}", e.getMessage());
         } catch (JwtException e) {
-            System.err.println("[JWT Validation] JWT validation error: " + e.getMessage());
-            e.printStackTrace();
+            logger.warn("JWT validation error: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    public String getUserNameFromJwtToken(String token) {
+        Claims claims = verifyJwtToken(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    public boolean validateJwtToken(String authToken) {
+        return verifyJwtToken(authToken) != null;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
-        return false;
     }
 }
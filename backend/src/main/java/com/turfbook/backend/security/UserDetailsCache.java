@@ -0,0 +1,39 @@
+package com.turfbook.backend.security;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded TTL cache of authenticated principals keyed by JWT subject (email),
+ * so AuthTokenFilter does not load the user from the DB on every request.
+ * Evicted by UserService when a user's profile changes.
+ */
+@Component
+public class UserDetailsCache {
+
+    @Value("${auth.user-cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${auth.user-cache.max-size:10000}")
+    private int maxSize;
+
+    private ExpiringCache<String, UserDetailsImpl> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new ExpiringCache<>(maxSize);
+    }
+
+    public UserDetailsImpl get(String subject) {
+        return cache.get(subject);
+    }
+
+    public void put(String subject, UserDetailsImpl userDetails) {
+        cache.put(subject, userDetails, System.currentTimeMillis() + ttlMs);
+    }
+
+    public void evict(String subject) {
+        cache.evict(subject);
+    }
+}
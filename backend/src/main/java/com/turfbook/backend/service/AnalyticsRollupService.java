@@ -0,0 +1,159 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.Booking;
+import com.turfbook.backend.repository.BookingRepository;
+import com.turfbook.backend.repository.TurfCustomerRepository;
+import com.turfbook.backend.repository.TurfDailyStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maintains the per-turf daily analytics rollup (turf_daily_stats and
+ * turf_customers) that owner analytics read from.
+ * Every method joins the caller's transaction, so the rollup commits or rolls
+ * back together with the booking state transition that caused it.
+ */
+@Service
+public class AnalyticsRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsRollupService.class);
+    private static final int BOOKING_DATE_BACKFILL_CHUNK = 5000;
+
+    @Autowired
+    private TurfDailyStatsRepository turfDailyStatsRepository;
+
+    @Autowired
+    private TurfCustomerRepository turfCustomerRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * A booking was created (PENDING online booking or CONFIRMED walk-in)
+     */
+    @Transactional
+    public void onBookingCreated(Booking booking) {
+        BigDecimal amount = Objects.requireNonNullElse(booking.getTotalAmount(), BigDecimal.ZERO);
+        turfDailyStatsRepository.addDelta(booking.getTurfId(), bookingDay(booking), amount, 1, 0, 0);
+
+        if (booking.getUserId() != null) {
+            turfCustomerRepository.addIfAbsent(booking.getTurfId(), booking.getUserId());
+        }
+    }
+
+    /**
+     * A slot was booked and is no longer available
+     */
+    @Transactional
+    public void onSlotBooked(Long turfId, LocalDate slotDate) {
+        turfDailyStatsRepository.addDelta(turfId, slotDate, BigDecimal.ZERO, 0, 0, 1);
+    }
+
+    /**
+     * A booking left the active set (cancelled, expired or checked in)
+     */
+    @Transactional
+    public void onBookingClosed(Booking booking) {
+        onBookingClosed(booking.getTurfId(), bookingDay(booking));
+    }
+
+    /**
+     * A booking left the active set, given its turf and booking date
+     */
+    @Transactional
+    public void onBookingClosed(Long turfId, LocalDate bookingDate) {
+        turfDailyStatsRepository.decrementActiveBookings(turfId, bookingDate);
+    }
+
+    /**
+     * A batch of pending bookings was just moved to EXPIRED
+     */
+    @Transactional
+    public void onBookingsExpired(List<Long> bookingIds) {
+        if (!bookingIds.isEmpty()) {
+            turfDailyStatsRepository.decrementActiveBookingsForExpired(bookingIds);
+        }
+    }
+
+    /**
+     * New slots were generated for a turf and day
+     */
+    @Transactional
+    public void onSlotsGenerated(Long turfId, LocalDate date, int count) {
+        if (count > 0) {
+            turfDailyStatsRepository.addDelta(turfId, date, BigDecimal.ZERO, 0, count, 0);
+        }
+    }
+
+    /**
+     * Rebuild the rollup from historical bookings and slots.
+     * Runs set-based in one transaction; best run at low traffic since bookings
+     * made during the rebuild may be counted twice.
+     */
+    @Transactional
+    public void backfill() {
+        long start = System.currentTimeMillis();
+
+        turfDailyStatsRepository.deleteAllRows();
+        turfCustomerRepository.deleteAllRows();
+
+        int bookingDays = turfDailyStatsRepository.backfillBookings();
+        int slotDays = turfDailyStatsRepository.backfillSlots();
+        int customers = turfCustomerRepository.backfill();
+
+        logger.info("Backfilled analytics rollup: {} booking days, {} slot days, {} turf customers in {} ms",
+                bookingDays, slotDays, customers, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Backfill on first start after the rollup tables are introduced
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (turfDailyStatsRepository.count() == 0) {
+            backfill();
+        }
+    }
+
+    /**
+     * Fill bookings.booking_date for rows created before the column existed, in
+     * chunks so the revenue index is usable without one long UPDATE
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillBookingDates() {
+        int total = 0;
+        while (true) {
+            Integer updated = transactionTemplate
+                    .execute(status -> bookingRepository.backfillBookingDates(BOOKING_DATE_BACKFILL_CHUNK));
+            if (updated == null || updated == 0) {
+                break;
+            }
+            total += updated;
+        }
+        if (total > 0) {
+            logger.info("Backfilled booking_date for {} bookings", total);
+        }
+    }
+
+    private LocalDate bookingDay(Booking booking) {
+        if (booking.getBookingDate() != null) {
+            return booking.getBookingDate();
+        }
+        return booking.getCreatedAt() != null ? booking.getCreatedAt().toLocalDate() : LocalDate.now();
+    }
+}
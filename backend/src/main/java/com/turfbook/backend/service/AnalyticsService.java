@@ -7,8 +7,13 @@ import com.turfbook.backend.dto.response.RevenueDataPoint;
 import com.turfbook.backend.dto.response.OccupancyDataPoint;
 import com.turfbook.backend.model.Booking;
 import com.turfbook.backend.model.Team;
+import com.turfbook.backend.model.TurfScheduleTemplate;
+import com.turfbook.backend.model.enums.RevenueGranularity;
 import com.turfbook.backend.repository.BookingRepository;
 import com.turfbook.backend.repository.TeamRepository;
+import com.turfbook.backend.repository.TurfCustomerRepository;
+import com.turfbook.backend.repository.TurfDailyStatsRepository;
+import com.turfbook.backend.repository.TurfScheduleTemplateRepository;
 import com.turfbook.backend.repository.TurfSlotRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,10 +22,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +45,15 @@ public class AnalyticsService {
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private TurfDailyStatsRepository turfDailyStatsRepository;
+
+    @Autowired
+    private TurfCustomerRepository turfCustomerRepository;
+
+    @Autowired
+    private TurfScheduleTemplateRepository turfScheduleTemplateRepository;
+
     @Autowired
     private TurfSlotRepository turfSlotRepository;
 
@@ -104,23 +121,24 @@ public class AnalyticsService {
         OwnerAnalyticsResponse response = new OwnerAnalyticsResponse();
 
         try {
+            // Read from the precomputed daily rollup (see AnalyticsRollupService)
             // 1. Total Revenue
-            BigDecimal totalRevenue = bookingRepository.calculateTotalRevenueByOwnerId(ownerId);
+            BigDecimal totalRevenue = turfDailyStatsRepository.sumRevenueByOwnerId(ownerId);
             response.setTotalRevenue(Objects.requireNonNullElse(totalRevenue, BigDecimal.ZERO));
 
             // 2. Active Bookings
-            Integer activeBookings = bookingRepository.countActiveBookingsByOwnerId(ownerId);
-            response.setActiveBookings(Objects.requireNonNullElse(activeBookings, 0));
+            Long activeBookings = turfDailyStatsRepository.sumActiveBookingsByOwnerId(ownerId);
+            response.setActiveBookings(activeBookings != null ? activeBookings.intValue() : 0);
 
             // 3. Total Customers
-            Long uniqueCustomers = bookingRepository.countUniqueCustomersByOwnerId(ownerId);
+            Long uniqueCustomers = turfCustomerRepository.countUniqueCustomersByOwnerId(ownerId);
             response.setTotalCustomers(uniqueCustomers != null ? uniqueCustomers.intValue() : 0);
 
             // 4. Overall Occupancy Rate (Last 30 days for relevance)
             LocalDate endDate = LocalDate.now();
             LocalDate startDate = endDate.minusDays(30);
 
-            List<Object[]> occupancyStats = turfSlotRepository.getDailyOccupancyStats(ownerId, startDate, endDate);
+            List<Object[]> occupancyStats = turfDailyStatsRepository.getDailyOccupancyStats(ownerId, startDate, endDate);
 
             long totalSlots = 0;
             long bookedSlots = 0;
@@ -134,6 +152,10 @@ public class AnalyticsService {
                 }
             }
 
+            for (long capacity : templateCapacity(ownerId, startDate, endDate).values()) {
+                totalSlots += capacity;
+            }
+
             double occupancyRate = totalSlots > 0 ? (bookedSlots * 100.0 / totalSlots) : 0.0;
             response.setOccupancyRate(occupancyRate);
 
@@ -147,46 +169,77 @@ public class AnalyticsService {
 
     @Transactional(readOnly = true)
     public List<RevenueDataPoint> getOwnerRevenueData(Long ownerId, int days) {
+        return getOwnerRevenueData(ownerId, days, RevenueGranularity.DAY);
+    }
+
+    /**
+     * Revenue time series for an owner over the last N days, bucketed by day,
+     * week (starting Monday) or month. The DB returns one typed row per day;
+     * coarser buckets are summed here.
+     */
+    @Transactional(readOnly = true)
+    public List<RevenueDataPoint> getOwnerRevenueData(Long ownerId, int days, RevenueGranularity granularity) {
         if (ownerId == null)
             throw new IllegalArgumentException("Owner ID cannot be null");
         if (days <= 0 || days > 365)
             days = 7; // Default to 7 if invalid
+        if (granularity == null)
+            granularity = RevenueGranularity.DAY;
 
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(days - 1);
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
-
-        List<RevenueDataPoint> dataPoints = new ArrayList<>();
-        DateTimeFormatter displayFormatter = DateTimeFormatter.ofPattern("MMM dd");
 
+        Map<LocalDate, BigDecimal> revenueMap = new HashMap<>();
         try {
-            List<AnalyticsDTO.DailyRevenueDTO> revenueList = bookingRepository.getDailyRevenue(ownerId, startDateTime,
-                    endDateTime);
+            List<AnalyticsDTO.DailyRevenueDTO> revenueList = bookingRepository.getDailyRevenue(ownerId, startDate,
+                    endDate);
 
-            Map<String, BigDecimal> revenueMap = new HashMap<>();
             if (revenueList != null) {
                 for (AnalyticsDTO.DailyRevenueDTO dto : revenueList) {
                     if (dto.getDate() != null) {
-                        revenueMap.put(dto.getDate(), Objects.requireNonNullElse(dto.getAmount(), BigDecimal.ZERO));
+                        revenueMap.merge(bucketStart(dto.getDate(), granularity),
+                                Objects.requireNonNullElse(dto.getAmount(), BigDecimal.ZERO), BigDecimal::add);
                     }
                 }
             }
-
-            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-                String key = date.toString(); // ISO format matches SQL date format
-                BigDecimal amount = revenueMap.getOrDefault(key, BigDecimal.ZERO);
-                dataPoints.add(new RevenueDataPoint(date.format(displayFormatter), amount));
-            }
-
-            return dataPoints;
         } catch (Exception e) {
             logger.error("Error fetching revenue data for ownerId: {}", ownerId, e);
-            // Return empty list with zero values for the requested days
-            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-                dataPoints.add(new RevenueDataPoint(date.format(displayFormatter), BigDecimal.ZERO));
-            }
-            return dataPoints;
+            // Fall through with zero values for the requested range
+            revenueMap.clear();
+        }
+
+        List<RevenueDataPoint> dataPoints = new ArrayList<>();
+        DateTimeFormatter displayFormatter = DateTimeFormatter
+                .ofPattern(granularity == RevenueGranularity.MONTH ? "MMM yyyy" : "MMM dd");
+
+        for (LocalDate bucket = bucketStart(startDate, granularity); !bucket.isAfter(endDate); bucket = nextBucket(
+                bucket, granularity)) {
+            BigDecimal amount = revenueMap.getOrDefault(bucket, BigDecimal.ZERO);
+            dataPoints.add(new RevenueDataPoint(bucket.format(displayFormatter), amount));
+        }
+
+        return dataPoints;
+    }
+
+    private LocalDate bucketStart(LocalDate date, RevenueGranularity granularity) {
+        switch (granularity) {
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH:
+                return date.withDayOfMonth(1);
+            default:
+                return date;
+        }
+    }
+
+    private LocalDate nextBucket(LocalDate bucket, RevenueGranularity granularity) {
+        switch (granularity) {
+            case WEEK:
+                return bucket.plusWeeks(1);
+            case MONTH:
+                return bucket.plusMonths(1);
+            default:
+                return bucket.plusDays(1);
         }
     }
 
@@ -204,7 +257,8 @@ public class AnalyticsService {
         DateTimeFormatter displayFormatter = DateTimeFormatter.ofPattern("EEE");
 
         try {
-            List<Object[]> stats = turfSlotRepository.getDailyOccupancyStats(ownerId, startDate, endDate);
+            List<Object[]> stats = turfDailyStatsRepository.getDailyOccupancyStats(ownerId, startDate, endDate);
+            Map<LocalDate, Long> capacity = templateCapacity(ownerId, startDate, endDate);
 
             Map<LocalDate, Double> occupancyMap = new HashMap<>();
             if (stats != null) {
@@ -218,7 +272,8 @@ public class AnalyticsService {
                             date = (LocalDate) stat[0];
                         }
 
-                        long total = stat[1] != null ? ((Number) stat[1]).longValue() : 0;
+                        long total = (stat[1] != null ? ((Number) stat[1]).longValue() : 0)
+                                + capacity.getOrDefault(date, 0L);
                         long booked = stat[2] != null ? ((Number) stat[2]).longValue() : 0;
                         double rate = total > 0 ? (booked * 100.0 / total) : 0.0;
                         occupancyMap.put(date, rate);
@@ -241,4 +296,53 @@ public class AnalyticsService {
             return dataPoints;
         }
     }
+
+    /**
+     * Slots per day offered by the owner's schedule templates and not yet
+     * stored. A template slot only gets a row (and so a rollup entry) once it
+     * is materialized for a booking or generated; those are already counted
+     * by the rollup, so only template slots that overlap no stored slot of
+     * their turf are added, the same way SlotScheduleService merges them into
+     * the grid.
+     */
+    private Map<LocalDate, Long> templateCapacity(Long ownerId, LocalDate startDate, LocalDate endDate) {
+        Map<Long, Map<DayOfWeek, TurfScheduleTemplate>> templates = new HashMap<>();
+        for (TurfScheduleTemplate template : turfScheduleTemplateRepository.findByOwnerId(ownerId)) {
+            templates.computeIfAbsent(template.getTurfId(), id -> new EnumMap<>(DayOfWeek.class))
+                    .put(template.getDayOfWeek(), template);
+        }
+
+        Map<LocalDate, Long> capacity = new HashMap<>();
+        if (templates.isEmpty()) {
+            return capacity;
+        }
+
+        Map<Long, Map<LocalDate, List<LocalTime[]>>> stored = new HashMap<>();
+        for (Object[] row : turfSlotRepository.findSlotTimesByTurfIdInAndDateBetween(
+                new ArrayList<>(templates.keySet()), startDate, endDate)) {
+            stored.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                    .computeIfAbsent((LocalDate) row[1], d -> new ArrayList<>())
+                    .add(new LocalTime[] { (LocalTime) row[2], (LocalTime) row[3] });
+        }
+
+        for (Map.Entry<Long, Map<DayOfWeek, TurfScheduleTemplate>> turf : templates.entrySet()) {
+            Map<LocalDate, List<LocalTime[]>> storedByDate = stored.getOrDefault(turf.getKey(), Map.of());
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                TurfScheduleTemplate template = turf.getValue().get(date.getDayOfWeek());
+                if (template == null) {
+                    continue;
+                }
+                List<LocalTime[]> storedTimes = storedByDate.getOrDefault(date, List.of());
+                long slots = storedTimes.isEmpty() ? SlotScheduleService.slotCount(template)
+                        : SlotScheduleService.layOut(turf.getKey(), date, template).stream()
+                                .filter(slot -> storedTimes.stream().noneMatch(times -> SlotScheduleService
+                                        .overlaps(slot.getStartTime(), slot.getEndTime(), times[0], times[1])))
+                                .count();
+                if (slots > 0) {
+                    capacity.merge(date, slots, Long::sum);
+                }
+            }
+        }
+        return capacity;
+    }
 }
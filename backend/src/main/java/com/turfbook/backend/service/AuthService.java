@@ -33,6 +33,9 @@ public class AuthService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -95,6 +98,7 @@ public class AuthService {
 
         // Save user
         User savedUser = userRepository.save(user);
+        userSearchIndex.put(savedUser);
 
         logger.info("User registered successfully: {}", savedUser.getEmail());
 
@@ -1,5 +1,7 @@
 package com.turfbook.backend.service;
 
+import com.turfbook.backend.dto.response.BookingPage;
+import com.turfbook.backend.dto.response.BookingSummary;
 import com.turfbook.backend.model.Booking;
 import com.turfbook.backend.model.BookingParticipant;
 import com.turfbook.backend.model.TurfSlot;
@@ -12,21 +14,29 @@ import com.turfbook.backend.repository.TurfSlotRepository;
 import com.turfbook.backend.repository.TurfRepository;
 import com.turfbook.backend.repository.UserRepository;
 import com.turfbook.backend.service.NotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
- * Service for managing bookings with pessimistic locking to prevent double
- * bookings
+ * Service for managing bookings. Double bookings are prevented by an
+ * in-process per-slot lock backed by a conditional slot claim in the DB.
  */
 @Service
 public class BookingService {
@@ -50,70 +60,100 @@ public class BookingService {
     private UserRepository userRepository;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private WebSocketPublisher webSocketPublisher;
+
+    @Autowired
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Autowired
+    private SlotLockManager slotLockManager;
+
+    @Autowired
+    private SlotCalendarService slotCalendarService;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LockExpiryScheduler lockExpiryScheduler;
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Value("${booking.sweeper.chunk-size:500}")
+    private int sweepChunkSize;
+
+    @Value("${booking.history.page-size:20}")
+    private int historyPageSize;
+
+    @Value("${booking.history.max-page-size:100}")
+    private int historyMaxPageSize;
 
     /**
-     * Initiate a booking with pessimistic locking on the slot
-     * This prevents concurrent users from booking the same slot
+     * Initiate a booking, holding the slot's in-process lock for the whole
+     * transaction. Concurrent users going for the same slot are rejected before
+     * they open a transaction.
      * 
      * @param userId      User ID initiating the booking
      * @param turfId      Turf ID
      * @param slotId      Slot ID to book
-     * @param totalAmount Total booking amount
-     * @return Created booking in PENDING status
+     * @return Created booking in PENDING status, priced by the server
      * @throws RuntimeException if slot is not available or already locked
      */
-    @Transactional
-    public Booking initiateBooking(Long userId, Long turfId, Long slotId, BigDecimal totalAmount) {
+    public Booking initiateBooking(Long userId, Long turfId, Long slotId) {
         logger.info("Initiating booking for user {} on slot {}", userId, slotId);
 
-        // 1. Acquire pessimistic write lock on the slot (blocks other transactions)
-        TurfSlot slot = turfSlotRepository.findByIdWithLock(slotId)
-                .orElseThrow(() -> new RuntimeException("Slot not found: " + slotId));
-
-        // 2. Validate slot availability
-        if (!slot.getIsAvailable()) {
-            logger.warn("Slot {} is not available", slotId);
-            throw new RuntimeException("Slot is not available");
+        if (SlotScheduleService.isVirtual(slotId)) {
+            // A slot computed from the turf's schedule gets its row only now.
+            // Contenders are turned away on the virtual ID before any of them
+            // touches the DB; the winner writes the row and books it.
+            return slotLockManager.withSlotLock(slotId,
+                    () -> lockAndBook(userId, turfId, slotCalendarService.materialize(turfId, slotId)));
         }
+        return lockAndBook(userId, turfId, slotId);
+    }
 
-        if (slot.getIsLocked()) {
-            logger.warn("Slot {} is already locked by user {}", slotId, slot.getLockedBy());
-            throw new RuntimeException("Slot is currently locked by another user");
-        }
+    private Booking lockAndBook(Long userId, Long turfId, Long slotId) {
+        return slotLockManager.withSlotLock(slotId,
+                () -> transactionTemplate.execute(status -> lockSlotAndCreateBooking(userId, turfId, slotId)));
+    }
 
-        // 3. Check if slot already has a booking
-        if (bookingRepository.findBySlotId(slotId).isPresent()) {
-            logger.warn("Slot {} already has a booking", slotId);
-            throw new RuntimeException("Slot is already booked");
-        }
+    private Booking lockSlotAndCreateBooking(Long userId, Long turfId, Long slotId) {
+        // 1. Price the slot (plain read, before the slot row is locked). The
+        // amount is always computed here, never taken from the client.
+        TurfSlot slot = turfSlotRepository.findById(slotId)
+                .filter(s -> turfId.equals(s.getTurfId()))
+                .orElseThrow(() -> new RuntimeException("Slot not found: " + slotId));
+        BigDecimal amount = calculateSlotPrice(slot, turfId);
 
-        // 4. Lock the slot (15-minute expiry for payment)
+        // 2. Claim the slot in one conditional UPDATE (15-minute expiry for payment)
         LocalDateTime now = LocalDateTime.now();
-        slot.setIsLocked(true);
-        slot.setLockedBy(userId);
-        slot.setLockedAt(now);
-        slot.setLockExpiresAt(now.plusMinutes(LOCK_EXPIRY_MINUTES));
-        turfSlotRepository.save(slot);
-
-        logger.info("Locked slot {} for user {} until {}", slotId, userId, slot.getLockExpiresAt());
-
-        // 5. Calculate amount if not provided
-        BigDecimal amount = totalAmount;
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
-            amount = calculateSlotPrice(slot, turfId);
+        LocalDateTime lockExpiresAt = now.plusMinutes(LOCK_EXPIRY_MINUTES);
+        if (turfSlotRepository.claimSlot(slotId, userId, now, lockExpiresAt) == 0) {
+            throw claimFailure(slotId, "Slot is currently locked by another user");
         }
+        slotAvailabilityService.markLocked(slotId, userId, now, lockExpiresAt);
+        lockExpiryScheduler.schedule(slotId, lockExpiresAt);
+
+        logger.info("Locked slot {} for user {} until {}", slotId, userId, lockExpiresAt);
 
-        // 6. Create booking in PENDING status
+        // 3. Create booking in PENDING status
         Booking booking = new Booking();
         booking.setUserId(userId);
         booking.setTurfId(turfId);
         booking.setSlotId(slotId);
         booking.setStatus(BookingStatus.PENDING);
         booking.setTotalAmount(amount);
-        booking.setExpiresAt(now.plusMinutes(LOCK_EXPIRY_MINUTES));
+        booking.setExpiresAt(lockExpiresAt);
 
-        Booking savedBooking = bookingRepository.save(booking);
+        Booking savedBooking = saveNewBooking(booking);
+        analyticsRollupService.onBookingCreated(savedBooking);
         logger.info("Created booking {} in PENDING status, expires at {}", savedBooking.getId(),
                 savedBooking.getExpiresAt());
 
@@ -121,17 +161,44 @@ public class BookingService {
     }
 
     /**
-     * Calculate slot price based on custom price or turf base price
+     * Work out why a conditional slot claim matched no rows. Only runs on the
+     * failure path, so the happy path stays a single statement.
      */
-    private BigDecimal calculateSlotPrice(TurfSlot slot, Long turfId) {
-        if (slot.getCustomPrice() != null && slot.getCustomPrice().compareTo(BigDecimal.ZERO) > 0) {
-            return slot.getCustomPrice();
+    private RuntimeException claimFailure(Long slotId, String lockedMessage) {
+        TurfSlot slot = turfSlotRepository.findById(slotId).orElse(null);
+        if (slot == null) {
+            return new RuntimeException("Slot not found: " + slotId);
+        }
+
+        if (!slot.getIsAvailable()) {
+            logger.warn("Slot {} is not available", slotId);
+            return new RuntimeException("Slot is not available");
+        }
+
+        logger.warn("Slot {} is already locked by user {}", slotId, slot.getLockedBy());
+        return new RuntimeException(lockedMessage);
+    }
+
+    /**
+     * Insert a booking, relying on the unique slot_id index to reject a second
+     * booking for the same slot
+     */
+    private Booking saveNewBooking(Booking booking) {
+        try {
+            return bookingRepository.save(booking);
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Slot {} already has a booking", booking.getSlotId());
+            throw new RuntimeException("Slot is already booked");
         }
+    }
 
-        // Fallback to turf base price
-        return turfRepository.findById(turfId)
-                .map(Turf::getBasePrice)
-                .orElse(new BigDecimal("1000")); // Default price
+    /**
+     * Calculate slot price through the turf's pricing rules
+     */
+    private BigDecimal calculateSlotPrice(TurfSlot slot, Long turfId) {
+        // Custom or base price with the turf's pricing rules, surge at the
+        // day's current occupancy
+        return pricingEngine.price(turfId, slot, slotAvailabilityService.occupancy(turfId, slot.getDate()));
     }
 
     /**
@@ -153,6 +220,9 @@ public class BookingService {
         // Update booking status
         booking.setStatus(BookingStatus.CONFIRMED);
         booking.setConfirmedAt(LocalDateTime.now());
+        if (booking.getQrSecret() == null) {
+            booking.setQrSecret(UUID.randomUUID().toString());
+        }
 
         // Mark slot as unavailable and unlock it
         TurfSlot slot = turfSlotRepository.findById(booking.getSlotId())
@@ -164,6 +234,8 @@ public class BookingService {
         slot.setLockedAt(null);
         slot.setLockExpiresAt(null);
         turfSlotRepository.save(slot);
+        slotAvailabilityService.markBooked(slot.getId());
+        analyticsRollupService.onSlotBooked(slot.getTurfId(), slot.getDate());
 
         logger.info("Confirmed booking {} and marked slot {} as unavailable", bookingId, slot.getId());
 
@@ -190,11 +262,12 @@ public class BookingService {
         }
 
         // Update booking status
+        BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(BookingStatus.CANCELLED);
         booking.setCancelledAt(LocalDateTime.now());
 
         // Release the slot lock if still locked
-        if (booking.getStatus() == BookingStatus.PENDING) {
+        if (previousStatus == BookingStatus.PENDING) {
             TurfSlot slot = turfSlotRepository.findById(booking.getSlotId())
                     .orElseThrow(() -> new RuntimeException("Slot not found"));
 
@@ -204,10 +277,15 @@ public class BookingService {
                 slot.setLockedAt(null);
                 slot.setLockExpiresAt(null);
                 turfSlotRepository.save(slot);
+                slotAvailabilityService.markReleased(slot.getId());
                 logger.info("Released lock on slot {}", slot.getId());
             }
         }
 
+        if (previousStatus == BookingStatus.PENDING || previousStatus == BookingStatus.CONFIRMED) {
+            analyticsRollupService.onBookingClosed(booking);
+        }
+
         return bookingRepository.save(booking);
     }
 
@@ -219,10 +297,53 @@ public class BookingService {
     }
 
     /**
-     * Get all bookings for a user
+     * Get one page of a user's booking history, newest first
+     *
+     * @param userId User ID
+     * @param cursor nextCursor from the previous page, or null for the first page
+     * @param limit  Page size, capped at booking.history.max-page-size
      */
-    public List<Booking> getBookingsByUserId(Long userId) {
-        return bookingRepository.findByUserId(userId);
+    public BookingPage getBookingHistory(Long userId, Long cursor, Integer limit) {
+        int pageSize = historyPageSize(limit);
+        return toPage(bookingRepository.findSummariesByUserId(userId, cursorOrFirst(cursor),
+                PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    /**
+     * Get one page of bookings for an owner's turfs, newest first, optionally
+     * for a single turf
+     */
+    public BookingPage getOwnerBookings(Long ownerId, Long turfId, Long cursor, Integer limit) {
+        int pageSize = historyPageSize(limit);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        if (turfId == null) {
+            return toPage(bookingRepository.findSummariesByOwnerId(ownerId, cursorOrFirst(cursor), page), pageSize);
+        }
+
+        Turf turf = turfRepository.findById(turfId)
+                .orElseThrow(() -> new RuntimeException("Turf not found"));
+        if (!turf.getOwnerId().equals(ownerId)) {
+            throw new RuntimeException("You do not own this turf");
+        }
+        return toPage(bookingRepository.findSummariesByTurfId(turfId, cursorOrFirst(cursor), page), pageSize);
+    }
+
+    private int historyPageSize(Integer limit) {
+        return limit != null ? Math.max(1, Math.min(limit, historyMaxPageSize)) : historyPageSize;
+    }
+
+    private static long cursorOrFirst(Long cursor) {
+        return cursor != null ? cursor : Long.MAX_VALUE;
+    }
+
+    // Rows were fetched with one extra to tell whether another page follows
+    private static BookingPage toPage(List<BookingSummary> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new BookingPage(rows, null);
+        }
+        List<BookingSummary> bookings = new ArrayList<>(rows.subList(0, pageSize));
+        return new BookingPage(bookings, bookings.get(bookings.size() - 1).getId());
     }
 
     /**
@@ -310,7 +431,7 @@ public class BookingService {
     private void sendBookingUpdate(Long bookingId) {
         Booking booking = getBooking(bookingId);
         if (booking != null) {
-            messagingTemplate.convertAndSend("/topic/bookings/" + bookingId, booking);
+            webSocketPublisher.send("/topic/bookings/" + bookingId, booking);
         }
     }
 
@@ -401,59 +522,114 @@ public class BookingService {
     }
 
     /**
-     * Scheduled task to release expired locks and expire pending bookings
-     * Runs every minute
+     * Release one slot lock at its expiry, together with the pending booking
+     * holding it. Called by LockExpiryScheduler; a lock that was confirmed,
+     * cancelled or renewed in the meantime is left alone.
+     *
+     * @param slotId    Slot ID
+     * @param expiresAt Expiry the lock was scheduled with
+     * @return Expiry of the lock still held on the slot if nothing was
+     *         released, so the caller can retry, or null
      */
-    @Scheduled(fixedRate = 60000) // Every 60 seconds
-    @Transactional
-    public void releaseExpiredLocksAndBookings() {
+    public LocalDateTime releaseExpiredLock(Long slotId, LocalDateTime expiresAt) {
         LocalDateTime now = LocalDateTime.now();
 
-        // 1. Release expired slot locks
-        List<TurfSlot> expiredSlots = turfSlotRepository.findByIsLockedTrueAndLockExpiresAtBefore(now);
-
-        if (!expiredSlots.isEmpty()) {
-            logger.info("Releasing {} expired slot locks", expiredSlots.size());
-
-            for (TurfSlot slot : expiredSlots) {
-                logger.debug("Releasing lock on slot {} (locked by user {} at {})",
-                        slot.getId(), slot.getLockedBy(), slot.getLockedAt());
-
-                slot.setIsLocked(false);
-                slot.setLockedBy(null);
-                slot.setLockedAt(null);
-                slot.setLockExpiresAt(null);
+        Integer released = transactionTemplate.execute(status -> {
+            int count = turfSlotRepository.releaseLockExpiringBy(slotId, expiresAt);
+            if (count > 0) {
+                Booking booking = bookingRepository.findBySlotId(slotId).orElse(null);
+                if (bookingRepository.expirePendingBookingForSlot(slotId, now) > 0 && booking != null) {
+                    analyticsRollupService.onBookingClosed(booking);
+                }
+                slotAvailabilityService.markReleased(slotId);
             }
+            return count;
+        });
 
-            turfSlotRepository.saveAll(expiredSlots);
+        if (released != null && released > 0) {
+            meterRegistry.counter("booking.lock-expiry.released").increment();
+            logger.info("Released expired lock on slot {}", slotId);
+            return null;
         }
+        return turfSlotRepository.findLockExpiryById(slotId).orElse(null);
+    }
 
-        // 2. Expire pending bookings
-        List<Booking> expiredBookings = bookingRepository.findByStatusAndExpiresAtBefore(
-                BookingStatus.PENDING, now);
-
-        if (!expiredBookings.isEmpty()) {
-            logger.info("Expiring {} pending bookings", expiredBookings.size());
+    /**
+     * Scheduled task to release expired locks and expire pending bookings.
+     * Locks are normally released at their exact expiry by LockExpiryScheduler,
+     * so this only reconciles anything it missed (e.g. locks taken on another
+     * node). Rows are updated set-based in chunks, each chunk in its own
+     * transaction, so a large backlog never holds one long transaction.
+     */
+    @Scheduled(fixedRateString = "${booking.sweeper.interval-ms:60000}")
+    public void releaseExpiredLocksAndBookings() {
+        long startNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
 
-            for (Booking booking : expiredBookings) {
-                logger.debug("Expiring booking {} (created at {}, expired at {})",
-                        booking.getId(), booking.getCreatedAt(), booking.getExpiresAt());
+        // 1. Release expired slot locks
+        int releasedSlots = sweepInChunks(() -> {
+            List<Long> slotIds = turfSlotRepository.findExpiredLockIds(now, PageRequest.of(0, sweepChunkSize));
+            if (slotIds.isEmpty()) {
+                return 0;
+            }
+            int released = turfSlotRepository.releaseExpiredLocks(slotIds, now);
+            slotAvailabilityService.markReleased(slotIds);
+            return released;
+        });
 
-                booking.setStatus(BookingStatus.EXPIRED);
+        // 2. Expire pending bookings
+        int expiredBookings = sweepInChunks(() -> {
+            List<Long> bookingIds = bookingRepository.findExpiredPendingIds(now,
+                    PageRequest.of(0, sweepChunkSize));
+            if (bookingIds.isEmpty()) {
+                return 0;
             }
+            int expired = bookingRepository.expirePendingBookings(bookingIds, now);
+            analyticsRollupService.onBookingsExpired(bookingIds);
+            return expired;
+        });
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        meterRegistry.counter("booking.sweeper.slots.released").increment(releasedSlots);
+        meterRegistry.counter("booking.sweeper.bookings.expired").increment(expiredBookings);
+        meterRegistry.timer("booking.sweeper.duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (releasedSlots > 0 || expiredBookings > 0) {
+            logger.info("Released {} expired slot locks and expired {} pending bookings in {} ms",
+                    releasedSlots, expiredBookings, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
 
-            bookingRepository.saveAll(expiredBookings);
+    /**
+     * Run a chunk update repeatedly, each in its own transaction, until a chunk
+     * touches no rows
+     */
+    private int sweepInChunks(Supplier<Integer> chunk) {
+        int total = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> chunk.get());
+            if (updated == null || updated == 0) {
+                return total;
+            }
+            total += updated;
         }
     }
 
     /**
      * Create a booking manually by the owner (Walk-in)
      */
-    @Transactional
     public Booking createOwnerBooking(Long ownerId, Long turfId, Long slotId, String customerName,
             String customerPhone) {
         logger.info("Owner {} creating walk-in booking for slot {}", ownerId, slotId);
 
+        Long storedSlotId = slotCalendarService.materialize(turfId, slotId);
+        return slotLockManager.withSlotLock(storedSlotId,
+                () -> transactionTemplate.execute(status -> bookSlotForWalkIn(ownerId, turfId, storedSlotId,
+                        customerName, customerPhone)));
+    }
+
+    private Booking bookSlotForWalkIn(Long ownerId, Long turfId, Long slotId, String customerName,
+            String customerPhone) {
         // 1. Verify ownership
         Turf turf = turfRepository.findById(turfId)
                 .orElseThrow(() -> new RuntimeException("Turf not found"));
@@ -462,21 +638,17 @@ public class BookingService {
             throw new RuntimeException("You do not own this turf");
         }
 
-        // 2. Acquire lock and validate slot
-        TurfSlot slot = turfSlotRepository.findByIdWithLock(slotId)
+        // 2. Load slot for pricing (plain read, before the slot row is locked)
+        TurfSlot slot = turfSlotRepository.findById(slotId)
                 .orElseThrow(() -> new RuntimeException("Slot not found"));
+        BigDecimal amount = calculateSlotPrice(slot, turfId);
 
-        if (!slot.getIsAvailable()) {
-            throw new RuntimeException("Slot is not available");
-        }
-
-        if (slot.getIsLocked()) {
-            throw new RuntimeException("Slot is currently locked by an online user");
+        // 3. Mark slot as unavailable in one conditional UPDATE
+        if (turfSlotRepository.bookSlot(slotId) == 0) {
+            throw claimFailure(slotId, "Slot is currently locked by an online user");
         }
-
-        // 3. Mark slot as unavailable immediately
-        slot.setIsAvailable(false);
-        turfSlotRepository.save(slot);
+        slotAvailabilityService.markBooked(slotId);
+        analyticsRollupService.onSlotBooked(turfId, slot.getDate());
 
         // 4. Create CONFIRMED booking
         Booking booking = new Booking();
@@ -486,10 +658,13 @@ public class BookingService {
         booking.setCustomerName(customerName);
         booking.setCustomerPhone(customerPhone);
         booking.setStatus(BookingStatus.CONFIRMED);
-        booking.setTotalAmount(calculateSlotPrice(slot, turfId));
+        booking.setTotalAmount(amount);
         booking.setConfirmedAt(LocalDateTime.now());
         booking.setCreatedAt(LocalDateTime.now());
+        booking.setQrSecret(UUID.randomUUID().toString());
 
-        return bookingRepository.save(booking);
+        Booking savedBooking = saveNewBooking(booking);
+        analyticsRollupService.onBookingCreated(savedBooking);
+        return savedBooking;
     }
 }
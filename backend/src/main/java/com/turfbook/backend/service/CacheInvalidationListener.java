@@ -0,0 +1,88 @@
+package com.turfbook.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies other nodes' cache invalidations (see CacheInvalidationPublisher).
+ * In relay mode this handler is added to the relay's system subscriptions, so
+ * it is subscribed on the node's shared broker connection alongside Spring's
+ * user registry broadcast and receives every node's invalidations.
+ */
+@Component
+public class CacheInvalidationListener implements MessageHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    @Autowired
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Autowired
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Autowired
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Autowired
+    private List<AbstractBrokerMessageHandler> brokerHandlers;
+
+    /**
+     * Subscribe on the relay's system connection; runs before the relay is
+     * started, which is when system subscriptions are made
+     */
+    @PostConstruct
+    public void init() {
+        for (AbstractBrokerMessageHandler handler : brokerHandlers) {
+            if (handler instanceof StompBrokerRelayMessageHandler relay) {
+                Map<String, MessageHandler> subscriptions = new HashMap<>(relay.getSystemSubscriptions());
+                subscriptions.put(CacheInvalidationPublisher.DESTINATION, this);
+                relay.setSystemSubscriptions(subscriptions);
+            }
+        }
+    }
+
+    @Override
+    public void handleMessage(@NonNull Message<?> message) {
+        Object payload = message.getPayload();
+        String text = payload instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : payload.toString();
+        try {
+            apply(text.split("\\|"));
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring malformed cache invalidation '{}'", text, e);
+        }
+    }
+
+    private void apply(String[] parts) {
+        if (parts[0].equals(cacheInvalidationPublisher.getNodeId())) {
+            // Already applied locally before it was published
+            return;
+        }
+        switch (parts[1]) {
+            case CacheInvalidationPublisher.SLOTS ->
+                    slotAvailabilityService.dropGrid(Long.valueOf(parts[2]), LocalDate.parse(parts[3]));
+            case CacheInvalidationPublisher.TURF -> slotAvailabilityService.dropTurf(Long.valueOf(parts[2]));
+            case CacheInvalidationPublisher.UNREAD -> {
+                if (CacheInvalidationPublisher.ALL.equals(parts[2])) {
+                    unreadNotificationCounter.forgetAll();
+                } else {
+                    unreadNotificationCounter.forget(Long.valueOf(parts[2]));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown kind " + parts[1]);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.turfbook.backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Tells the other backend instances to drop per-node cache entries.
+ * SlotAvailabilityService and UnreadNotificationCounter keep their state in
+ * memory, so with websocket.broker.mode=relay a change committed on one node
+ * is published on DESTINATION through the shared broker and every other node
+ * drops the affected entry (see CacheInvalidationListener), reloading it from
+ * the DB on next access. With the simple broker there is a single node and
+ * nothing is sent.
+ *
+ * Messages are plain text, "origin|kind|key[|date]", tagged with this node's
+ * ID so a node skips its own invalidations.
+ */
+@Component
+public class CacheInvalidationPublisher {
+
+    public static final String DESTINATION = "/topic/cluster.cache-invalidations";
+
+    static final String SLOTS = "slots";
+    static final String TURF = "turf";
+    static final String UNREAD = "unread";
+    static final String ALL = "*";
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * ID tagged onto this node's invalidations
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * A turf's slot grid changed on a date
+     */
+    public void slotsChanged(Long turfId, LocalDate date) {
+        send(SLOTS, turfId + "|" + date);
+    }
+
+    /**
+     * Every slot grid of a turf changed, e.g. after its schedule was edited
+     */
+    public void turfChanged(Long turfId) {
+        send(TURF, String.valueOf(turfId));
+    }
+
+    /**
+     * A user's unread notification count changed
+     */
+    public void unreadChanged(Long userId) {
+        send(UNREAD, String.valueOf(userId));
+    }
+
+    /**
+     * Unread counts of any user may have changed
+     */
+    public void unreadCleared() {
+        send(UNREAD, ALL);
+    }
+
+    private void send(String kind, String key) {
+        if (!"relay".equalsIgnoreCase(brokerMode)) {
+            return;
+        }
+        // Sent straight to the broker rather than through WebSocketPublisher,
+        // whose buffers drop messages under pressure
+        messagingTemplate.convertAndSend(DESTINATION, nodeId + "|" + kind + "|" + key);
+    }
+}
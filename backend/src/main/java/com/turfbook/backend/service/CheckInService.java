@@ -0,0 +1,181 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.Booking;
+import com.turfbook.backend.model.enums.BookingStatus;
+import com.turfbook.backend.repository.BookingRepository;
+import com.turfbook.backend.repository.TurfRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * QR check-in engine.
+ * Looks bookings up through the unique qr_secret index and checks them in with
+ * one conditional UPDATE, so a double scan can never succeed. Gate scanners
+ * that pass their turf ID are answered from a per-turf cache of today's
+ * confirmed bookings, which is loaded on the first scan of the day and
+ * otherwise falls back to the index.
+ */
+@Service
+public class CheckInService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckInService.class);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<Long, TurfDay> todayByTurf = new ConcurrentHashMap<>();
+
+    /**
+     * Check in the booking behind a scanned QR code
+     *
+     * @param qrSecret Scanned QR secret
+     * @param turfId   Turf the scanner is at, or null if unknown
+     * @throws RuntimeException if the code is invalid, not confirmed, already
+     *                          used or for another turf
+     */
+    public void checkIn(String qrSecret, Long turfId) {
+        if (qrSecret == null || qrSecret.isBlank()) {
+            throw new RuntimeException("Invalid QR Code");
+        }
+
+        TurfDay day = turfId != null ? today(turfId) : null;
+        TodayBooking entry = day != null ? day.bookings().get(qrSecret) : null;
+
+        if (entry == null) {
+            Booking booking = bookingRepository.findByQrSecret(qrSecret)
+                    .orElseThrow(() -> new RuntimeException("Invalid QR Code"));
+
+            if (booking.getCheckedInAt() != null) {
+                throw new RuntimeException("Already checked in");
+            }
+            if (booking.getStatus() != BookingStatus.CONFIRMED) {
+                throw new RuntimeException("Booking not confirmed");
+            }
+            if (turfId != null && !turfId.equals(booking.getTurfId())) {
+                throw new RuntimeException("Booking is not valid for this turf");
+            }
+            entry = TodayBooking.of(booking);
+            if (day != null) {
+                // Confirmed after the day was loaded; cache it for repeat scans
+                day.bookings().put(qrSecret, entry);
+            }
+        } else if (entry.checkedIn) {
+            throw new RuntimeException("Already checked in");
+        }
+
+        Long bookingId = entry.bookingId;
+        TodayBooking checkedIn = entry;
+        LocalDateTime now = LocalDateTime.now();
+
+        Boolean updated = transactionTemplate.execute(status -> {
+            if (bookingRepository.checkIn(bookingId, now) == 0) {
+                return false;
+            }
+            analyticsRollupService.onBookingClosed(checkedIn.turfId, checkedIn.bookingDate);
+            return true;
+        });
+
+        if (!Boolean.TRUE.equals(updated)) {
+            if (day != null) {
+                day.bookings().remove(qrSecret);
+            }
+            throw checkInFailure(bookingId);
+        }
+
+        entry.checkedIn = true;
+        logger.info("Checked in booking {}", bookingId);
+    }
+
+    /**
+     * Work out why a conditional check-in matched no rows (cancelled or scanned
+     * at another gate since it was read)
+     */
+    private RuntimeException checkInFailure(Long bookingId) {
+        Booking booking = bookingRepository.findById(bookingId).orElse(null);
+        if (booking == null) {
+            return new RuntimeException("Invalid QR Code");
+        }
+        if (booking.getCheckedInAt() != null) {
+            return new RuntimeException("Already checked in");
+        }
+        return new RuntimeException("Booking not confirmed");
+    }
+
+    /**
+     * Drop cached days that have passed
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        todayByTurf.values().removeIf(day -> day.date().isBefore(today));
+    }
+
+    private TurfDay today(Long turfId) {
+        LocalDate today = LocalDate.now();
+        TurfDay day = todayByTurf.get(turfId);
+        if (day != null && day.date().equals(today)) {
+            return day;
+        }
+        // The turf ID comes from the scanner; never cache a day for a turf that does not exist
+        if (!turfRepository.existsById(turfId)) {
+            throw new RuntimeException("Turf not found");
+        }
+
+        List<Booking> bookings = bookingRepository.findConfirmedByTurfIdAndSlotDate(turfId, today);
+        Map<String, TodayBooking> bySecret = new ConcurrentHashMap<>();
+        for (Booking booking : bookings) {
+            if (booking.getQrSecret() != null) {
+                bySecret.put(booking.getQrSecret(), TodayBooking.of(booking));
+            }
+        }
+
+        day = new TurfDay(today, bySecret);
+        todayByTurf.put(turfId, day);
+        logger.info("Loaded {} confirmed bookings for turf {} on {}", bySecret.size(), turfId, today);
+        return day;
+    }
+
+    private record TurfDay(LocalDate date, Map<String, TodayBooking> bookings) {
+    }
+
+    private static final class TodayBooking {
+        private final Long bookingId;
+        private final Long turfId;
+        private final LocalDate bookingDate;
+        private volatile boolean checkedIn;
+
+        private TodayBooking(Long bookingId, Long turfId, LocalDate bookingDate) {
+            this.bookingId = bookingId;
+            this.turfId = turfId;
+            this.bookingDate = bookingDate;
+        }
+
+        private static TodayBooking of(Booking booking) {
+            LocalDate bookingDate = booking.getBookingDate();
+            if (bookingDate == null) {
+                bookingDate = booking.getCreatedAt() != null ? booking.getCreatedAt().toLocalDate()
+                        : LocalDate.now();
+            }
+            return new TodayBooking(booking.getId(), booking.getTurfId(), bookingDate);
+        }
+    }
+}
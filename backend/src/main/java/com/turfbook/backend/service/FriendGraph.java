@@ -0,0 +1,279 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.repository.FriendRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory adjacency store of accepted friendships.
+ * Each user's friends are held as a sorted long[] that is replaced, never
+ * mutated, on change, so reads need no locking. Two users are friends when
+ * both of their Friend rows are ACCEPTED. Loaded on startup, kept current by
+ * FriendService once an accept or remove commits, and reloaded periodically
+ * to pick up changes made on other instances.
+ */
+@Component
+public class FriendGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(FriendGraph.class);
+    private static final long[] NONE = new long[0];
+    private static final long ID_MASK = (1L << 40) - 1;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Value("${friends.graph.load-batch-size:10000}")
+    private int loadBatchSize;
+
+    private volatile Map<Long, long[]> adjacency = new ConcurrentHashMap<>();
+    // Edge changes made while a reload runs, replayed onto the reloaded graph:
+    // [1 = link / 0 = unlink, a, b]
+    private List<long[]> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${friends.graph.refresh-ms:600000}", initialDelayString = "${friends.graph.refresh-ms:600000}")
+    public void rebuild() {
+        synchronized (this) {
+            changedDuringRebuild = new ArrayList<>();
+        }
+        Map<Long, long[]> loaded = new ConcurrentHashMap<>();
+        int edges = 0;
+        try {
+            Long afterId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = friendRepository.findMutuallyAcceptedAfter(afterId, PageRequest.of(0, loadBatchSize));
+                for (Object[] row : rows) {
+                    link(loaded, (Long) row[1], (Long) row[2]);
+                    edges++;
+                }
+                if (!rows.isEmpty()) {
+                    afterId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            } while (rows.size() == loadBatchSize);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            for (long[] change : changedDuringRebuild) {
+                if (change[0] == 1) {
+                    link(loaded, change[1], change[2]);
+                } else {
+                    unlink(loaded, change[1], change[2]);
+                }
+            }
+            changedDuringRebuild = null;
+            adjacency = loaded;
+        }
+        logger.info("Loaded friend graph: {} users, {} friendships", loaded.size(), edges);
+    }
+
+    /**
+     * Record a friendship once the surrounding transaction commits
+     */
+    public void addFriendship(Long a, Long b) {
+        TransactionCallbacks.afterCommit(() -> change(1, a, b));
+    }
+
+    /**
+     * Record a removed friendship once the surrounding transaction commits
+     */
+    public void removeFriendship(Long a, Long b) {
+        TransactionCallbacks.afterCommit(() -> change(0, a, b));
+    }
+
+    private synchronized void change(int op, long a, long b) {
+        if (op == 1) {
+            link(adjacency, a, b);
+        } else {
+            unlink(adjacency, a, b);
+        }
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(new long[] { op, a, b });
+        }
+    }
+
+    public boolean areFriends(Long a, Long b) {
+        return Arrays.binarySearch(friends(a), b) >= 0;
+    }
+
+    /**
+     * Friend IDs of a user, ascending. The array must not be modified.
+     */
+    public long[] friendsOf(Long userId) {
+        return friends(userId);
+    }
+
+    public int friendCount(Long userId) {
+        return friends(userId).length;
+    }
+
+    /**
+     * IDs of the friends two users have in common, ascending
+     */
+    public long[] mutualFriends(Long a, Long b) {
+        long[] x = friends(a);
+        long[] y = friends(b);
+        long[] common = new long[Math.min(x.length, y.length)];
+        int n = 0;
+        for (int i = 0, j = 0; i < x.length && j < y.length;) {
+            if (x[i] < y[j]) {
+                i++;
+            } else if (x[i] > y[j]) {
+                j++;
+            } else {
+                common[n++] = x[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(common, n);
+    }
+
+    public int mutualFriendCount(Long a, Long b) {
+        return mutualFriends(a, b).length;
+    }
+
+    /**
+     * Friends of a user's friends who are not already their friends, with the
+     * number of mutual friends of each
+     *
+     * @param userId User ID
+     * @return Map of user ID to mutual friend count
+     */
+    public Map<Long, Integer> friendsOfFriends(Long userId) {
+        long[] candidates = collectFriendsOfFriends(userId);
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < candidates.length;) {
+            int run = runLength(candidates, i);
+            counts.put(candidates[i], run);
+            i += run;
+        }
+        return counts;
+    }
+
+    /**
+     * "People you may know": friends of friends ranked by mutual friend
+     * count, then by ID
+     *
+     * @param userId   User ID
+     * @param excluded Sorted user IDs to leave out (e.g. pending requests)
+     * @param limit    Maximum number of suggestions
+     * @return Pairs of [user ID, mutual friend count], best first
+     */
+    public List<long[]> suggestions(Long userId, long[] excluded, int limit) {
+        long[] candidates = collectFriendsOfFriends(userId);
+        // One entry per candidate, packed as count << 40 | (ID_MASK - id) so
+        // that sorting ascending puts the best suggestion last
+        long[] ranked = new long[candidates.length];
+        int n = 0;
+        for (int i = 0; i < candidates.length;) {
+            int run = runLength(candidates, i);
+            long id = candidates[i];
+            i += run;
+            if (Arrays.binarySearch(excluded, id) < 0) {
+                ranked[n++] = ((long) run << 40) | (ID_MASK - id);
+            }
+        }
+        Arrays.sort(ranked, 0, n);
+        List<long[]> result = new ArrayList<>(Math.min(n, Math.max(limit, 0)));
+        for (int i = n - 1; i >= 0 && result.size() < limit; i--) {
+            result.add(new long[] { ID_MASK - (ranked[i] & ID_MASK), ranked[i] >>> 40 });
+        }
+        return result;
+    }
+
+    /**
+     * Every friend of every friend except the user and their friends, sorted,
+     * with one entry per connecting friend
+     */
+    private long[] collectFriendsOfFriends(Long userId) {
+        long[] friends = friends(userId);
+        int total = 0;
+        for (long friend : friends) {
+            total += friends(friend).length;
+        }
+        long[] candidates = new long[total];
+        int n = 0;
+        for (long friend : friends) {
+            for (long candidate : friends(friend)) {
+                if (candidate != userId && Arrays.binarySearch(friends, candidate) < 0) {
+                    candidates[n++] = candidate;
+                }
+            }
+        }
+        Arrays.sort(candidates, 0, n);
+        return Arrays.copyOf(candidates, n);
+    }
+
+    private static int runLength(long[] sorted, int from) {
+        int to = from + 1;
+        while (to < sorted.length && sorted[to] == sorted[from]) {
+            to++;
+        }
+        return to - from;
+    }
+
+    private long[] friends(Long userId) {
+        long[] friends = adjacency.get(userId);
+        return friends != null ? friends : NONE;
+    }
+
+    private static void link(Map<Long, long[]> graph, long a, long b) {
+        if (a == b) {
+            return;
+        }
+        graph.compute(a, (id, friends) -> insert(friends != null ? friends : NONE, b));
+        graph.compute(b, (id, friends) -> insert(friends != null ? friends : NONE, a));
+    }
+
+    private static void unlink(Map<Long, long[]> graph, long a, long b) {
+        graph.computeIfPresent(a, (id, friends) -> remove(friends, b));
+        graph.computeIfPresent(b, (id, friends) -> remove(friends, a));
+    }
+
+    private static long[] insert(long[] sorted, long value) {
+        int i = Arrays.binarySearch(sorted, value);
+        if (i >= 0) {
+            return sorted;
+        }
+        i = -i - 1;
+        long[] copy = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, copy, 0, i);
+        copy[i] = value;
+        System.arraycopy(sorted, i, copy, i + 1, sorted.length - i);
+        return copy;
+    }
+
+    private static long[] remove(long[] sorted, long value) {
+        int i = Arrays.binarySearch(sorted, value);
+        if (i < 0) {
+            return sorted;
+        }
+        if (sorted.length == 1) {
+            return null;
+        }
+        long[] copy = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, copy, 0, i);
+        System.arraycopy(sorted, i + 1, copy, i, sorted.length - i - 1);
+        return copy;
+    }
+}
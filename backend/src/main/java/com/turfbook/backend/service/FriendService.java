@@ -1,5 +1,6 @@
 package com.turfbook.backend.service;
 
+import com.turfbook.backend.dto.response.FriendSuggestion;
 import com.turfbook.backend.model.Friend;
 import com.turfbook.backend.model.User;
 import com.turfbook.backend.model.enums.FriendStatus;
@@ -10,12 +11,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class FriendService {
+    // Ranks friends above any friend of a friend
+    private static final int FRIEND_BOOST = Integer.MAX_VALUE;
+    private static final int MAX_SUGGESTIONS = 50;
+
     @Autowired
     FriendRepository friendRepository;
 
@@ -25,6 +37,12 @@ public class FriendService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private FriendGraph friendGraph;
+
     @Transactional
     public void sendFriendRequest(Long userId, String email) {
         org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(FriendService.class);
@@ -132,6 +150,7 @@ public class FriendService {
 
         friendRepository.save(receiverRecord);
         friendRepository.save(senderRecord);
+        friendGraph.addFriendship(receiverRecord.getUserId(), senderRecord.getUserId());
 
         // Notification
         notificationService.createNotification(
@@ -162,6 +181,12 @@ public class FriendService {
             Friend f = friendship.get();
             f.setStatus(com.turfbook.backend.model.enums.FriendStatus.REMOVED);
             friendRepository.save(f);
+            // End the friendship on both sides
+            friendRepository.findFriendship(friendId, userId).ifPresent(reverse -> {
+                reverse.setStatus(com.turfbook.backend.model.enums.FriendStatus.REMOVED);
+                friendRepository.save(reverse);
+            });
+            friendGraph.removeFriendship(userId, friendId);
         } else {
             throw new RuntimeException("Friendship not found");
         }
@@ -184,56 +209,73 @@ public class FriendService {
         return friendRepository.findByUserIdAndStatus(userId, com.turfbook.backend.model.enums.FriendStatus.SENT);
     }
 
+    /**
+     * Search users by name to befriend. Friends rank first, then friends of
+     * friends by number of mutual friends, then everyone else. Users with a
+     * pending request to or from this user, and blocked users, are left out.
+     */
     public List<User> searchUsers(Long userId, String query) {
-        List<User> users = userRepository.findByNameContainingIgnoreCase(query);
+        Set<Long> excluded = pendingOrBlocked(userId);
+        excluded.add(userId);
 
-        // Get all interactions
-        List<Friend> interactions = friendRepository.findAll().stream()
-                .filter(f -> f.getUserId().equals(userId) || f.getFriendId().equals(userId))
-                .collect(Collectors.toList());
+        Map<Long, Integer> boosts = new HashMap<>(friendGraph.friendsOfFriends(userId));
+        for (long friendId : friendGraph.friendsOf(userId)) {
+            boosts.put(friendId, FRIEND_BOOST);
+        }
 
-        // Filter out Blocked or Accepted
-        // Actually requirement says: "When typing a name, show only: Friends with
-        // status = ACCEPTED, Users not already requested, Users not blocked"
-        // Wait, "Dropdown friend search" usually means "Search for NEW friends".
-        // "Show only: Friends with status = ACCEPTED" -> This implies searching WITHIN
-        // friends?
-        // OR "Users not already requested" -> searching for new people.
-
-        // Let's assume this is a general "Search Users" to add.
-        // So we should exclude people we already sent requests to, or are already
-        // friends with?
-        // Requirement: "Show only: Friends with status = ACCEPTED, Users not already
-        // requested, Users not blocked"
-
-        // Let's return all users, but maybe mark their status?
-        // Or just filter as requested.
-
-        // Simplification: Return users who are NOT (Blocked).
-        // If they are friends, we can show them.
-        // If request sent, maybe don't show? "Users not already requested".
-
-        // Let's filter out users where a request is PENDING/SENT or BLOCKED.
-        // Keep ACCEPTED (Friends) and NULL (New people).
-
-        return users.stream()
-                .filter(u -> !u.getId().equals(userId))
-                .filter(u -> {
-                    Optional<Friend> f = interactions.stream()
-                            .filter(i -> i.getUserId().equals(u.getId()) || i.getFriendId().equals(u.getId()))
-                            .findFirst();
-
-                    if (f.isPresent()) {
-                        com.turfbook.backend.model.enums.FriendStatus status = f.get().getStatus();
-                        if (status == com.turfbook.backend.model.enums.FriendStatus.BLOCKED)
-                            return false;
-                        if (status == com.turfbook.backend.model.enums.FriendStatus.SENT)
-                            return false; // Already requested
-                        // If ACCEPTED, keep them (as per "Friends with status = ACCEPTED")
-                        // If REJECTED/REMOVED, keep them (can request again)
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
+        return userService.searchUsers(query, false, boosts, excluded);
+    }
+
+    /**
+     * Friends two users have in common
+     */
+    public List<User> getMutualFriends(Long userId, Long otherUserId) {
+        long[] mutual = friendGraph.mutualFriends(userId, otherUserId);
+        if (mutual.length == 0) {
+            return List.of();
+        }
+        return userRepository.findAllById(Arrays.stream(mutual).boxed().collect(Collectors.toList()));
+    }
+
+    /**
+     * "People you may know": friends of friends by number of mutual friends,
+     * leaving out users with a pending request to or from this user, and
+     * blocked users
+     */
+    public List<FriendSuggestion> getSuggestions(Long userId, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new RuntimeException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        long[] excluded = pendingOrBlocked(userId).stream().mapToLong(Long::longValue).sorted().toArray();
+        List<long[]> ranked = friendGraph.suggestions(userId, excluded, limit);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, User> users = userRepository.findAllById(ranked.stream().map(s -> s[0]).collect(Collectors.toList()))
+                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        List<FriendSuggestion> suggestions = new ArrayList<>(ranked.size());
+        for (long[] suggestion : ranked) {
+            User user = users.get(suggestion[0]);
+            if (user != null) {
+                suggestions.add(new FriendSuggestion(user, (int) suggestion[1]));
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Users this user has a pending request with, in either direction, or
+     * has blocked
+     */
+    private Set<Long> pendingOrBlocked(Long userId) {
+        Set<Long> ids = new HashSet<>();
+        for (Object[] row : friendRepository.findRelationsOf(userId)) {
+            FriendStatus status = (FriendStatus) row[2];
+            if (status == FriendStatus.SENT || status == FriendStatus.BLOCKED) {
+                ids.add(userId.equals(row[0]) ? (Long) row[1] : (Long) row[0]);
+            }
+        }
+        return ids;
     }
 }
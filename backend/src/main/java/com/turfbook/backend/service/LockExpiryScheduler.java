@@ -0,0 +1,122 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.repository.TurfSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Releases slot locks at their exact expiry.
+ * Every lock taken by BookingService is queued here with its expiry time; a
+ * single worker thread waits on the queue and hands each due lock back to
+ * BookingService. Locks held in the DB are queued on startup, and the
+ * scheduled sweeper in BookingService only reconciles anything missed.
+ */
+@Component
+public class LockExpiryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(LockExpiryScheduler.class);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    @Autowired
+    private TurfSlotRepository turfSlotRepository;
+
+    // Lazy to break the cycle with BookingService, which schedules locks here
+    @Lazy
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final DelayQueue<LockExpiry> queue = new DelayQueue<>();
+    private Thread worker;
+
+    /**
+     * Queue a slot lock for release at its expiry time
+     *
+     * @param slotId    Slot ID
+     * @param expiresAt Lock expiry time
+     */
+    public void schedule(Long slotId, LocalDateTime expiresAt) {
+        queue.put(new LockExpiry(slotId, expiresAt));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<Object[]> locks = turfSlotRepository.findActiveLockExpiries();
+        for (Object[] lock : locks) {
+            schedule((Long) lock[0], (LocalDateTime) lock[1]);
+        }
+        logger.info("Loaded {} active slot locks for expiry", locks.size());
+
+        meterRegistry.gaugeCollectionSize("booking.lock-expiry.pending", Tags.empty(), queue);
+
+        worker = new Thread(this::run, "slot-lock-expiry");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            LockExpiry expiry;
+            try {
+                expiry = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                LocalDateTime held = bookingService.releaseExpiredLock(expiry.slotId(), expiry.expiresAt());
+                if (held != null) {
+                    // Still locked: either renewed, or stored with an expiry that did
+                    // not match ours (e.g. rounded by the DB)
+                    LocalDateTime retryAt = LocalDateTime.now().plus(RETRY_DELAY);
+                    schedule(expiry.slotId(), held.isAfter(retryAt) ? held : retryAt);
+                }
+            } catch (RuntimeException e) {
+                // The reconciliation sweep will pick this lock up
+                logger.error("Failed to release expired lock on slot {}", expiry.slotId(), e);
+            }
+        }
+    }
+
+    private record LockExpiry(Long slotId, LocalDateTime expiresAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            // Nanosecond precision, so the entry never fires before expiresAt
+            Instant due = expiresAt.atZone(ZoneId.systemDefault()).toInstant();
+            return unit.convert(Duration.between(Instant.now(), due));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
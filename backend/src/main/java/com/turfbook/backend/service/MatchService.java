@@ -10,9 +10,13 @@ import com.turfbook.backend.model.TeamMember;
 import com.turfbook.backend.model.User;
 import com.turfbook.backend.repository.MatchRepository;
 import com.turfbook.backend.repository.TeamRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,46 +24,163 @@ import java.util.stream.Collectors;
 @Service
 public class MatchService {
 
+    private static final Logger logger = LoggerFactory.getLogger(MatchService.class);
+
     @Autowired
     private MatchRepository matchRepository;
 
     @Autowired
     private TeamRepository teamRepository;
 
-    @Transactional
+    @Autowired
+    private MatchmakingQueue matchmakingQueue;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Queue a team for matchmaking. The team is paired with the closest-rated
+     * waiting team whose band reaches it; otherwise it gets an open match
+     * and waits for an opponent, or for its band to widen.
+     */
     public MatchResponse findMatch(MatchRequest request) {
         Long teamId = request.getTeamId();
+        MatchResponse response = transactionTemplate.execute(status -> queueTeam(teamId));
+
+        // The open match is offered to other teams only once it is committed,
+        // so nobody can pair with a match that may still roll back
+        MatchmakingQueue.Ticket queued = matchmakingQueue.ticketOf(teamId);
+        if (queued == null || queued.matchId() != null) {
+            return response;
+        }
+        // Another team may have been queued while this one had no open match yet
+        MatchmakingQueue.Pairing pairing = matchmakingQueue.attach(teamId, response.getId());
+        if (pairing == null) {
+            return response;
+        }
+        try {
+            MatchResponse scheduled = transactionTemplate.execute(status -> {
+                Match match = schedule(pairing);
+                return match != null ? mapToResponse(match) : null;
+            });
+            return scheduled != null ? scheduled : response;
+        } catch (RuntimeException e) {
+            // Both teams are back in the queue; the sweep pairs them again
+            logger.warn("Could not schedule match {} against team {}", pairing.waiting().matchId(),
+                    pairing.opponent().teamId(), e);
+            return response;
+        }
+    }
+
+    private MatchResponse queueTeam(Long teamId) {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new RuntimeException("Team not found"));
 
-        // Simple matchmaking: Find any open match or create one
-        List<Match> openMatches = matchRepository.findByStatus("LOOKING_FOR_OPPONENT");
+        MatchmakingQueue.Ticket queued = matchmakingQueue.ticketOf(teamId);
+        if (queued != null && queued.matchId() != null) {
+            return matchRepository.findById(queued.matchId()).map(this::mapToResponse)
+                    .orElseThrow(() -> new RuntimeException("Match not found"));
+        }
 
-        // Filter out matches where this team is already Team A
-        Match match = openMatches.stream()
-                .filter(m -> !m.getTeamA().getId().equals(teamId))
-                .findFirst()
-                .orElse(null);
+        MatchmakingQueue.Pairing pairing;
+        while ((pairing = matchmakingQueue.offer(teamId, MatchmakingQueue.ratingOf(team.getSkillRating()))) != null) {
+            Match match = schedule(pairing);
+            if (match != null) {
+                return mapToResponse(match);
+            }
+            // The waiting team's match was closed meanwhile; its ticket is gone, so try the next one
+        }
 
-        if (match != null) {
-            match.setTeamB(team);
-            match.setStatus("SCHEDULED");
-            matchRepository.save(match);
-            return mapToResponse(match);
-        } else {
-            Match newMatch = new Match();
-            newMatch.setTeamA(team);
-            newMatch.setStatus("LOOKING_FOR_OPPONENT");
-            matchRepository.save(newMatch);
-            return mapToResponse(newMatch);
+        TransactionCallbacks.afterRollback(() -> matchmakingQueue.remove(teamId));
+        Match newMatch = new Match();
+        newMatch.setTeamA(team);
+        newMatch.setStatus(MatchmakingQueue.LOOKING_FOR_OPPONENT);
+        matchRepository.save(newMatch);
+        return mapToResponse(newMatch);
+    }
+
+    /**
+     * Pair waiting teams whose ELO bands have widened enough to reach each
+     * other. Each pairing is scheduled in its own transaction, so one failure
+     * does not undo the others.
+     */
+    @Scheduled(fixedDelayString = "${matches.queue.sweep-ms:5000}", initialDelayString = "${matches.queue.sweep-ms:5000}")
+    public void pairWaitingTeams() {
+        for (MatchmakingQueue.Pairing pairing : matchmakingQueue.pairWaiting()) {
+            try {
+                transactionTemplate.execute(status -> schedule(pairing));
+            } catch (RuntimeException e) {
+                logger.warn("Could not schedule match {} against team {}", pairing.waiting().matchId(),
+                        pairing.opponent().teamId(), e);
+            }
         }
     }
 
+    /**
+     * Turn the waiting team's open match into a scheduled match against the
+     * opponent and drop the opponent's own open match, if it has one. A team
+     * whose open match is no longer LOOKING_FOR_OPPONENT (completed, or
+     * scheduled by a request that raced the queue) has its ticket discarded,
+     * the other team goes back in the queue, and null is returned. If the
+     * transaction rolls back, the paired teams that have an open match go
+     * back in the queue; a team without one is the caller, whose request
+     * failed.
+     *
+     * @return The scheduled match, or null if the pairing was stale
+     */
+    private Match schedule(MatchmakingQueue.Pairing pairing) {
+        MatchmakingQueue.Ticket waiting = pairing.waiting();
+        MatchmakingQueue.Ticket opponent = pairing.opponent();
+        Match match = openMatch(waiting);
+        boolean opponentOpen = opponent.matchId() == null || openMatch(opponent) != null;
+        if (match == null || !opponentOpen) {
+            if (match != null) {
+                matchmakingQueue.restore(waiting);
+            }
+            if (opponentOpen && opponent.matchId() != null) {
+                matchmakingQueue.restore(opponent);
+            }
+            return null;
+        }
+
+        TransactionCallbacks.afterRollback(() -> {
+            for (MatchmakingQueue.Ticket ticket : List.of(waiting, opponent)) {
+                if (ticket.matchId() != null) {
+                    matchmakingQueue.restore(ticket);
+                }
+            }
+        });
+
+        Team opponentTeam = teamRepository.findById(opponent.teamId())
+                .orElseThrow(() -> new RuntimeException("Team not found"));
+        match.setTeamB(opponentTeam);
+        match.setStatus("SCHEDULED");
+        matchRepository.save(match);
+        if (opponent.matchId() != null) {
+            matchRepository.deleteById(opponent.matchId());
+        }
+        return match;
+    }
+
+    private Match openMatch(MatchmakingQueue.Ticket ticket) {
+        return matchRepository.findById(ticket.matchId())
+                .filter(m -> MatchmakingQueue.LOOKING_FOR_OPPONENT.equals(m.getStatus()))
+                .orElse(null);
+    }
+
     @Transactional
     public void completeMatch(Long matchId, Long winnerTeamId) {
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new RuntimeException("Match not found"));
 
+        if (MatchmakingQueue.LOOKING_FOR_OPPONENT.equals(match.getStatus())) {
+            // Closed without an opponent; stop offering it
+            MatchmakingQueue.Ticket ticket = matchmakingQueue.removeMatch(match.getTeamA().getId(), matchId);
+            if (ticket != null) {
+                TransactionCallbacks.afterRollback(() -> matchmakingQueue.restore(ticket));
+            }
+        }
+
         match.setStatus("COMPLETED");
         match.setWinnerTeamId(winnerTeamId);
         matchRepository.save(match);
@@ -0,0 +1,284 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.Match;
+import com.turfbook.backend.repository.MatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory queue of teams looking for an opponent.
+ * Waiting teams are bucketed into ELO bands of bandWidth rating points, in
+ * arrival order within each band. A team that has waited widenEveryMs
+ * accepts opponents one band further away, up to maxBands. Pairing removes
+ * both teams under one lock, so no two callers can claim the same opponent.
+ * MatchService persists the pairings. Loaded from the open matches on
+ * startup.
+ */
+@Component
+public class MatchmakingQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchmakingQueue.class);
+    static final String LOOKING_FOR_OPPONENT = "LOOKING_FOR_OPPONENT";
+    static final int DEFAULT_RATING = 1200;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Value("${matches.queue.band-width:100}")
+    private int bandWidth;
+
+    @Value("${matches.queue.widen-every-ms:30000}")
+    private long widenEveryMs;
+
+    @Value("${matches.queue.max-bands:5}")
+    private int maxBands;
+
+    private final TreeMap<Integer, LinkedHashMap<Long, Ticket>> bands = new TreeMap<>();
+    private final Map<Long, Ticket> tickets = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Match> open = matchRepository.findByStatus(LOOKING_FOR_OPPONENT);
+        open.sort(Comparator.comparing(Match::getId));
+        synchronized (this) {
+            for (Match match : open) {
+                Long teamId = match.getTeamA().getId();
+                if (tickets.containsKey(teamId)) {
+                    continue;
+                }
+                long enqueuedAt = match.getCreatedAt() != null
+                        ? match.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                        : System.currentTimeMillis();
+                add(new Ticket(teamId, ratingOf(match.getTeamA().getSkillRating()), match.getId(), enqueuedAt));
+            }
+        }
+        logger.info("Loaded matchmaking queue: {} teams", tickets.size());
+    }
+
+    /**
+     * Pair a team with the closest-rated waiting team that accepts it, or
+     * queue it. A queued team is not offered to others until attach() gives
+     * it an open match.
+     *
+     * @return The pairing, whose waiting team keeps its open match, or null
+     *         if the team was queued
+     */
+    public Pairing offer(Long teamId, int rating) {
+        return offer(teamId, rating, System.currentTimeMillis());
+    }
+
+    synchronized Pairing offer(Long teamId, int rating, long now) {
+        if (tickets.containsKey(teamId)) {
+            throw new RuntimeException("Team is already looking for an opponent");
+        }
+        Ticket ticket = new Ticket(teamId, rating, null, now);
+        Ticket opponent = findOpponent(ticket, 0, now);
+        if (opponent != null) {
+            remove(opponent);
+            return new Pairing(opponent, ticket);
+        }
+        add(ticket);
+        return null;
+    }
+
+    /**
+     * Record the open match of a queued team and pair it if a team that can
+     * take it has been queued meanwhile
+     *
+     * @return The pairing, or null if the team keeps waiting
+     */
+    public Pairing attach(Long teamId, Long matchId) {
+        return attach(teamId, matchId, System.currentTimeMillis());
+    }
+
+    synchronized Pairing attach(Long teamId, Long matchId, long now) {
+        Ticket queued = tickets.get(teamId);
+        if (queued == null) {
+            return null;
+        }
+        Ticket ticket = new Ticket(teamId, queued.rating(), matchId, queued.enqueuedAt());
+        Ticket opponent = findOpponent(ticket, window(ticket, now), now);
+        if (opponent == null) {
+            // Replaced in place to keep its position in the band
+            add(ticket);
+            return null;
+        }
+        remove(queued);
+        remove(opponent);
+        return opponent.enqueuedAt() <= ticket.enqueuedAt() ? new Pairing(opponent, ticket)
+                : new Pairing(ticket, opponent);
+    }
+
+    /**
+     * Pair waiting teams whose bands have widened enough to reach each other,
+     * longest waiting first
+     */
+    public List<Pairing> pairWaiting() {
+        return pairWaiting(System.currentTimeMillis());
+    }
+
+    synchronized List<Pairing> pairWaiting(long now) {
+        List<Ticket> waiting = new ArrayList<>(tickets.values());
+        waiting.sort(Comparator.comparingLong(Ticket::enqueuedAt).thenComparing(Ticket::teamId));
+        List<Pairing> pairings = new ArrayList<>();
+        for (Ticket ticket : waiting) {
+            if (ticket.matchId() == null || tickets.get(ticket.teamId()) != ticket) {
+                continue;
+            }
+            // Everyone left has waited no longer, so this ticket's window is the wider one
+            Ticket opponent = findOpponent(ticket, window(ticket, now), now);
+            if (opponent != null) {
+                remove(ticket);
+                remove(opponent);
+                pairings.add(new Pairing(ticket, opponent));
+            }
+        }
+        return pairings;
+    }
+
+    /**
+     * Put tickets back, e.g. after the transaction that paired them rolled back
+     */
+    public synchronized void restore(Ticket... restored) {
+        for (Ticket ticket : restored) {
+            if (ticket != null && !tickets.containsKey(ticket.teamId())) {
+                add(ticket);
+            }
+        }
+    }
+
+    public synchronized Ticket remove(Long teamId) {
+        Ticket ticket = tickets.get(teamId);
+        if (ticket != null) {
+            remove(ticket);
+        }
+        return ticket;
+    }
+
+    /**
+     * Drop a team's ticket if it is for the given open match, e.g. when the
+     * match is closed without an opponent
+     *
+     * @return The dropped ticket, or null
+     */
+    public synchronized Ticket removeMatch(Long teamId, Long matchId) {
+        Ticket ticket = tickets.get(teamId);
+        if (ticket == null || !matchId.equals(ticket.matchId())) {
+            return null;
+        }
+        remove(ticket);
+        return ticket;
+    }
+
+    public synchronized Ticket ticketOf(Long teamId) {
+        return tickets.get(teamId);
+    }
+
+    public synchronized int size() {
+        return tickets.size();
+    }
+
+    /**
+     * The oldest open ticket in the nearest band that accepts the given one.
+     * Bands are checked outward from the ticket's own; at distance k a band
+     * qualifies if the ticket's own window or its oldest ticket's window
+     * reaches k. Tickets within a band are in arrival order, so the oldest is
+     * the one with the widest window.
+     */
+    private Ticket findOpponent(Ticket ticket, int ownWindow, long now) {
+        int band = bandOf(ticket.rating());
+        for (int k = 0; k <= maxBands; k++) {
+            Ticket below = oldestOpen(band - k, ticket.teamId());
+            Ticket above = k > 0 ? oldestOpen(band + k, ticket.teamId()) : null;
+            boolean belowOk = below != null && (ownWindow >= k || window(below, now) >= k);
+            boolean aboveOk = above != null && (ownWindow >= k || window(above, now) >= k);
+            if (belowOk && aboveOk) {
+                return below.enqueuedAt() <= above.enqueuedAt() ? below : above;
+            }
+            if (belowOk) {
+                return below;
+            }
+            if (aboveOk) {
+                return above;
+            }
+        }
+        return null;
+    }
+
+    private Ticket oldestOpen(int band, Long excludedTeamId) {
+        LinkedHashMap<Long, Ticket> queue = bands.get(band);
+        if (queue == null) {
+            return null;
+        }
+        Iterator<Ticket> it = queue.values().iterator();
+        while (it.hasNext()) {
+            Ticket ticket = it.next();
+            if (ticket.matchId() != null && !ticket.teamId().equals(excludedTeamId)) {
+                return ticket;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * How many bands away a ticket accepts opponents
+     */
+    private int window(Ticket ticket, long now) {
+        long waited = Math.max(0, now - ticket.enqueuedAt());
+        return (int) Math.min(maxBands, waited / widenEveryMs);
+    }
+
+    static int ratingOf(Integer skillRating) {
+        return skillRating != null ? skillRating : DEFAULT_RATING;
+    }
+
+    private int bandOf(int rating) {
+        return Math.floorDiv(rating, bandWidth);
+    }
+
+    private void add(Ticket ticket) {
+        tickets.put(ticket.teamId(), ticket);
+        bands.computeIfAbsent(bandOf(ticket.rating()), b -> new LinkedHashMap<>()).put(ticket.teamId(), ticket);
+    }
+
+    private void remove(Ticket ticket) {
+        tickets.remove(ticket.teamId());
+        int band = bandOf(ticket.rating());
+        LinkedHashMap<Long, Ticket> queue = bands.get(band);
+        if (queue != null) {
+            queue.remove(ticket.teamId());
+            if (queue.isEmpty()) {
+                bands.remove(band);
+            }
+        }
+    }
+
+    /**
+     * A queued team; matchId is its open LOOKING_FOR_OPPONENT match, null
+     * until attached
+     */
+    public record Ticket(Long teamId, int rating, Long matchId, long enqueuedAt) {
+    }
+
+    /**
+     * Two paired teams. The waiting team's open match becomes the scheduled
+     * one; the opponent's open match, if any, is no longer needed.
+     */
+    public record Pairing(Ticket waiting, Ticket opponent) {
+    }
+}
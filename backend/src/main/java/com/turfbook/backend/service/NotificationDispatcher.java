@@ -0,0 +1,200 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.response.NotificationPush;
+import com.turfbook.backend.model.Notification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous notification pipeline.
+ * NotificationService publishes notifications here once the creating
+ * transaction has committed. A single worker drains the bounded queue in
+ * batches, writes each batch with one multi-row INSERT and sends one coalesced
+ * WebSocket push per user. If the queue is full the caller writes its
+ * notification synchronously, so nothing is dropped under load.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final String INSERT_PREFIX = "INSERT INTO notifications "
+            + "(user_id, type, message, is_read, actionable, related_id, related_type, created_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WebSocketPublisher webSocketPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Value("${notification.queue.capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${notification.batch-size:200}")
+    private int batchSize;
+
+    // How long the worker waits after the first notification so a burst is
+    // written and pushed together
+    @Value("${notification.linger-ms:20}")
+    private long lingerMs;
+
+    private BlockingQueue<Notification> queue;
+    private Thread worker;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        meterRegistry.gaugeCollectionSize("notification.queue.size", Tags.empty(), queue);
+
+        worker = new Thread(this::run, "notification-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Queue a notification for batched insert and push
+     */
+    public void publish(Notification notification) {
+        if (!queue.offer(notification)) {
+            meterRegistry.counter("notification.queue.overflow").increment();
+            flush(Collections.singletonList(notification));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void run() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                batch.add(queue.take());
+                if (lingerMs > 0) {
+                    Thread.sleep(lingerMs);
+                }
+            } catch (InterruptedException e) {
+                // Shutting down: write whatever is still queued
+                queue.drainTo(batch);
+                flushQuietly(batch);
+                return;
+            }
+
+            queue.drainTo(batch, batchSize - batch.size());
+            flushQuietly(batch);
+            batch.clear();
+        }
+    }
+
+    private void flushQuietly(List<Notification> batch) {
+        try {
+            flush(batch);
+        } catch (RuntimeException e) {
+            logger.error("Failed to dispatch {} notifications", batch.size(), e);
+        }
+    }
+
+    /**
+     * Insert a batch and push it, one message per user
+     */
+    void flush(List<Notification> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            insert(batch.subList(from, Math.min(from + batchSize, batch.size())));
+        }
+        meterRegistry.counter("notification.inserted").increment(batch.size());
+
+        Map<Long, List<Notification>> byUser = new LinkedHashMap<>();
+        for (Notification notification : batch) {
+            byUser.computeIfAbsent(notification.getUserId(), id -> new ArrayList<>()).add(notification);
+        }
+        byUser.forEach((userId, notifications) -> {
+            long unreadCount = unreadNotificationCounter.add(userId, notifications.size());
+            push(userId, new NotificationPush(notifications, unreadCount));
+        });
+    }
+
+    /**
+     * Push a user's unread count after notifications were read or deleted
+     */
+    public void pushUnreadCount(Long userId, long unreadCount) {
+        push(userId, new NotificationPush(Collections.emptyList(), unreadCount));
+    }
+
+    private void push(Long userId, NotificationPush push) {
+        webSocketPublisher.sendToUser(userId, "/queue/notifications", push);
+    }
+
+    private void insert(List<Notification> rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? INSERT_ROW : ", " + INSERT_ROW);
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS);
+            int p = 1;
+            for (Notification n : rows) {
+                ps.setLong(p++, n.getUserId());
+                ps.setString(p++, n.getType().name());
+                ps.setString(p++, n.getMessage());
+                ps.setBoolean(p++, Boolean.TRUE.equals(n.getRead()));
+                ps.setBoolean(p++, Boolean.TRUE.equals(n.getActionable()));
+                if (n.getRelatedId() != null) {
+                    ps.setLong(p++, n.getRelatedId());
+                } else {
+                    ps.setNull(p++, Types.BIGINT);
+                }
+                ps.setString(p++, n.getRelatedType());
+                ps.setTimestamp(p++, Timestamp.valueOf(n.getCreatedAt()));
+            }
+            return ps;
+        }, keyHolder);
+
+        // MySQL returns one generated key per inserted row, in order
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() == rows.size()) {
+            for (int i = 0; i < rows.size(); i++) {
+                Object key = keys.get(i).values().iterator().next();
+                rows.get(i).setId(((Number) key).longValue());
+            }
+        }
+    }
+}
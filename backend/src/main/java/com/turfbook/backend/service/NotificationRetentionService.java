@@ -0,0 +1,68 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.repository.NotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keeps the notifications table small by deleting notifications older than
+ * notification.retention.days. Rows are deleted in chunks, each in its own
+ * transaction, so the job never holds long locks on the hot table.
+ */
+@Service
+public class NotificationRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionService.class);
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${notification.retention.days:90}")
+    private int retentionDays;
+
+    @Value("${notification.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public void purgeExpiredNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+        int deleted = 0;
+        while (true) {
+            Integer chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = notificationRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, chunkSize));
+                return ids.isEmpty() ? 0 : notificationRepository.deleteByIdIn(ids);
+            });
+            if (chunk == null || chunk == 0) {
+                break;
+            }
+            deleted += chunk;
+        }
+
+        meterRegistry.counter("notification.retention.deleted").increment(deleted);
+        if (deleted > 0) {
+            // Some of the deleted notifications may have been unread
+            unreadNotificationCounter.clear();
+            logger.info("Deleted {} notifications older than {} days", deleted, retentionDays);
+        }
+    }
+}
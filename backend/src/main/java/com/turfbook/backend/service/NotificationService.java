@@ -1,14 +1,23 @@
 package com.turfbook.backend.service;
 
+import com.turfbook.backend.dto.response.NotificationPage;
 import com.turfbook.backend.model.Notification;
 import com.turfbook.backend.model.enums.NotificationType;
 import com.turfbook.backend.repository.NotificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Service
 public class NotificationService {
@@ -17,9 +26,22 @@ public class NotificationService {
     private NotificationRepository notificationRepository;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private NotificationDispatcher notificationDispatcher;
 
-    @Transactional
+    @Autowired
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Value("${notification.feed.page-size:50}")
+    private int feedPageSize;
+
+    @Value("${notification.feed.max-page-size:100}")
+    private int feedMaxPageSize;
+
+    /**
+     * Create a notification. It is handed to NotificationDispatcher only once
+     * the caller's transaction commits, so a rolled-back booking never notifies
+     * anyone and the caller pays for neither the insert nor the push.
+     */
     public void createNotification(Long userId, NotificationType type, String message, Long relatedId,
             String relatedType, Boolean actionable) {
         Notification notification = new Notification();
@@ -30,23 +52,70 @@ public class NotificationService {
         notification.setRelatedType(relatedType);
         notification.setActionable(actionable);
         notification.setRead(false);
+        notification.setCreatedAt(LocalDateTime.now());
 
-        Notification savedNotification = notificationRepository.save(notification);
-
-        // Send real-time update via WebSocket
-        messagingTemplate.convertAndSendToUser(userId.toString(), "/queue/notifications", savedNotification);
+        TransactionCallbacks.afterCommit(() -> notificationDispatcher.publish(notification));
     }
 
+    /**
+     * Most recent notifications for a user, capped at one feed page. Older
+     * notifications are reached through getNotificationFeed.
+     */
     public List<Notification> getUserNotifications(Long userId) {
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        return notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId,
+                PageRequest.of(0, feedPageSize));
     }
 
-    public List<Notification> getUnreadNotifications(Long userId) {
-        return notificationRepository.findByUserIdAndReadFalseOrderByCreatedAtDesc(userId);
+    /**
+     * One page of a user's notification feed, newest first
+     *
+     * @param userId User ID
+     * @param cursor nextCursor from the previous page, or null for the first page
+     * @param limit  Page size, capped at notification.feed.max-page-size
+     * @return Page of notifications and the cursor for the next one
+     */
+    public NotificationPage getNotificationFeed(Long userId, String cursor, Integer limit) {
+        return page(cursor, limit,
+                first -> notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, first),
+                (after, next) -> notificationRepository.findPageBefore(userId, after.createdAt(), after.id(), next));
+    }
+
+    /**
+     * One page of a user's unread notifications, newest first. Paged like
+     * getNotificationFeed, so a user with a long unread backlog never gets it
+     * all at once.
+     *
+     * @param userId User ID
+     * @param cursor nextCursor from the previous page, or null for the first page
+     * @param limit  Page size, capped at notification.feed.max-page-size
+     * @return Page of unread notifications and the cursor for the next one
+     */
+    public NotificationPage getUnreadNotifications(Long userId, String cursor, Integer limit) {
+        return page(cursor, limit,
+                first -> notificationRepository.findByUserIdAndReadFalseOrderByCreatedAtDescIdDesc(userId, first),
+                (after, next) -> notificationRepository.findUnreadPageBefore(userId, after.createdAt(), after.id(),
+                        next));
+    }
+
+    private NotificationPage page(String cursor, Integer limit, Function<PageRequest, List<Notification>> first,
+            BiFunction<FeedCursor, PageRequest, List<Notification>> next) {
+        int pageSize = limit != null ? Math.max(1, Math.min(limit, feedMaxPageSize)) : feedPageSize;
+        // Fetch one extra row to know whether another page follows
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> notifications = cursor == null || cursor.isEmpty() ? first.apply(page)
+                : next.apply(FeedCursor.decode(cursor), page);
+
+        if (notifications.size() <= pageSize) {
+            return new NotificationPage(notifications, null);
+        }
+        List<Notification> items = new ArrayList<>(notifications.subList(0, pageSize));
+        Notification last = items.get(items.size() - 1);
+        return new NotificationPage(items, new FeedCursor(last.getCreatedAt(), last.getId()).encode());
     }
 
     public Long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndReadFalse(userId);
+        return unreadNotificationCounter.get(userId);
     }
 
     @Transactional
@@ -58,16 +127,19 @@ public class NotificationService {
             throw new RuntimeException("Unauthorized access to notification");
         }
 
-        notification.setRead(true);
-        notificationRepository.save(notification);
+        if (!Boolean.TRUE.equals(notification.getRead())) {
+            notification.setRead(true);
+            notificationRepository.save(notification);
+            TransactionCallbacks.afterCommit(() -> applyUnreadDelta(userId, -1));
+        }
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = notificationRepository
-                .findByUserIdAndReadFalseOrderByCreatedAtDesc(userId);
-        unreadNotifications.forEach(n -> n.setRead(true));
-        notificationRepository.saveAll(unreadNotifications);
+        int marked = notificationRepository.markAllAsReadByUserId(userId);
+        if (marked > 0) {
+            TransactionCallbacks.afterCommit(() -> applyUnreadDelta(userId, -marked));
+        }
     }
 
     @Transactional
@@ -80,5 +152,36 @@ public class NotificationService {
         }
 
         notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getRead())) {
+            TransactionCallbacks.afterCommit(() -> applyUnreadDelta(userId, -1));
+        }
+    }
+
+    private void applyUnreadDelta(Long userId, long delta) {
+        long unreadCount = unreadNotificationCounter.add(userId, delta);
+        notificationDispatcher.pushUnreadCount(userId, unreadCount);
+    }
+
+    /**
+     * Position in a feed: the (createdAt, id) of the last notification returned,
+     * passed to clients as an opaque URL-safe string
+     */
+    private record FeedCursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static FeedCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new FeedCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
     }
 }
@@ -0,0 +1,298 @@
+package com.turfbook.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turfbook.backend.model.Turf;
+import com.turfbook.backend.model.TurfSlot;
+import com.turfbook.backend.repository.TurfRepository;
+import com.turfbook.backend.security.ExpiringCache;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dynamic slot pricing from Turf.pricingRules.
+ * Rules are parsed once per turf into CompiledRules and cached until the turf
+ * is updated (see OwnerController) or the entry expires. Evaluation works on
+ * cents and basis points only, so pricing a slot grid allocates nothing
+ * besides the resulting prices.
+ *
+ * Rules format (every part optional):
+ * <pre>
+ * {
+ *   "peakHours": [{ "days": ["MONDAY"], "start": "18:00", "end": "22:00", "multiplier": 1.5 }],
+ *   "weekendMultiplier": 1.2,
+ *   "surge": [{ "occupancy": 0.7, "multiplier": 1.1 }, { "occupancy": 0.9, "multiplier": 1.25 }]
+ * }
+ * </pre>
+ * A slot's base price (custom price, else the turf's base price) is
+ * multiplied by the weekend multiplier on Saturday and Sunday, by the highest
+ * peak window containing its start time (windows without "days" apply every
+ * day) and by the highest surge step whose occupancy the day has reached.
+ */
+@Service
+public class PricingEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(PricingEngine.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final BigDecimal DEFAULT_BASE_PRICE = new BigDecimal("1000");
+    public static final int ONE = 10_000; // Multipliers and occupancy in basis points
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Value("${pricing.cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${pricing.cache.max-size:10000}")
+    private int maxSize;
+
+    private ExpiringCache<Long, CompiledRules> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new ExpiringCache<>(maxSize);
+    }
+
+    /**
+     * Set the price of every slot of one turf and day, with surge based on
+     * the share of those slots that are booked or locked
+     */
+    public void priceDay(Long turfId, List<TurfSlot> slots) {
+        if (slots.isEmpty()) {
+            return;
+        }
+        CompiledRules rules = rulesFor(turfId);
+        int taken = 0;
+        for (TurfSlot slot : slots) {
+            if (!Boolean.TRUE.equals(slot.getIsAvailable()) || Boolean.TRUE.equals(slot.getIsLocked())) {
+                taken++;
+            }
+        }
+        int occupancyBp = taken * ONE / slots.size();
+        for (TurfSlot slot : slots) {
+            slot.setPrice(toPrice(rules.priceCents(slot.getDate().getDayOfWeek(),
+                    minuteOfDay(slot.getStartTime()), rules.baseCents(slot.getCustomPrice()), occupancyBp)));
+        }
+    }
+
+    /**
+     * Price of a single slot at the given occupancy of its day (0.0 - 1.0)
+     */
+    public BigDecimal price(Long turfId, TurfSlot slot, double occupancy) {
+        CompiledRules rules = rulesFor(turfId);
+        return toPrice(rules.priceCents(slot.getDate().getDayOfWeek(), minuteOfDay(slot.getStartTime()),
+                rules.baseCents(slot.getCustomPrice()), (int) Math.round(occupancy * ONE)));
+    }
+
+    /**
+     * Drop a turf's compiled rules, e.g. after its pricing changed
+     */
+    public void invalidate(Long turfId) {
+        cache.evict(turfId);
+    }
+
+    CompiledRules rulesFor(Long turfId) {
+        CompiledRules rules = cache.get(turfId);
+        if (rules != null) {
+            return rules;
+        }
+        Turf turf = turfRepository.findById(turfId)
+                .orElseThrow(() -> new RuntimeException("Turf not found"));
+        try {
+            rules = compile(turf.getPricingRules(), turf.getBasePrice());
+        } catch (IllegalArgumentException e) {
+            // Stored before rules were validated; price from the base price only
+            logger.warn("Ignoring invalid pricing rules of turf {}: {}", turfId, e.getMessage());
+            rules = compile(null, turf.getBasePrice());
+        }
+        cache.put(turfId, rules, System.currentTimeMillis() + ttlMs);
+        return rules;
+    }
+
+    /**
+     * Parse pricing rules into their compiled form
+     *
+     * @param pricingRules Rules JSON, may be null or blank
+     * @param basePrice    Turf base price, may be null
+     * @throws IllegalArgumentException if the rules are malformed
+     */
+    public static CompiledRules compile(String pricingRules, BigDecimal basePrice) {
+        long baseCents = toCents(basePrice != null && basePrice.signum() > 0 ? basePrice : DEFAULT_BASE_PRICE);
+        if (pricingRules == null || pricingRules.isBlank()) {
+            return new CompiledRules(baseCents, ONE, emptyWindows(), new int[0], new int[0]);
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(pricingRules);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Pricing rules are not valid JSON");
+        }
+        if (root == null || !root.isObject()) {
+            throw new IllegalArgumentException("Pricing rules must be a JSON object");
+        }
+
+        int weekendBp = root.has("weekendMultiplier") ? multiplier(root.get("weekendMultiplier")) : ONE;
+
+        // Peak windows grouped by weekday: [start minute, end minute, multiplier]
+        List<List<int[]>> byDay = new ArrayList<>();
+        for (int d = 0; d < 7; d++) {
+            byDay.add(new ArrayList<>());
+        }
+        for (JsonNode window : root.path("peakHours")) {
+            int start = minuteOfDay(time(window, "start"));
+            int end = minuteOfDay(time(window, "end"));
+            if (end <= start) {
+                throw new IllegalArgumentException("Peak hours must end after they start");
+            }
+            int[] compiled = { start, end, multiplier(window.get("multiplier")) };
+            JsonNode days = window.get("days");
+            if (days == null || days.isEmpty()) {
+                byDay.forEach(windows -> windows.add(compiled));
+            } else {
+                for (JsonNode day : days) {
+                    try {
+                        byDay.get(DayOfWeek.valueOf(day.asText().toUpperCase()).ordinal()).add(compiled);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Unknown day in peak hours: " + day.asText());
+                    }
+                }
+            }
+        }
+        int[][] peakWindows = new int[7][];
+        for (int d = 0; d < 7; d++) {
+            List<int[]> windows = byDay.get(d);
+            int[] flat = new int[windows.size() * 3];
+            for (int i = 0; i < windows.size(); i++) {
+                System.arraycopy(windows.get(i), 0, flat, i * 3, 3);
+            }
+            peakWindows[d] = flat;
+        }
+
+        // Surge steps sorted by occupancy threshold
+        List<int[]> steps = new ArrayList<>();
+        for (JsonNode step : root.path("surge")) {
+            double occupancy = step.path("occupancy").asDouble(-1);
+            if (occupancy < 0 || occupancy > 1) {
+                throw new IllegalArgumentException("Surge occupancy must be between 0 and 1");
+            }
+            steps.add(new int[] { (int) Math.round(occupancy * ONE), multiplier(step.get("multiplier")) });
+        }
+        steps.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] surgeThresholds = new int[steps.size()];
+        int[] surgeBp = new int[steps.size()];
+        for (int i = 0; i < steps.size(); i++) {
+            surgeThresholds[i] = steps.get(i)[0];
+            surgeBp[i] = steps.get(i)[1];
+        }
+
+        return new CompiledRules(baseCents, weekendBp, peakWindows, surgeThresholds, surgeBp);
+    }
+
+    private static int[][] emptyWindows() {
+        int[][] windows = new int[7][];
+        for (int d = 0; d < 7; d++) {
+            windows[d] = new int[0];
+        }
+        return windows;
+    }
+
+    private static int multiplier(JsonNode node) {
+        if (node == null || !node.isNumber() || node.asDouble() <= 0) {
+            throw new IllegalArgumentException("Multipliers must be positive numbers");
+        }
+        return (int) Math.round(node.asDouble() * ONE);
+    }
+
+    private static LocalTime time(JsonNode window, String field) {
+        try {
+            return LocalTime.parse(window.path(field).asText());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Peak hours need a " + field + " time such as 18:00");
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    private static BigDecimal toPrice(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Pricing rules of one turf, compiled to primitive arrays
+     */
+    public static final class CompiledRules {
+        private final long baseCents;
+        private final int weekendBp;
+        // Per weekday ordinal: flattened [start, end, multiplier] triples
+        private final int[][] peakWindows;
+        private final int[] surgeThresholds;
+        private final int[] surgeBp;
+
+        CompiledRules(long baseCents, int weekendBp, int[][] peakWindows, int[] surgeThresholds, int[] surgeBp) {
+            this.baseCents = baseCents;
+            this.weekendBp = weekendBp;
+            this.peakWindows = peakWindows;
+            this.surgeThresholds = surgeThresholds;
+            this.surgeBp = surgeBp;
+        }
+
+        /**
+         * Slot base price in cents: its custom price, else the turf's
+         */
+        public long baseCents(BigDecimal customPrice) {
+            return customPrice != null && customPrice.signum() > 0 ? toCents(customPrice) : baseCents;
+        }
+
+        /**
+         * Price in cents of a slot starting at startMinute
+         */
+        public long priceCents(DayOfWeek day, int startMinute, long baseCents, int occupancyBp) {
+            long bp = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY ? weekendBp : ONE;
+
+            int peak = ONE;
+            int[] windows = peakWindows[day.ordinal()];
+            for (int i = 0; i < windows.length; i += 3) {
+                if (startMinute >= windows[i] && startMinute < windows[i + 1] && windows[i + 2] > peak) {
+                    peak = windows[i + 2];
+                }
+            }
+            bp = bp * peak / ONE;
+
+            int surge = ONE;
+            for (int i = 0; i < surgeThresholds.length && occupancyBp >= surgeThresholds[i]; i++) {
+                surge = Math.max(surge, surgeBp[i]);
+            }
+            bp = bp * surge / ONE;
+
+            return (baseCents * bp + ONE / 2) / ONE;
+        }
+
+        /**
+         * Price a whole day of slots into out, without allocating
+         */
+        public void priceCents(DayOfWeek day, int[] startMinutes, long[] baseCents, int occupancyBp, long[] out) {
+            for (int i = 0; i < startMinutes.length; i++) {
+                out[i] = priceCents(day, startMinutes[i], baseCents[i], occupancyBp);
+            }
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.response.SlotDelta;
+import com.turfbook.backend.model.TurfSlot;
+import com.turfbook.backend.model.enums.SlotState;
+import com.turfbook.backend.repository.TurfSlotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * In-memory slot availability engine.
+ * Keeps one grid per turf and day with bitsets for booked and locked slots so
+ * the slot-grid read path does not need a DB round trip. Grids are loaded
+ * lazily on first access from the merged view of stored and virtual slots
+ * (see SlotScheduleService) and kept in sync by BookingService after
+ * each booking state transition commits. Every transition is also streamed to
+ * subscribers of the turf and day through SlotDeltaPublisher. Other backend
+ * instances are told to drop their copy of each changed grid through
+ * CacheInvalidationPublisher.
+ */
+@Service
+public class SlotAvailabilityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlotAvailabilityService.class);
+
+    @Autowired
+    private TurfSlotRepository turfSlotRepository;
+
+    @Autowired
+    private SlotScheduleService slotScheduleService;
+
+    @Autowired
+    private SlotDeltaPublisher slotDeltaPublisher;
+
+    @Autowired
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    private final Map<DayKey, DayGrid> grids = new ConcurrentHashMap<>();
+    private final Map<Long, DayGrid> gridsBySlotId = new ConcurrentHashMap<>();
+
+    // Bumped on every write so a grid loaded concurrently with a write is not
+    // cached with stale state
+    private final AtomicLong writeEpoch = new AtomicLong();
+    // Held while a loaded grid is checked against writeEpoch and published, and
+    // while writes touch the cached grids, so no write can slip in between
+    private final Object gridLock = new Object();
+
+    /**
+     * Get the slot grid for a turf on a date, loading it from the DB on first
+     * access
+     *
+     * @param turfId Turf ID
+     * @param date   Slot date
+     * @return Detached slot snapshots ordered by start time
+     */
+    public List<TurfSlot> getSlots(Long turfId, LocalDate date) {
+        return grid(turfId, date).snapshot();
+    }
+
+    /**
+     * Count free slots (available and not locked) for a turf on a date
+     */
+    public int countFreeSlots(Long turfId, LocalDate date) {
+        return grid(turfId, date).countFree();
+    }
+
+    /**
+     * Whether a turf has a free slot on a date that lies entirely within
+     * [from, to]
+     */
+    public boolean hasFreeSlot(Long turfId, LocalDate date, LocalTime from, LocalTime to) {
+        return grid(turfId, date).hasFreeWithin(from, to);
+    }
+
+    /**
+     * Share of a turf's slots on a date that are booked or locked (0.0 - 1.0)
+     */
+    public double occupancy(Long turfId, LocalDate date) {
+        DayGrid grid = grid(turfId, date);
+        int size = grid.size();
+        return size > 0 ? 1.0 - (double) grid.countFree() / size : 0.0;
+    }
+
+    /**
+     * Record that a slot has been locked for payment
+     */
+    public void markLocked(Long slotId, Long lockedBy, LocalDateTime lockedAt, LocalDateTime lockExpiresAt) {
+        TransactionCallbacks.afterCommit(() -> apply(List.of(slotId), SlotState.LOCKED,
+                (grid, id) -> grid.lock(id, lockedBy, lockedAt, lockExpiresAt)));
+    }
+
+    /**
+     * Record that a slot has been booked (made unavailable)
+     */
+    public void markBooked(Long slotId) {
+        TransactionCallbacks.afterCommit(() -> apply(List.of(slotId), SlotState.BOOKED, DayGrid::book));
+    }
+
+    /**
+     * Record that a slot lock has been released
+     */
+    public void markReleased(Long slotId) {
+        TransactionCallbacks.afterCommit(() -> apply(List.of(slotId), SlotState.AVAILABLE, DayGrid::release));
+    }
+
+    /**
+     * Record that a batch of slot locks has been released
+     */
+    public void markReleased(List<Long> slotIds) {
+        List<Long> ids = new ArrayList<>(slotIds);
+        TransactionCallbacks.afterCommit(() -> apply(ids, SlotState.AVAILABLE, DayGrid::release));
+    }
+
+    /**
+     * Drop the cached grid for a turf and day, e.g. after slots are generated
+     */
+    public void evict(Long turfId, LocalDate date) {
+        TransactionCallbacks.afterCommit(() -> {
+            dropGrid(turfId, date);
+            cacheInvalidationPublisher.slotsChanged(turfId, date);
+        });
+    }
+
+    /**
+     * Drop every cached grid of a turf, e.g. after its schedule changed
+     */
+    public void evictTurf(Long turfId) {
+        TransactionCallbacks.afterCommit(() -> {
+            dropTurf(turfId);
+            cacheInvalidationPublisher.turfChanged(turfId);
+        });
+    }
+
+    /**
+     * Drop this node's grid for a turf and day without telling other nodes
+     */
+    void dropGrid(Long turfId, LocalDate date) {
+        synchronized (gridLock) {
+            writeEpoch.incrementAndGet();
+            DayGrid grid = grids.remove(new DayKey(turfId, date));
+            if (grid != null) {
+                grid.unindexSlots(gridsBySlotId);
+            }
+        }
+    }
+
+    /**
+     * Drop this node's grids of a turf without telling other nodes
+     */
+    void dropTurf(Long turfId) {
+        synchronized (gridLock) {
+            writeEpoch.incrementAndGet();
+            grids.entrySet().removeIf(entry -> {
+                if (entry.getKey().turfId().equals(turfId)) {
+                    entry.getValue().unindexSlots(gridsBySlotId);
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * Drop grids for days that have passed so the engine stays bounded
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        grids.entrySet().removeIf(entry -> {
+            if (entry.getKey().date().isBefore(today)) {
+                entry.getValue().unindexSlots(gridsBySlotId);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private DayGrid grid(Long turfId, LocalDate date) {
+        DayKey key = new DayKey(turfId, date);
+        DayGrid grid = grids.get(key);
+        if (grid != null) {
+            return grid;
+        }
+
+        long epoch = writeEpoch.get();
+        DayGrid loaded = new DayGrid(key, slotScheduleService.getSlots(turfId, date));
+        synchronized (gridLock) {
+            if (epoch != writeEpoch.get()) {
+                // A booking changed state while we were loading; serve this read but don't
+                // cache it
+                return loaded;
+            }
+
+            grid = grids.putIfAbsent(key, loaded);
+            if (grid != null) {
+                return grid;
+            }
+            loaded.indexSlots(gridsBySlotId);
+        }
+        logger.debug("Loaded availability grid for turf {} on {} ({} slots)", turfId, date, loaded.size());
+        return loaded;
+    }
+
+    /**
+     * Apply a committed transition to the cached grids and stream it. Slots
+     * whose grid is not cached on this node are resolved to their turf and
+     * day with one query so subscribers still get the delta. Other nodes
+     * drop their copy of every grid touched.
+     */
+    private void apply(List<Long> slotIds, SlotState state, ToLongBiFunction<DayGrid, Long> update) {
+        List<Long> uncached = new ArrayList<>();
+        List<DayGrid> updatedGrids = new ArrayList<>();
+        List<SlotDelta> deltas = new ArrayList<>();
+        Set<DayKey> changed = new LinkedHashSet<>();
+        synchronized (gridLock) {
+            writeEpoch.incrementAndGet();
+            for (Long slotId : slotIds) {
+                DayGrid grid = gridsBySlotId.get(slotId);
+                if (grid == null) {
+                    uncached.add(slotId);
+                    continue;
+                }
+                long version = update.applyAsLong(grid, slotId);
+                updatedGrids.add(grid);
+                deltas.add(new SlotDelta(slotId, state, version >= 0 ? version : null));
+            }
+        }
+        for (int i = 0; i < deltas.size(); i++) {
+            DayGrid grid = updatedGrids.get(i);
+            slotDeltaPublisher.publish(grid.key.turfId(), grid.key.date(), deltas.get(i));
+            changed.add(grid.key);
+        }
+
+        if (!uncached.isEmpty()) {
+            for (Object[] row : turfSlotRepository.findTurfAndDateByIdIn(uncached)) {
+                slotDeltaPublisher.publish((Long) row[1], (LocalDate) row[2],
+                        new SlotDelta((Long) row[0], state, null));
+                changed.add(new DayKey((Long) row[1], (LocalDate) row[2]));
+            }
+        }
+        changed.forEach(key -> cacheInvalidationPublisher.slotsChanged(key.turfId(), key.date()));
+    }
+
+    private record DayKey(Long turfId, LocalDate date) {
+    }
+
+    /**
+     * Slot layout for one turf and day. Immutable slot attributes are held in
+     * parallel arrays; booking state is held in two bitsets.
+     */
+    private static final class DayGrid {
+        private final DayKey key;
+        private final long[] ids;
+        private final LocalTime[] startTimes;
+        private final LocalTime[] endTimes;
+        private final BigDecimal[] customPrices;
+        private final long[] versions;
+        private final Long[] lockedBy;
+        private final LocalDateTime[] lockedAt;
+        private final LocalDateTime[] lockExpiresAt;
+        private final BitSet booked;
+        private final BitSet locked;
+
+        DayGrid(DayKey key, List<TurfSlot> slots) {
+            List<TurfSlot> sorted = new ArrayList<>(slots);
+            sorted.sort(Comparator.comparing(TurfSlot::getStartTime));
+
+            int n = sorted.size();
+            this.key = key;
+            this.ids = new long[n];
+            this.startTimes = new LocalTime[n];
+            this.endTimes = new LocalTime[n];
+            this.customPrices = new BigDecimal[n];
+            this.versions = new long[n];
+            this.lockedBy = new Long[n];
+            this.lockedAt = new LocalDateTime[n];
+            this.lockExpiresAt = new LocalDateTime[n];
+            this.booked = new BitSet(n);
+            this.locked = new BitSet(n);
+
+            for (int i = 0; i < n; i++) {
+                TurfSlot slot = sorted.get(i);
+                ids[i] = slot.getId();
+                startTimes[i] = slot.getStartTime();
+                endTimes[i] = slot.getEndTime();
+                customPrices[i] = slot.getCustomPrice();
+                versions[i] = slot.getVersion() != null ? slot.getVersion() : 0L;
+                if (!Boolean.TRUE.equals(slot.getIsAvailable())) {
+                    booked.set(i);
+                }
+                if (Boolean.TRUE.equals(slot.getIsLocked())) {
+                    locked.set(i);
+                    lockedBy[i] = slot.getLockedBy();
+                    lockedAt[i] = slot.getLockedAt();
+                    lockExpiresAt[i] = slot.getLockExpiresAt();
+                }
+            }
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        void indexSlots(Map<Long, DayGrid> index) {
+            for (long id : ids) {
+                index.put(id, this);
+            }
+        }
+
+        void unindexSlots(Map<Long, DayGrid> index) {
+            for (long id : ids) {
+                index.remove(id, this);
+            }
+        }
+
+        // Each update returns the slot's new version, or -1 if it is not in this grid
+
+        synchronized long lock(Long slotId, Long by, LocalDateTime at, LocalDateTime expiresAt) {
+            int i = indexOf(slotId);
+            if (i < 0) {
+                return -1;
+            }
+            locked.set(i);
+            lockedBy[i] = by;
+            lockedAt[i] = at;
+            lockExpiresAt[i] = expiresAt;
+            return ++versions[i];
+        }
+
+        synchronized long book(Long slotId) {
+            int i = indexOf(slotId);
+            if (i < 0) {
+                return -1;
+            }
+            booked.set(i);
+            clearLock(i);
+            return ++versions[i];
+        }
+
+        synchronized long release(Long slotId) {
+            int i = indexOf(slotId);
+            if (i < 0) {
+                return -1;
+            }
+            if (locked.get(i)) {
+                clearLock(i);
+                versions[i]++;
+            }
+            return versions[i];
+        }
+
+        synchronized int countFree() {
+            BitSet free = new BitSet(ids.length);
+            free.set(0, ids.length);
+            free.andNot(booked);
+            free.andNot(locked);
+            return free.cardinality();
+        }
+
+        synchronized boolean hasFreeWithin(LocalTime from, LocalTime to) {
+            for (int i = 0; i < ids.length && !startTimes[i].isAfter(to); i++) {
+                if (!startTimes[i].isBefore(from) && !endTimes[i].isAfter(to) && !booked.get(i) && !locked.get(i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized List<TurfSlot> snapshot() {
+            List<TurfSlot> result = new ArrayList<>(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                TurfSlot slot = new TurfSlot();
+                slot.setId(ids[i]);
+                slot.setTurfId(key.turfId());
+                slot.setDate(key.date());
+                slot.setStartTime(startTimes[i]);
+                slot.setEndTime(endTimes[i]);
+                slot.setCustomPrice(customPrices[i]);
+                slot.setVersion(versions[i]);
+                slot.setIsAvailable(!booked.get(i));
+                slot.setIsLocked(locked.get(i));
+                slot.setLockedBy(lockedBy[i]);
+                slot.setLockedAt(lockedAt[i]);
+                slot.setLockExpiresAt(lockExpiresAt[i]);
+                result.add(slot);
+            }
+            return result;
+        }
+
+        private void clearLock(int i) {
+            locked.clear(i);
+            lockedBy[i] = null;
+            lockedAt[i] = null;
+            lockExpiresAt[i] = null;
+        }
+
+        private int indexOf(Long slotId) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == slotId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
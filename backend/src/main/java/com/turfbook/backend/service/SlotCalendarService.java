@@ -0,0 +1,364 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.request.SlotCalendarRequest;
+import com.turfbook.backend.dto.response.SlotGenerationResult;
+import com.turfbook.backend.model.Turf;
+import com.turfbook.backend.model.TurfScheduleTemplate;
+import com.turfbook.backend.model.TurfSlot;
+import com.turfbook.backend.repository.TurfRepository;
+import com.turfbook.backend.repository.TurfScheduleTemplateRepository;
+import com.turfbook.backend.repository.TurfSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Time;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slot generation for one day or a whole calendar, turf schedules and
+ * materialization of virtual slots.
+ * TurfSlot uses IDENTITY ids, so Hibernate cannot batch its inserts; slots are
+ * written here with multi-row INSERTs instead, one per turf and day, in one
+ * transaction per chunk.
+ * Generation is idempotent: start times a turf already has on a day are
+ * skipped, so re-running a calendar only fills the gaps.
+ */
+@Service
+public class SlotCalendarService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlotCalendarService.class);
+    private static final String INSERT_PREFIX = "INSERT INTO turf_slots "
+            + "(turf_id, slot_date, start_time, end_time, is_available, is_locked, custom_price, version) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    // Leaves a slot a concurrent run inserted between the existence check and
+    // the insert (idx_turf_slots_unique) as it is; unlike IGNORE, every other
+    // error still fails the statement. With useAffectedRows such a row counts 0
+    // and an inserted one 1.
+    private static final String INSERT_SUFFIX = " ON DUPLICATE KEY UPDATE id = id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private TurfSlotRepository turfSlotRepository;
+
+    @Autowired
+    private TurfScheduleTemplateRepository turfScheduleTemplateRepository;
+
+    @Autowired
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Autowired
+    private SlotScheduleService slotScheduleService;
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${slots.generation.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${slots.generation.max-days:366}")
+    private int maxDays;
+
+    /**
+     * Generate slots for every owned turf and every date in the range from the
+     * templates matching that date's weekday
+     */
+    public SlotGenerationResult generateCalendar(Long ownerId, SlotCalendarRequest request) {
+        if (request.getTurfIds() == null || request.getTurfIds().isEmpty()) {
+            throw new RuntimeException("At least one turf is required");
+        }
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            throw new RuntimeException("Start and end date are required");
+        }
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new RuntimeException("End date cannot be before start date");
+        }
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) >= maxDays) {
+            throw new RuntimeException("Date range cannot exceed " + maxDays + " days");
+        }
+        if (request.getTemplates() == null || request.getTemplates().isEmpty()) {
+            throw new RuntimeException("At least one template is required");
+        }
+        for (SlotCalendarRequest.DayTemplate template : request.getTemplates()) {
+            validateTemplate(template);
+        }
+
+        List<Long> turfIds = new ArrayList<>(new LinkedHashSet<>(request.getTurfIds()));
+        List<Turf> turfs = turfRepository.findAllById(turfIds);
+        if (turfs.size() != turfIds.size()) {
+            throw new RuntimeException("Turf not found");
+        }
+        for (Turf turf : turfs) {
+            if (!turf.getOwnerId().equals(ownerId)) {
+                throw new RuntimeException("You do not own this turf");
+            }
+        }
+
+        // Keyed by turf, date and start so overlapping templates yield one slot
+        Map<SlotKey, TurfSlot> planned = new LinkedHashMap<>();
+        for (Long turfId : turfIds) {
+            for (LocalDate date = request.getStartDate(); !date.isAfter(request.getEndDate()); date = date
+                    .plusDays(1)) {
+                for (SlotCalendarRequest.DayTemplate template : request.getTemplates()) {
+                    if (!template.getDaysOfWeek().contains(date.getDayOfWeek())) {
+                        continue;
+                    }
+                    for (TurfSlot slot : SlotScheduleService.layOut(turfId, date, template.getStartTime(), template.getEndTime(),
+                            template.getSlotDurationMinutes(), template.getPrice())) {
+                        planned.putIfAbsent(new SlotKey(turfId, date, slot.getStartTime()), slot);
+                    }
+                }
+            }
+        }
+
+        SlotGenerationResult result = insertMissing(turfIds, request.getStartDate(), request.getEndDate(),
+                new ArrayList<>(planned.values()));
+        logger.info("Owner {} generated {} slots ({} already existed) for {} turfs in {} ms ({} slots/s)",
+                ownerId, result.getSlotsInserted(), result.getSlotsSkipped(), turfIds.size(),
+                result.getElapsedMs(), result.getSlotsPerSecond());
+        return result;
+    }
+
+    /**
+     * Generate one day's slots for a turf and return all of that day's slots
+     */
+    public List<TurfSlot> generateDay(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime,
+            int slotDurationMinutes, BigDecimal price) {
+        validateTemplate(new SlotCalendarRequest.DayTemplate(List.of(date.getDayOfWeek()), startTime, endTime,
+                slotDurationMinutes, price));
+        insertMissing(List.of(turfId), date, date,
+                SlotScheduleService.layOut(turfId, date, startTime, endTime, slotDurationMinutes, price));
+        return slotAvailabilityService.getSlots(turfId, date);
+    }
+
+    /**
+     * Write the row for a virtual slot so it can be locked or booked. Stored
+     * slot IDs are returned unchanged.
+     *
+     * @param turfId Turf the slot is booked on
+     * @param slotId Stored or virtual slot ID
+     * @return Stored slot ID
+     */
+    public Long materialize(Long turfId, Long slotId) {
+        if (!SlotScheduleService.isVirtual(slotId)) {
+            return slotId;
+        }
+        TurfSlot slot = slotScheduleService.resolveVirtualSlot(slotId);
+        if (!slot.getTurfId().equals(turfId)) {
+            throw new RuntimeException("Slot not found: " + slotId);
+        }
+
+        // Once the first booking wrote the row, later ones only need the lookup
+        Optional<TurfSlot> existing = turfSlotRepository.findByTurfIdAndDateAndStartTime(turfId, slot.getDate(),
+                slot.getStartTime());
+        if (existing.isPresent()) {
+            return existing.get().getId();
+        }
+
+        // Occupancy counts template slots without a row from the template, so a
+        // new row moves its slot into the rollup. A concurrent materialization on
+        // another node inserts nothing and both callers resolve the same row.
+        Integer inserted = transactionTemplate.execute(status -> {
+            int count = insertRows(List.of(slot));
+            analyticsRollupService.onSlotsGenerated(turfId, slot.getDate(), count);
+            return count;
+        });
+        TurfSlot stored = turfSlotRepository
+                .findByTurfIdAndDateAndStartTime(turfId, slot.getDate(), slot.getStartTime())
+                .orElseThrow(() -> new RuntimeException("Slot not found: " + slotId));
+        if (inserted != null && inserted > 0) {
+            meterRegistry.counter("slots.materialized").increment();
+            // Reload the grid so it holds the stored ID instead of the virtual one
+            slotAvailabilityService.evict(turfId, slot.getDate());
+        }
+        return stored.getId();
+    }
+
+    /**
+     * Get the weekly schedule of a turf
+     */
+    public List<TurfScheduleTemplate> getSchedule(Long turfId) {
+        return turfScheduleTemplateRepository.findByTurfIdOrderByDayOfWeek(turfId);
+    }
+
+    /**
+     * Replace the weekly schedule of a turf. Stored slots are kept; cached grids
+     * of the turf are dropped so the new schedule applies right away.
+     */
+    public List<TurfScheduleTemplate> updateSchedule(Long ownerId, Long turfId,
+            List<TurfScheduleTemplate> templates) {
+        Turf turf = turfRepository.findById(turfId)
+                .orElseThrow(() -> new RuntimeException("Turf not found"));
+        if (!turf.getOwnerId().equals(ownerId)) {
+            throw new RuntimeException("You do not own this turf");
+        }
+
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (TurfScheduleTemplate template : templates) {
+            if (template.getDayOfWeek() == null) {
+                throw new RuntimeException("Day of week is required");
+            }
+            if (!days.add(template.getDayOfWeek())) {
+                throw new RuntimeException("Only one template per day is allowed");
+            }
+            validateTemplate(new SlotCalendarRequest.DayTemplate(List.of(template.getDayOfWeek()),
+                    template.getOpenTime(), template.getCloseTime(),
+                    template.getSlotDurationMinutes() != null ? template.getSlotDurationMinutes() : 0,
+                    template.getPrice()));
+            template.setId(null);
+            template.setTurfId(turfId);
+        }
+
+        List<TurfScheduleTemplate> saved = transactionTemplate.execute(status -> {
+            turfScheduleTemplateRepository.deleteByTurfId(turfId);
+            return turfScheduleTemplateRepository.saveAll(templates);
+        });
+        slotAvailabilityService.evictTurf(turfId);
+        return saved;
+    }
+
+    private void validateTemplate(SlotCalendarRequest.DayTemplate template) {
+        if (template.getDaysOfWeek() == null || template.getDaysOfWeek().isEmpty()) {
+            throw new RuntimeException("At least one weekday is required");
+        }
+        if (template.getStartTime() == null || template.getEndTime() == null) {
+            throw new RuntimeException("Start and end time are required");
+        }
+        if (template.getSlotDurationMinutes() <= 0) {
+            throw new RuntimeException("Slot duration must be greater than 0");
+        }
+        if (template.getEndTime().isBefore(template.getStartTime())) {
+            throw new RuntimeException("End time cannot be before start time (overnight slots not supported yet)");
+        }
+    }
+
+    /**
+     * Insert the planned slots that do not exist yet, in chunks of batchSize
+     */
+    private SlotGenerationResult insertMissing(List<Long> turfIds, LocalDate startDate, LocalDate endDate,
+            List<TurfSlot> planned) {
+        long startNanos = System.nanoTime();
+
+        Set<SlotKey> existing = new HashSet<>();
+        for (Object[] row : turfSlotRepository.findSlotStartsByTurfIdInAndDateBetween(turfIds, startDate,
+                endDate)) {
+            existing.add(new SlotKey((Long) row[0], (LocalDate) row[1], (LocalTime) row[2]));
+        }
+        List<TurfSlot> missing = new ArrayList<>();
+        for (TurfSlot slot : planned) {
+            if (!existing.contains(new SlotKey(slot.getTurfId(), slot.getDate(), slot.getStartTime()))) {
+                missing.add(slot);
+            }
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<TurfSlot> chunk = missing.subList(from, Math.min(from + batchSize, missing.size()));
+            Integer count = transactionTemplate.execute(status -> insertChunk(chunk));
+            inserted += count != null ? count : 0;
+
+            // Committed: drop cached grids so the new slots show up
+            for (DayKey day : groupByDay(chunk).keySet()) {
+                slotAvailabilityService.evict(day.turfId(), day.date());
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        meterRegistry.counter("slots.generation.inserted").increment(inserted);
+        meterRegistry.timer("slots.generation.duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        return new SlotGenerationResult(planned.size(), inserted, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    /**
+     * Insert a chunk with one statement per turf and day, so each statement's
+     * affected rows are exactly the slots it added to that day's rollup
+     */
+    private int insertChunk(List<TurfSlot> rows) {
+        int inserted = 0;
+        for (Map.Entry<DayKey, List<TurfSlot>> day : groupByDay(rows).entrySet()) {
+            int count = insertRows(day.getValue());
+            analyticsRollupService.onSlotsGenerated(day.getKey().turfId(), day.getKey().date(), count);
+            inserted += count;
+        }
+        if (inserted < rows.size()) {
+            logger.warn("{} of {} slots were inserted concurrently by another run", rows.size() - inserted,
+                    rows.size());
+        }
+        return inserted;
+    }
+
+    private int insertRows(List<TurfSlot> rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? INSERT_ROW : ", " + INSERT_ROW);
+        }
+        sql.append(INSERT_SUFFIX);
+
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            int p = 1;
+            for (TurfSlot slot : rows) {
+                ps.setLong(p++, slot.getTurfId());
+                ps.setDate(p++, Date.valueOf(slot.getDate()));
+                ps.setTime(p++, Time.valueOf(slot.getStartTime()));
+                ps.setTime(p++, Time.valueOf(slot.getEndTime()));
+                ps.setBoolean(p++, true);
+                ps.setBoolean(p++, false);
+                if (slot.getCustomPrice() != null) {
+                    ps.setBigDecimal(p++, slot.getCustomPrice());
+                } else {
+                    ps.setNull(p++, Types.DECIMAL);
+                }
+                ps.setLong(p++, 0L);
+            }
+            return ps;
+        });
+    }
+
+    private static Map<DayKey, List<TurfSlot>> groupByDay(List<TurfSlot> slots) {
+        Map<DayKey, List<TurfSlot>> perDay = new LinkedHashMap<>();
+        for (TurfSlot slot : slots) {
+            perDay.computeIfAbsent(new DayKey(slot.getTurfId(), slot.getDate()), day -> new ArrayList<>()).add(slot);
+        }
+        return perDay;
+    }
+
+    private record DayKey(Long turfId, LocalDate date) {
+    }
+
+    private record SlotKey(Long turfId, LocalDate date, LocalTime startTime) {
+    }
+}
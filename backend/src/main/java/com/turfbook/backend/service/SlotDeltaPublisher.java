@@ -0,0 +1,86 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.response.SlotDelta;
+import com.turfbook.backend.dto.response.SlotDeltaPush;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams slot-grid changes on /topic/turfs/{turfId}/{date}/slots.
+ * Deltas for one turf and day are coalesced for slots.delta.coalesce-ms: the
+ * first delta opens a window, later ones overwrite earlier states of the same
+ * slot, and the window closes with a single push.
+ */
+@Component
+public class SlotDeltaPublisher {
+
+    @Autowired
+    private WebSocketPublisher webSocketPublisher;
+
+    @Value("${slots.delta.coalesce-ms:100}")
+    private long coalesceMs;
+
+    private final Map<GridKey, Map<Long, SlotDelta>> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slot-delta-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        new ArrayList<>(pending.keySet()).forEach(this::flush);
+    }
+
+    /**
+     * Queue a slot's new state for its turf and day topic
+     */
+    public void publish(Long turfId, LocalDate date, SlotDelta delta) {
+        GridKey key = new GridKey(turfId, date);
+        boolean[] opened = { false };
+        pending.compute(key, (k, deltas) -> {
+            if (deltas == null) {
+                deltas = new LinkedHashMap<>();
+                opened[0] = true;
+            }
+            deltas.put(delta.getSlotId(), delta);
+            return deltas;
+        });
+        if (opened[0]) {
+            scheduler.schedule(() -> flush(key), coalesceMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public static String topic(Long turfId, LocalDate date) {
+        return "/topic/turfs/" + turfId + "/" + date + "/slots";
+    }
+
+    void flush(GridKey key) {
+        Map<Long, SlotDelta> deltas = pending.remove(key);
+        if (deltas != null) {
+            webSocketPublisher.send(topic(key.turfId(), key.date()),
+                    new SlotDeltaPush(key.turfId(), key.date(), new ArrayList<>(deltas.values())));
+        }
+    }
+
+    record GridKey(Long turfId, LocalDate date) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.turfbook.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-process lock manager keyed by slot ID.
+ * Contenders for the same slot are rejected fast, before they open a
+ * transaction or take a DB connection; different slots never contend. A
+ * slot's lock exists only while someone holds or waits for it. The DB stays
+ * the final consistency check, so this only needs to be correct within one
+ * node.
+ */
+@Component
+public class SlotLockManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlotLockManager.class);
+
+    @Value("${booking.slot-lock.wait-ms:50}")
+    private long waitMs;
+
+    private final Map<Long, SlotLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Run an action while holding the lock for a slot.
+     * If the action leaves a transaction open (because the caller was already
+     * transactional), the lock is held until that transaction completes.
+     *
+     * @param slotId Slot ID
+     * @param action Action to run
+     * @return Result of the action
+     * @throws RuntimeException if the slot is being booked by another request
+     */
+    public <T> T withSlotLock(Long slotId, Supplier<T> action) {
+        SlotLock lock = acquire(slotId);
+        if (!tryLock(lock.lock)) {
+            release(slotId);
+            logger.warn("Rejected contended booking attempt on slot {}", slotId);
+            throw new RuntimeException("Slot is currently being booked by another user");
+        }
+
+        boolean deferred = false;
+        try {
+            T result = action.get();
+            deferred = TransactionCallbacks.afterCompletion(() -> unlock(slotId, lock));
+            return result;
+        } finally {
+            if (!deferred) {
+                unlock(slotId, lock);
+            }
+        }
+    }
+
+    /**
+     * Number of slots currently locked or waited on
+     */
+    int activeLocks() {
+        return locks.size();
+    }
+
+    private boolean tryLock(ReentrantLock lock) {
+        try {
+            return lock.tryLock(waitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void unlock(Long slotId, SlotLock lock) {
+        lock.lock.unlock();
+        release(slotId);
+    }
+
+    /**
+     * Get the slot's lock, creating it if needed, and count this caller as a
+     * user of it
+     */
+    private SlotLock acquire(Long slotId) {
+        return locks.compute(slotId, (id, lock) -> {
+            SlotLock held = lock != null ? lock : new SlotLock();
+            held.users++;
+            return held;
+        });
+    }
+
+    /**
+     * Stop using the slot's lock, dropping it once nobody holds or waits for it
+     */
+    private void release(Long slotId) {
+        locks.computeIfPresent(slotId, (id, lock) -> --lock.users == 0 ? null : lock);
+    }
+
+    private static final class SlotLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        // Guarded by the map's compute on the slot's entry
+        private int users;
+    }
+}
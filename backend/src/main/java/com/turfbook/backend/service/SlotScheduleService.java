@@ -0,0 +1,160 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.TurfScheduleTemplate;
+import com.turfbook.backend.model.TurfSlot;
+import com.turfbook.backend.repository.TurfScheduleTemplateRepository;
+import com.turfbook.backend.repository.TurfSlotRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Merged view of stored and virtual slots.
+ * On days covered by a turf's schedule template, slots that have no TurfSlot
+ * row yet are computed from the template and carry a negative virtual ID that
+ * encodes turf, date and start time. SlotCalendarService.materialize turns a
+ * virtual ID into a row when the slot is locked or booked.
+ */
+@Service
+public class SlotScheduleService {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // Low bits hold epochDay * 1440 + minuteOfDay (good until the year 2225)
+    private static final int SLOT_BITS = 27;
+    private static final long SLOT_MASK = (1L << SLOT_BITS) - 1;
+
+    @Autowired
+    private TurfSlotRepository turfSlotRepository;
+
+    @Autowired
+    private TurfScheduleTemplateRepository turfScheduleTemplateRepository;
+
+    /**
+     * Get stored slots for a turf and day plus the template slots that do not
+     * overlap any of them
+     *
+     * @param turfId Turf ID
+     * @param date   Slot date
+     * @return Stored and virtual slots, unordered
+     */
+    public List<TurfSlot> getSlots(Long turfId, LocalDate date) {
+        List<TurfSlot> stored = turfSlotRepository.findByTurfIdAndDate(turfId, date);
+        Optional<TurfScheduleTemplate> template = turfScheduleTemplateRepository.findByTurfIdAndDayOfWeek(turfId,
+                date.getDayOfWeek());
+        if (template.isEmpty()) {
+            return stored;
+        }
+
+        List<TurfSlot> slots = new ArrayList<>(stored);
+        for (TurfSlot slot : layOut(turfId, date, template.get())) {
+            if (!overlapsAny(slot, stored)) {
+                slot.setId(virtualId(turfId, date, slot.getStartTime()));
+                slots.add(slot);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Resolve a virtual slot ID to the unsaved slot it stands for
+     *
+     * @param slotId Virtual slot ID
+     * @return Slot to materialize, without an ID
+     */
+    public TurfSlot resolveVirtualSlot(Long slotId) {
+        if (!isVirtual(slotId)) {
+            throw new RuntimeException("Slot not found: " + slotId);
+        }
+        long encoded = -slotId;
+        Long turfId = encoded >>> SLOT_BITS;
+        long dayMinute = encoded & SLOT_MASK;
+        LocalDate date = LocalDate.ofEpochDay(dayMinute / MINUTES_PER_DAY);
+        int start = (int) (dayMinute % MINUTES_PER_DAY);
+
+        TurfScheduleTemplate template = turfScheduleTemplateRepository
+                .findByTurfIdAndDayOfWeek(turfId, date.getDayOfWeek())
+                .orElseThrow(() -> new RuntimeException("Slot not found: " + slotId));
+        int open = minuteOfDay(template.getOpenTime());
+        int duration = template.getSlotDurationMinutes();
+        if (start < open || (start - open) % duration != 0 || start + duration > minuteOfDay(template.getCloseTime())) {
+            // Schedule changed since the client loaded the grid
+            throw new RuntimeException("Slot not found: " + slotId);
+        }
+        return slot(turfId, date, start, duration, template.getPrice());
+    }
+
+    public static boolean isVirtual(Long slotId) {
+        return slotId != null && slotId < 0;
+    }
+
+    static long virtualId(Long turfId, LocalDate date, LocalTime startTime) {
+        return -((turfId << SLOT_BITS) | (date.toEpochDay() * MINUTES_PER_DAY + minuteOfDay(startTime)));
+    }
+
+    /**
+     * Slots a template yields on a day
+     */
+    public static List<TurfSlot> layOut(Long turfId, LocalDate date, TurfScheduleTemplate template) {
+        return layOut(turfId, date, template.getOpenTime(), template.getCloseTime(),
+                template.getSlotDurationMinutes(), template.getPrice());
+    }
+
+    /**
+     * Consecutive slots of the given length that fit between start and end.
+     * Works in minutes of the day so a slot can never wrap past midnight.
+     */
+    public static List<TurfSlot> layOut(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime,
+            int slotDurationMinutes, BigDecimal price) {
+        int end = minuteOfDay(endTime);
+        List<TurfSlot> slots = new ArrayList<>();
+        for (int start = minuteOfDay(startTime); start + slotDurationMinutes <= end; start += slotDurationMinutes) {
+            slots.add(slot(turfId, date, start, slotDurationMinutes, price));
+        }
+        return slots;
+    }
+
+    /**
+     * Number of slots a template yields on each of its days
+     */
+    public static int slotCount(TurfScheduleTemplate template) {
+        int open = minuteOfDay(template.getOpenTime());
+        int close = minuteOfDay(template.getCloseTime());
+        return close > open ? (close - open) / template.getSlotDurationMinutes() : 0;
+    }
+
+    private static TurfSlot slot(Long turfId, LocalDate date, int start, int duration, BigDecimal price) {
+        TurfSlot slot = new TurfSlot();
+        slot.setTurfId(turfId);
+        slot.setDate(date);
+        slot.setStartTime(LocalTime.ofSecondOfDay(start * 60L));
+        slot.setEndTime(LocalTime.ofSecondOfDay((start + duration) * 60L));
+        slot.setCustomPrice(price);
+        slot.setIsAvailable(true);
+        slot.setIsLocked(false);
+        slot.setVersion(0L);
+        return slot;
+    }
+
+    static boolean overlapsAny(TurfSlot slot, List<TurfSlot> others) {
+        for (TurfSlot other : others) {
+            if (overlaps(slot.getStartTime(), slot.getEndTime(), other.getStartTime(), other.getEndTime())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean overlaps(LocalTime start, LocalTime end, LocalTime otherStart, LocalTime otherEnd) {
+        return start.isBefore(otherEnd) && otherStart.isBefore(end);
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -4,6 +4,7 @@ import com.turfbook.backend.dto.request.TeamRequest;
 import com.turfbook.backend.dto.response.TeamResponse;
 import com.turfbook.backend.dto.response.UserResponse;
 import com.turfbook.backend.model.Team;
+import com.turfbook.backend.model.TeamMember;
 import com.turfbook.backend.model.User;
 import com.turfbook.backend.repository.TeamMemberRepository;
 import com.turfbook.backend.repository.TeamRepository;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -52,6 +54,7 @@ public class TeamService {
         member.setUserId(userId);
         member.setRole("CAPTAIN");
         member.setStatus("ACCEPTED");
+        member.setUser(captain);
         teamMemberRepository.save(member);
 
         return mapToResponse(savedTeam);
@@ -69,6 +72,9 @@ public class TeamService {
 
         // Check if they are friends
         // Requirement: "Only friends with status = ACCEPTED can be added to a team"
+        // Read from the database, not FriendGraph: the graph can lag a
+        // removal by up to a refresh, which is fine for suggestions but not
+        // for authorization
         boolean areFriends = friendRepository.findFriendship(invitedBy, userId)
                 .map(f -> f.getStatus() == com.turfbook.backend.model.enums.FriendStatus.ACCEPTED)
                 .orElse(false);
@@ -170,26 +176,36 @@ public class TeamService {
 
     public List<TeamResponse> getMyTeams(Long userId) {
         // Find teams where user is a member (ACCEPTED)
-        List<com.turfbook.backend.model.TeamMember> memberships = teamMemberRepository.findByUserId(userId);
-        return memberships.stream()
-                .filter(m -> "ACCEPTED".equals(m.getStatus()))
-                .map(m -> teamRepository.findById(m.getTeamId()).orElse(null))
-                .filter(java.util.Objects::nonNull)
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return getTeamsByMembership(userId, "ACCEPTED");
     }
 
     public List<TeamResponse> getPendingInvites(Long userId) {
-        List<com.turfbook.backend.model.TeamMember> memberships = teamMemberRepository.findByUserId(userId);
-        return memberships.stream()
-                .filter(m -> "INVITED".equals(m.getStatus()))
-                .map(m -> teamRepository.findById(m.getTeamId()).orElse(null))
-                .filter(java.util.Objects::nonNull)
-                .map(this::mapToResponse)
+        return getTeamsByMembership(userId, "INVITED");
+    }
+
+    /**
+     * Teams where the user's membership has the given status, with their
+     * accepted members. Two queries however many teams and members there are.
+     */
+    private List<TeamResponse> getTeamsByMembership(Long userId, String status) {
+        List<Team> teams = teamRepository.findByMemberUserIdAndStatus(userId, status);
+        if (teams.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<TeamMember>> members = teamMemberRepository
+                .findAcceptedWithUserByTeamIdIn(teams.stream().map(Team::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(TeamMember::getTeamId));
+        return teams.stream()
+                .map(team -> mapToResponse(team, members.getOrDefault(team.getId(), List.of())))
                 .collect(Collectors.toList());
     }
 
     private TeamResponse mapToResponse(Team team) {
+        return mapToResponse(team, teamMemberRepository.findAcceptedWithUserByTeamIdIn(List.of(team.getId())));
+    }
+
+    private TeamResponse mapToResponse(Team team, List<TeamMember> acceptedMembers) {
         TeamResponse response = new TeamResponse();
         response.setId(team.getId());
         response.setName(team.getName());
@@ -197,24 +213,9 @@ public class TeamService {
         response.setCaptainId(team.getCaptainId());
         response.setSkillRating(team.getSkillRating());
 
-        // Fetch members
-        List<com.turfbook.backend.model.TeamMember> members = teamMemberRepository.findByTeamId(team.getId());
-        response.setMembers(members.stream()
-                .filter(m -> "ACCEPTED".equals(m.getStatus())) // Only show accepted members in public view?
-                // Or maybe show invited ones too? Requirement: "Friend sees: status = PENDING"
-                // For now, let's return all and let frontend filter, or just accepted.
-                // Usually "Team Members" list shows active members.
-                .map(m -> {
-                    // We need User object.
-                    // Since I added @ManyToOne User user in TeamMember, I can use it.
-                    // But I need to fetch it.
-                    // If I use lazy loading, I might need @Transactional on this method.
-                    // Or rely on the fact that I just fetched them.
-                    // Let's assume TeamMember has User loaded or I fetch it.
-                    // Actually TeamMemberRepository.findByTeamId might return proxies.
-                    // Let's use userRepository to fetch if needed, or rely on relationship.
-                    return mapToUserResponse(m.getUser());
-                })
+        // Only accepted members are shown; their users were fetched with them
+        response.setMembers(acceptedMembers.stream()
+                .map(m -> mapToUserResponse(m.getUser()))
                 .collect(Collectors.toList()));
         return response;
     }
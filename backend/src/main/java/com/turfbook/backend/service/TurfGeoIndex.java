@@ -0,0 +1,221 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.Turf;
+import com.turfbook.backend.repository.TurfRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory location index of live turfs.
+ * Turfs with coordinates are bucketed into a fixed grid of
+ * cellDegrees x cellDegrees cells, so a radius search only visits the cells
+ * overlapping the radius' bounding box. Kept current by OwnerController on
+ * turf create, update and delete, and rebuilt periodically to pick up changes
+ * made on other instances.
+ */
+@Component
+public class TurfGeoIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TurfGeoIndex.class);
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Value("${turfs.geo.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${turfs.geo.refresh-ms:300000}", initialDelayString = "${turfs.geo.refresh-ms:300000}")
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        List<Object[]> rows = turfRepository.findLocations();
+        Set<Long> live = ConcurrentHashMap.newKeySet();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            put(id, (String) row[1], (Double) row[2], (Double) row[3], startedAt);
+            live.add(id);
+        }
+        // Turfs indexed after the reload started may be missing from its snapshot
+        entries.forEach((id, entry) -> {
+            if (!live.contains(id) && entry.indexedAt() < startedAt) {
+                remove(id);
+            }
+        });
+        logger.debug("Indexed {} turfs", rows.size());
+    }
+
+    /**
+     * Index a created or updated turf
+     */
+    public void put(Turf turf) {
+        if (turf.getDeletedAt() != null) {
+            remove(turf.getId());
+        } else {
+            put(turf.getId(), turf.getLocation(), turf.getLatitude(), turf.getLongitude(), Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Drop a deleted turf
+     */
+    public void remove(Long turfId) {
+        entries.computeIfPresent(turfId, (id, entry) -> {
+            unlink(id, entry);
+            return null;
+        });
+    }
+
+    /**
+     * Index a turf unless it was indexed after snapshotAt, in which case the
+     * existing entry is newer than the data being written
+     */
+    private void put(Long turfId, String location, Double latitude, Double longitude, long snapshotAt) {
+        boolean located = latitude != null && longitude != null;
+        Entry updated = new Entry(location != null ? location.toLowerCase() : "",
+                located ? latitude : Double.NaN, located ? longitude : Double.NaN,
+                located ? cellKey(latitude, longitude) : null, System.nanoTime());
+        entries.compute(turfId, (id, previous) -> {
+            if (previous != null && previous.indexedAt() > snapshotAt) {
+                return previous;
+            }
+            if (previous != null) {
+                unlink(id, previous);
+            }
+            if (updated.cell() != null) {
+                cells.computeIfAbsent(updated.cell(), c -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+            return updated;
+        });
+    }
+
+    private void unlink(Long turfId, Entry entry) {
+        if (entry.cell() != null) {
+            cells.computeIfPresent(entry.cell(), (c, ids) -> {
+                ids.remove(turfId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Turfs within radiusKm of a point, closest first
+     */
+    public List<Hit> nearby(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double cos = Math.cos(Math.toRadians(latitude));
+        double lngDelta = cos > 0.01 ? radiusKm / (KM_PER_DEGREE * cos) : 360;
+
+        int lngCells = (int) Math.ceil(360 / cellDegrees);
+        int maxLatCell = (int) Math.floor(180 / cellDegrees);
+        int fromLat = Math.max(0, latCell(latitude - latDelta));
+        int toLat = Math.min(maxLatCell, latCell(latitude + latDelta));
+        int fromLng = lngCell(longitude - lngDelta);
+        int toLng = lngCell(longitude + lngDelta);
+        long cellCount = (long) (toLat - fromLat + 1) * (toLng - fromLng + 1);
+
+        List<Hit> hits = new ArrayList<>();
+        if (toLng - fromLng + 1 >= lngCells || cellCount > entries.size()) {
+            // Radius covers more cells than there are turfs: scan the turfs instead
+            entries.forEach((id, entry) -> addIfWithin(hits, id, entry, latitude, longitude, radiusKm));
+        } else {
+            for (int i = fromLat; i <= toLat; i++) {
+                for (int j = fromLng; j <= toLng; j++) {
+                    // Wrap across the antimeridian
+                    Set<Long> ids = cells.get(cellKey(i, Math.floorMod(j, lngCells)));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        Entry entry = entries.get(id);
+                        if (entry != null) {
+                            addIfWithin(hits, id, entry, latitude, longitude, radiusKm);
+                        }
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    /**
+     * IDs of turfs whose location contains the text, ignoring case
+     */
+    public List<Long> matchLocation(String text) {
+        String needle = text.toLowerCase();
+        List<Long> ids = new ArrayList<>();
+        entries.forEach((id, entry) -> {
+            if (entry.location().contains(needle)) {
+                ids.add(id);
+            }
+        });
+        ids.sort(Comparator.naturalOrder());
+        return ids;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static void addIfWithin(List<Hit> hits, Long id, Entry entry, double latitude, double longitude,
+            double radiusKm) {
+        if (entry.cell() == null) {
+            return;
+        }
+        double distance = distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+        if (distance <= radiusKm) {
+            hits.add(new Hit(id, distance));
+        }
+    }
+
+    /**
+     * Great-circle distance (haversine)
+     */
+    static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) + Math.cos(Math.toRadians(lat1))
+                * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private int latCell(double latitude) {
+        return (int) Math.floor((latitude + 90) / cellDegrees);
+    }
+
+    private int lngCell(double longitude) {
+        return (int) Math.floor((longitude + 180) / cellDegrees);
+    }
+
+    private Long cellKey(double latitude, double longitude) {
+        return cellKey(latCell(latitude), Math.floorMod(lngCell(longitude), (int) Math.ceil(360 / cellDegrees)));
+    }
+
+    private static Long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    public record Hit(Long turfId, double distanceKm) {
+    }
+
+    private record Entry(String location, double latitude, double longitude, Long cell, long indexedAt) {
+    }
+}
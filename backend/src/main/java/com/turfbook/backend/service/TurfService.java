@@ -1,17 +1,22 @@
 package com.turfbook.backend.service;
 
+import com.turfbook.backend.dto.response.NearbyTurf;
+import com.turfbook.backend.dto.response.NearbyTurfPage;
 import com.turfbook.backend.model.Turf;
 import com.turfbook.backend.model.TurfSlot;
 import com.turfbook.backend.repository.TurfRepository;
-import com.turfbook.backend.repository.TurfSlotRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TurfService {
@@ -19,43 +24,107 @@ public class TurfService {
     TurfRepository turfRepository;
 
     @Autowired
-    TurfSlotRepository turfSlotRepository;
+    SlotAvailabilityService slotAvailabilityService;
+
+    @Autowired
+    SlotCalendarService slotCalendarService;
+
+    @Autowired
+    TurfGeoIndex turfGeoIndex;
+
+    @Value("${turfs.nearby.max-radius-km:50}")
+    double maxRadiusKm;
+
+    @Value("${turfs.nearby.max-page-size:100}")
+    int maxPageSize;
 
     public List<Turf> getAllTurfs(String location) {
         if (location != null && !location.isEmpty()) {
-            return turfRepository.findByLocationContaining(location);
+            List<Turf> turfs = turfRepository.findAllById(turfGeoIndex.matchLocation(location));
+            turfs.sort(Comparator.comparing(Turf::getId));
+            return turfs;
         }
         return turfRepository.findAll();
     }
 
+    /**
+     * Find turfs within a radius of a point, closest first. When a date and
+     * time window are given, only turfs with a free slot inside the window
+     * on that date are returned.
+     *
+     * @param latitude  Search point latitude
+     * @param longitude Search point longitude
+     * @param radiusKm  Search radius in km
+     * @param date      Optional date of the free slot
+     * @param from      Optional window start (defaults to start of day)
+     * @param to        Optional window end (defaults to end of day)
+     * @param page      Zero-based page number
+     * @param size      Page size
+     * @return One page of turfs with their distance
+     */
+    public NearbyTurfPage searchNearby(double latitude, double longitude, double radiusKm, LocalDate date,
+            LocalTime from, LocalTime to, int page, int size) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new RuntimeException("Invalid coordinates");
+        }
+        if (radiusKm <= 0 || radiusKm > maxRadiusKm) {
+            throw new RuntimeException("Radius must be between 0 and " + maxRadiusKm + " km");
+        }
+        if (page < 0 || size < 1 || size > maxPageSize) {
+            throw new RuntimeException("Page size must be between 1 and " + maxPageSize);
+        }
+        LocalTime windowStart = from != null ? from : LocalTime.MIN;
+        LocalTime windowEnd = to != null ? to : LocalTime.MAX;
+        if (date == null && (from != null || to != null)) {
+            throw new RuntimeException("A date is required to filter by time");
+        }
+        if (windowEnd.isBefore(windowStart)) {
+            throw new RuntimeException("Time window must end after it starts");
+        }
+
+        List<TurfGeoIndex.Hit> hits = turfGeoIndex.nearby(latitude, longitude, radiusKm);
+
+        // Check free slots lazily, in distance order, only as far as this page
+        // (plus one hit to know whether there is a next page)
+        long skip = (long) page * size;
+        List<TurfGeoIndex.Hit> pageHits = new ArrayList<>(size);
+        boolean hasMore = false;
+        for (TurfGeoIndex.Hit hit : hits) {
+            if (date != null && !slotAvailabilityService.hasFreeSlot(hit.turfId(), date, windowStart, windowEnd)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else if (pageHits.size() < size) {
+                pageHits.add(hit);
+            } else {
+                hasMore = true;
+                break;
+            }
+        }
+
+        Map<Long, Turf> turfs = turfRepository.findAllById(pageHits.stream().map(TurfGeoIndex.Hit::turfId).toList())
+                .stream().collect(Collectors.toMap(Turf::getId, Function.identity()));
+        List<NearbyTurf> result = new ArrayList<>(pageHits.size());
+        for (TurfGeoIndex.Hit hit : pageHits) {
+            Turf turf = turfs.get(hit.turfId());
+            if (turf != null) {
+                result.add(new NearbyTurf(turf, Math.round(hit.distanceKm() * 100) / 100.0));
+            }
+        }
+        return new NearbyTurfPage(result, hasMore ? page + 1 : null);
+    }
+
     public Turf getTurfById(Long id) {
         return turfRepository.findById(id).orElseThrow(() -> new RuntimeException("Turf not found"));
     }
 
     public List<TurfSlot> getSlots(Long turfId, LocalDate date) {
-        return turfSlotRepository.findByTurfIdAndDate(turfId, date);
+        return slotAvailabilityService.getSlots(turfId, date);
     }
 
-    @Transactional
     public List<TurfSlot> generateSlots(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime,
             int durationMinutes) {
-        List<TurfSlot> slots = new ArrayList<>();
-        LocalTime current = startTime;
-
-        while (current.plusMinutes(durationMinutes).isBefore(endTime)
-                || current.plusMinutes(durationMinutes).equals(endTime)) {
-            TurfSlot slot = new TurfSlot();
-            slot.setTurfId(turfId);
-            slot.setDate(date);
-            slot.setStartTime(current);
-            slot.setEndTime(current.plusMinutes(durationMinutes));
-            slot.setIsAvailable(true);
-            slot.setIsLocked(false);
-
-            slots.add(slot);
-            current = current.plusMinutes(durationMinutes);
-        }
-
-        return turfSlotRepository.saveAll(slots);
+        return slotCalendarService.generateDay(turfId, date, startTime, endTime, durationMinutes, null);
     }
 }
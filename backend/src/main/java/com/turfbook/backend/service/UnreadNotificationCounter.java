@@ -0,0 +1,112 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user unread notification counters.
+ * A counter is loaded with one COUNT on first access and then kept up to date
+ * by deltas applied after each notification is written, read or deleted. The
+ * COUNT is repeated once a counter is older than the TTL, so a delta lost to a
+ * race with the initial load only lingers until then. Other backend instances
+ * are told to drop their copy of a changed counter through
+ * CacheInvalidationPublisher.
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Value("${notification.unread-counter.ttl-ms:600000}")
+    private long ttlMs;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Current unread count for a user
+     */
+    public long get(Long userId) {
+        return counter(userId).value().get();
+    }
+
+    /**
+     * Apply a committed change to a user's unread count
+     *
+     * @param userId User ID
+     * @param delta  Change in unread notifications (negative when read or
+     *               deleted)
+     * @return Updated unread count
+     */
+    public long add(Long userId, long delta) {
+        cacheInvalidationPublisher.unreadChanged(userId);
+        Counter counter = counters.get(userId);
+        if (counter == null || isStale(counter)) {
+            // A fresh COUNT already includes the committed change
+            return reload(userId).value().get();
+        }
+        return counter.value().updateAndGet(count -> Math.max(0, count + delta));
+    }
+
+    /**
+     * Forget all counters, e.g. after notifications were removed in bulk
+     */
+    public void clear() {
+        forgetAll();
+        cacheInvalidationPublisher.unreadCleared();
+    }
+
+    /**
+     * Forget this node's counter for a user without telling other nodes
+     */
+    void forget(Long userId) {
+        counters.remove(userId);
+    }
+
+    /**
+     * Forget all of this node's counters without telling other nodes
+     */
+    void forgetAll() {
+        counters.clear();
+    }
+
+    /**
+     * Drop stale counters so only recently active users stay in memory
+     */
+    @Scheduled(fixedRateString = "${notification.unread-counter.ttl-ms:600000}")
+    public void evictStale() {
+        counters.values().removeIf(this::isStale);
+    }
+
+    private Counter counter(Long userId) {
+        Counter counter = counters.get(userId);
+        if (counter == null || isStale(counter)) {
+            counter = reload(userId);
+        }
+        return counter;
+    }
+
+    private Counter reload(Long userId) {
+        Long count = notificationRepository.countByUserIdAndReadFalse(userId);
+        Counter counter = new Counter(new AtomicLong(count != null ? count : 0), System.currentTimeMillis());
+        counters.put(userId, counter);
+        return counter;
+    }
+
+    private boolean isStale(Counter counter) {
+        return System.currentTimeMillis() - counter.loadedAt() > ttlMs;
+    }
+
+    private record Counter(AtomicLong value, long loadedAt) {
+    }
+}
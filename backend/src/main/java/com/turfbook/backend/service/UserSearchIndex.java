@@ -0,0 +1,395 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.User;
+import com.turfbook.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory search index over user names and emails.
+ * Lower-cased names and emails are split into trigrams, plus the one- and
+ * two-character prefixes of every name word and of the email. A query of
+ * three or more characters intersects the posting lists of its trigrams and
+ * confirms the substring match, so results equal a case-insensitive
+ * LIKE '%query%'; shorter queries match word prefixes only. Matches are
+ * ranked by a caller-supplied boost (e.g. mutual friends), then by how well
+ * the name matches.
+ *
+ * Kept current by the register and profile update paths, and reloaded
+ * periodically to pick up changes made on other instances.
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${users.search.load-batch-size:10000}")
+    private int loadBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    // Users written while a reload runs, replayed onto the reloaded segment
+    private Map<Long, String[]> writtenDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${users.search.refresh-ms:3600000}", initialDelayString = "${users.search.refresh-ms:3600000}")
+    public void rebuild() {
+        setWrittenDuringRebuild(new HashMap<>());
+        Segment loaded = new Segment();
+        try {
+            Long afterId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = userRepository.findSearchFieldsAfter(afterId, PageRequest.of(0, loadBatchSize));
+                for (Object[] row : rows) {
+                    loaded.put((Long) row[0], (String) row[1], (String) row[2]);
+                }
+                if (!rows.isEmpty()) {
+                    afterId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            } while (rows.size() == loadBatchSize);
+        } catch (RuntimeException e) {
+            setWrittenDuringRebuild(null);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            writtenDuringRebuild.forEach((id, fields) -> loaded.put(id, fields[0], fields[1]));
+            writtenDuringRebuild = null;
+            segment = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Indexed {} users for search", loaded.size());
+    }
+
+    private void setWrittenDuringRebuild(Map<Long, String[]> written) {
+        lock.writeLock().lock();
+        try {
+            writtenDuringRebuild = written;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index a registered or updated user
+     */
+    public void put(User user) {
+        put(user.getId(), user.getName(), user.getEmail());
+    }
+
+    public void put(Long userId, String name, String email) {
+        lock.writeLock().lock();
+        try {
+            segment.put(userId, name, email);
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.put(userId, new String[] { name, email });
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find users matching a query, best first
+     *
+     * @param query        Search text (case-insensitive)
+     * @param includeEmail Whether to match emails as well as names
+     * @param boosts       Rank boost per user ID; higher ranks first
+     * @param excluded     User IDs to leave out
+     * @param limit        Maximum number of results
+     * @return Matching user IDs, best first
+     */
+    public List<Long> search(String query, boolean includeEmail, Map<Long, Integer> boosts, Set<Long> excluded,
+            int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return segment.search(normalized, includeEmail, boosts, excluded, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static long gram(String text, int from, int length) {
+        long key = (long) length << 48;
+        for (int i = 0; i < length; i++) {
+            key |= (long) text.charAt(from + i) << (16 * (2 - i));
+        }
+        return key;
+    }
+
+    private static boolean isWordStart(String text, int i) {
+        return Character.isLetterOrDigit(text.charAt(i)) && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)));
+    }
+
+    /**
+     * How well a candidate matches: 0 name prefix, 1 name word prefix,
+     * 2 name substring, 3 email match, -1 no match
+     */
+    private static int matchQuality(String query, String name, String email, boolean includeEmail) {
+        if (name.startsWith(query)) {
+            return 0;
+        }
+        boolean contained = false;
+        for (int i = name.indexOf(query); i >= 0; i = name.indexOf(query, i + 1)) {
+            if (isWordStart(name, i)) {
+                return 1;
+            }
+            contained = true;
+        }
+        if (contained && query.length() >= 3) {
+            return 2;
+        }
+        if (includeEmail && (query.length() >= 3 ? email.contains(query) : email.startsWith(query))) {
+            return 3;
+        }
+        return -1;
+    }
+
+    /**
+     * Index data, guarded by the enclosing index's lock
+     */
+    private static final class Segment {
+        private final Map<Long, Integer> docs = new HashMap<>();
+        private final Map<Long, Postings> postings = new HashMap<>();
+        private long[] userIds = new long[1024];
+        private String[] names = new String[1024];
+        private String[] emails = new String[1024];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void put(Long userId, String name, String email) {
+            Integer existing = docs.get(userId);
+            int doc;
+            if (existing != null) {
+                doc = existing;
+                forEachKey(names[doc], emails[doc], key -> {
+                    Postings list = postings.get(key);
+                    if (list != null && list.remove(doc) && list.size == 0) {
+                        postings.remove(key);
+                    }
+                });
+            } else {
+                doc = size++;
+                if (doc == userIds.length) {
+                    userIds = Arrays.copyOf(userIds, doc * 2);
+                    names = Arrays.copyOf(names, doc * 2);
+                    emails = Arrays.copyOf(emails, doc * 2);
+                }
+                userIds[doc] = userId;
+                docs.put(userId, doc);
+            }
+            names[doc] = normalize(name);
+            emails[doc] = normalize(email);
+            forEachKey(names[doc], emails[doc], key -> postings.computeIfAbsent(key, k -> new Postings()).add(doc));
+        }
+
+        private static void forEachKey(String name, String email, KeyConsumer consumer) {
+            for (String text : new String[] { name, email }) {
+                for (int i = 0; i + 3 <= text.length(); i++) {
+                    consumer.accept(gram(text, i, 3));
+                }
+            }
+            for (int i = 0; i < name.length(); i++) {
+                if (isWordStart(name, i)) {
+                    consumer.accept(gram(name, i, 1));
+                    if (i + 1 < name.length()) {
+                        consumer.accept(gram(name, i, 2));
+                    }
+                }
+            }
+            if (!email.isEmpty()) {
+                consumer.accept(gram(email, 0, 1));
+                if (email.length() > 1) {
+                    consumer.accept(gram(email, 0, 2));
+                }
+            }
+        }
+
+        List<Long> search(String query, boolean includeEmail, Map<Long, Integer> boosts, Set<Long> excluded,
+                int limit) {
+            Postings[] lists;
+            if (query.length() < 3) {
+                Postings list = postings.get(gram(query, 0, query.length()));
+                if (list == null) {
+                    return List.of();
+                }
+                lists = new Postings[] { list };
+            } else {
+                Set<Long> keys = new LinkedHashSet<>();
+                for (int i = 0; i + 3 <= query.length(); i++) {
+                    keys.add(gram(query, i, 3));
+                }
+                lists = new Postings[keys.size()];
+                int n = 0;
+                for (Long key : keys) {
+                    Postings list = postings.get(key);
+                    if (list == null) {
+                        return List.of();
+                    }
+                    lists[n++] = list;
+                }
+                Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+            }
+
+            // Walk the shortest list; find each doc in the others by galloping
+            // from where the previous doc was found
+            int[] from = new int[lists.length];
+            PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, Match.WORST_FIRST);
+            Postings shortest = lists[0];
+            candidates: for (int c = 0; c < shortest.size; c++) {
+                int doc = shortest.docs[c];
+                for (int l = 1; l < lists.length; l++) {
+                    int i = lists[l].find(doc, from[l]);
+                    if (i < 0) {
+                        from[l] = -i - 1;
+                        if (from[l] == lists[l].size) {
+                            break candidates;
+                        }
+                        continue candidates;
+                    }
+                    from[l] = i + 1;
+                }
+
+                long userId = userIds[doc];
+                int boost = boosts.isEmpty() ? 0 : boosts.getOrDefault(userId, 0);
+                if (top.size() == limit && boost < top.peek().boost()) {
+                    continue;
+                }
+                int quality = matchQuality(query, names[doc], emails[doc], includeEmail);
+                if (quality < 0 || !excluded.isEmpty() && excluded.contains(userId)) {
+                    continue;
+                }
+                if (top.size() == limit && !top.peek().isWorseThan(boost, quality, names[doc].length(), userId)) {
+                    continue;
+                }
+                top.add(new Match(userId, boost, quality, names[doc].length()));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Long> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                result.add(top.poll().userId());
+            }
+            Collections.reverse(result);
+            return result;
+        }
+    }
+
+    @FunctionalInterface
+    private interface KeyConsumer {
+        void accept(long key);
+    }
+
+    /**
+     * Doc IDs containing one key, ascending
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            int i = size == 0 || docs[size - 1] < doc ? -size - 1 : Arrays.binarySearch(docs, 0, size, doc);
+            if (i >= 0) {
+                return;
+            }
+            i = -i - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            System.arraycopy(docs, i, docs, i + 1, size - i);
+            docs[i] = doc;
+            size++;
+        }
+
+        /**
+         * Exponential then binary search for doc at or after position from;
+         * returns its index, or -(insertion point) - 1 if absent
+         */
+        int find(int doc, int from) {
+            int step = 1;
+            while (from + step < size && docs[from + step] < doc) {
+                step <<= 1;
+            }
+            return Arrays.binarySearch(docs, from + (step >> 1), Math.min(from + step + 1, size), doc);
+        }
+
+        boolean remove(int doc) {
+            int i = Arrays.binarySearch(docs, 0, size, doc);
+            if (i < 0) {
+                return false;
+            }
+            System.arraycopy(docs, i + 1, docs, i, size - i - 1);
+            size--;
+            return true;
+        }
+    }
+
+    private record Match(long userId, int boost, int quality, int nameLength) {
+        // Higher boost, better quality, shorter name, lower ID rank first
+        static final Comparator<Match> WORST_FIRST = Comparator.comparingInt(Match::boost)
+                .thenComparing(Comparator.comparingInt(Match::quality).reversed())
+                .thenComparing(Comparator.comparingInt(Match::nameLength).reversed())
+                .thenComparing(Comparator.comparingLong(Match::userId).reversed());
+
+        boolean isWorseThan(int otherBoost, int otherQuality, int otherNameLength, long otherUserId) {
+            if (boost != otherBoost) {
+                return boost < otherBoost;
+            }
+            if (quality != otherQuality) {
+                return quality > otherQuality;
+            }
+            if (nameLength != otherNameLength) {
+                return nameLength > otherNameLength;
+            }
+            return userId > otherUserId;
+        }
+    }
+}
@@ -3,13 +3,19 @@ package com.turfbook.backend.service;
 import com.turfbook.backend.dto.response.UserResponse;
 import com.turfbook.backend.model.User;
 import com.turfbook.backend.repository.UserRepository;
+import com.turfbook.backend.security.UserDetailsCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +29,15 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Value("${users.search.limit:20}")
+    private int searchLimit;
+
     /**
      * Get user by ID
      */
@@ -53,13 +68,36 @@ public class UserService {
     public List<UserResponse> searchUsersByName(String name) {
         logger.debug("Searching users by name: {}", name);
 
-        List<User> users = userRepository.findByNameContainingIgnoreCase(name);
+        List<User> users = searchUsers(name, false, Map.of(), Set.of());
 
         return users.stream()
                 .map(this::toUserResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Search users through the in-memory index and load the top matches
+     *
+     * @param query        Search text (case-insensitive)
+     * @param includeEmail Whether to match emails as well as names
+     * @param boosts       Rank boost per user ID; higher ranks first
+     * @param excluded     User IDs to leave out
+     * @return Up to users.search.limit users, best match first
+     */
+    public List<User> searchUsers(String query, boolean includeEmail, Map<Long, Integer> boosts,
+            Set<Long> excluded) {
+        List<Long> ids = userSearchIndex.search(query, includeEmail, boosts, excluded, searchLimit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ids.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Update user profile
      */
@@ -83,6 +121,8 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(updatedUser.getEmail());
+        userSearchIndex.put(updatedUser);
 
         logger.info("Profile updated successfully for user: {}", userId);
 
@@ -0,0 +1,168 @@
+package com.turfbook.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffered sends to the STOMP broker, whichever broker WebSocketConfig
+ * selected. Each destination has its own bounded buffer, drained in order by
+ * a small pool of workers, so callers never block on the broker and one busy
+ * destination cannot hold up the others. When a destination's buffer is full
+ * its oldest message is dropped and counted, so a stalled broker cannot grow
+ * memory without bound.
+ */
+@Component
+public class WebSocketPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketPublisher.class);
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${websocket.publisher.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${websocket.publisher.threads:2}")
+    private int threads;
+
+    private final Map<String, DestinationBuffer> buffers = new ConcurrentHashMap<>();
+
+    // Destinations with pending messages; each is queued at most once at a time
+    private final BlockingQueue<String> ready = new LinkedBlockingQueue<>();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        meterRegistry.gaugeMapSize("websocket.publisher.destinations", Tags.empty(), buffers);
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(this::run, "websocket-publisher-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * Queue a message for a broker destination such as /topic/bookings/42
+     */
+    public void send(String destination, Object payload) {
+        while (true) {
+            DestinationBuffer buffer = buffers.computeIfAbsent(destination, d -> new DestinationBuffer());
+            synchronized (buffer) {
+                if (buffer.closed) {
+                    // Drained and removed concurrently; pick up a fresh buffer
+                    continue;
+                }
+                if (buffer.pending.size() >= bufferSize) {
+                    buffer.pending.pollFirst();
+                    meterRegistry.counter("websocket.publisher.dropped").increment();
+                }
+                buffer.pending.addLast(payload);
+                if (!buffer.scheduled) {
+                    buffer.scheduled = true;
+                    ready.add(destination);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Queue a message for one user's sessions, e.g. /queue/notifications
+     */
+    public void sendToUser(Long userId, String destination, Object payload) {
+        send("/user/" + userId + destination, payload);
+    }
+
+    private void run() {
+        while (true) {
+            String destination;
+            try {
+                destination = ready.take();
+            } catch (InterruptedException e) {
+                // Shutting down: flush what is still buffered
+                String pending;
+                while ((pending = ready.poll()) != null) {
+                    drain(pending);
+                }
+                return;
+            }
+            drain(destination);
+        }
+    }
+
+    /**
+     * Send everything buffered for a destination, oldest first. The destination
+     * stays scheduled while its batch is in flight, so no other worker can
+     * send for it out of order.
+     */
+    void drain(String destination) {
+        DestinationBuffer buffer = buffers.get(destination);
+        if (buffer == null) {
+            return;
+        }
+
+        List<Object> batch;
+        synchronized (buffer) {
+            batch = new ArrayList<>(buffer.pending);
+            buffer.pending.clear();
+        }
+
+        for (Object payload : batch) {
+            try {
+                messagingTemplate.convertAndSend(destination, payload);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to send to {}: {}", destination, e.getMessage());
+            }
+        }
+        meterRegistry.counter("websocket.publisher.sent").increment(batch.size());
+
+        synchronized (buffer) {
+            if (buffer.pending.isEmpty()) {
+                // Idle: remove it so the map only holds active destinations
+                buffer.scheduled = false;
+                buffer.closed = true;
+                buffers.remove(destination, buffer);
+            } else {
+                ready.add(destination);
+            }
+        }
+    }
+
+    private static class DestinationBuffer {
+        private final ArrayDeque<Object> pending = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean closed;
+    }
+}
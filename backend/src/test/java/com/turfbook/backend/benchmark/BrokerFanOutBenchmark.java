@@ -0,0 +1,110 @@
+package com.turfbook.backend.benchmark;
+
+import com.turfbook.backend.service.WebSocketPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out latency from WebSocketPublisher.send until every subscriber of the
+ * destination has been handed the message, through the in-process broker
+ * that stands in for the external relay. Delivery ends at the client outbound
+ * channel, so per-session STOMP encoding and socket writes are not included.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main BrokerFanOutBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrokerFanOutBenchmark {
+
+    private static final String DESTINATION = "/topic/bookings/42";
+
+    @Param({ "1000", "10000" })
+    private int subscribers;
+
+    private WebSocketPublisher publisher;
+    private SimpleBrokerMessageHandler broker;
+    private volatile CountDownLatch delivered;
+
+    @Setup
+    public void setUp() {
+        // CONNECT_ACKs during setup count down nothing
+        delivered = new CountDownLatch(0);
+        MessageChannel clientOutbound = new MessageChannel() {
+            @Override
+            public boolean send(@NonNull Message<?> message, long timeout) {
+                delivered.countDown();
+                return true;
+            }
+        };
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        broker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), clientOutbound, brokerChannel,
+                List.of("/topic", "/queue"));
+        broker.start();
+
+        for (int i = 0; i < subscribers; i++) {
+            SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+            connect.setSessionId("session-" + i);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            headers.setSessionId("session-" + i);
+            headers.setSubscriptionId("sub-0");
+            headers.setDestination(DESTINATION);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders()));
+        }
+
+        SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+
+        publisher = new WebSocketPublisher();
+        ReflectionTestUtils.setField(publisher, "messagingTemplate", template);
+        ReflectionTestUtils.setField(publisher, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(publisher, "bufferSize", 256);
+        ReflectionTestUtils.setField(publisher, "threads", 2);
+        publisher.init();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        publisher.stop();
+        broker.stop();
+    }
+
+    @Benchmark
+    public void publishToAllSubscribers() throws InterruptedException {
+        delivered = new CountDownLatch(subscribers);
+        publisher.send(DESTINATION, Map.of("bookingId", 42, "status", "CONFIRMED"));
+        if (!delivered.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException(delivered.getCount() + " subscribers not reached");
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BrokerFanOutBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.turfbook.backend.benchmark;
+
+import com.turfbook.backend.service.MatchmakingQueue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pairing throughput with thousands of teams waiting: each operation offers
+ * a team with a normally distributed rating and queues a replacement for the
+ * team it was paired with, so the queue size stays constant. Compared with a
+ * first-fit scan over the open matches within one band, as findMatch did
+ * over findByStatus (minus the query).
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main MatchmakingQueueBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchmakingQueueBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int queued;
+
+    private MatchmakingQueue queue;
+    private List<MatchmakingQueue.Ticket> openMatches;
+    private Random random;
+    private long nextTeamId;
+
+    @Setup
+    public void setUp() {
+        queue = new MatchmakingQueue();
+        ReflectionTestUtils.setField(queue, "bandWidth", 100);
+        ReflectionTestUtils.setField(queue, "widenEveryMs", 30000L);
+        ReflectionTestUtils.setField(queue, "maxBands", 5);
+        openMatches = new ArrayList<>();
+        random = new Random(42);
+        long now = System.currentTimeMillis();
+        for (nextTeamId = 1; nextTeamId <= queued; nextTeamId++) {
+            MatchmakingQueue.Ticket ticket = new MatchmakingQueue.Ticket(nextTeamId, rating(), nextTeamId, now);
+            queue.restore(ticket);
+            openMatches.add(ticket);
+        }
+    }
+
+    private int rating() {
+        return (int) (1200 + random.nextGaussian() * 250);
+    }
+
+    @Benchmark
+    public MatchmakingQueue.Pairing queue() {
+        long teamId = nextTeamId++;
+        MatchmakingQueue.Pairing pairing = queue.offer(teamId, rating());
+        if (pairing != null) {
+            queue.restore(new MatchmakingQueue.Ticket(nextTeamId, pairing.waiting().rating(), nextTeamId,
+                    System.currentTimeMillis()));
+            nextTeamId++;
+        } else {
+            queue.remove(teamId);
+        }
+        return pairing;
+    }
+
+    @Benchmark
+    public MatchmakingQueue.Ticket linearScan() {
+        int rating = rating();
+        for (int i = 0; i < openMatches.size(); i++) {
+            MatchmakingQueue.Ticket open = openMatches.get(i);
+            if (Math.abs(open.rating() - rating) < 100) {
+                openMatches.remove(i);
+                openMatches.add(new MatchmakingQueue.Ticket(nextTeamId, open.rating(), nextTeamId,
+                        System.currentTimeMillis()));
+                nextTeamId++;
+                return open;
+            }
+        }
+        return null;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MatchmakingQueueBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,83 @@
+package com.turfbook.backend.benchmark;
+
+import com.turfbook.backend.service.PricingEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of pricing a 7-day slot grid (06:00 - 23:00 in 30 minute slots) with
+ * compiled rules, against re-parsing the rules JSON for every day as an
+ * uncached engine would.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main PricingBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+    private static final String RULES = "{"
+            + "\"peakHours\": [{\"start\": \"18:00\", \"end\": \"22:00\", \"multiplier\": 1.5},"
+            + "  {\"days\": [\"FRIDAY\", \"SATURDAY\"], \"start\": \"20:00\", \"end\": \"23:00\", \"multiplier\": 2},"
+            + "  {\"days\": [\"SUNDAY\"], \"start\": \"06:00\", \"end\": \"10:00\", \"multiplier\": 1.3}],"
+            + "\"weekendMultiplier\": 1.2,"
+            + "\"surge\": [{\"occupancy\": 0.5, \"multiplier\": 1.1}, {\"occupancy\": 0.9, \"multiplier\": 1.25}]"
+            + "}";
+    private static final BigDecimal BASE_PRICE = new BigDecimal("1000");
+    private static final DayOfWeek[] WEEK = DayOfWeek.values();
+
+    private PricingEngine.CompiledRules rules;
+    private int[] startMinutes;
+    private long[] baseCents;
+    private int[] occupancyBp;
+    private long[] out;
+
+    @Setup
+    public void setUp() {
+        rules = PricingEngine.compile(RULES, BASE_PRICE);
+        int slots = (23 - 6) * 2;
+        startMinutes = new int[slots];
+        baseCents = new long[slots];
+        out = new long[slots];
+        for (int i = 0; i < slots; i++) {
+            startMinutes[i] = 6 * 60 + i * 30;
+            baseCents[i] = i % 4 == 0 ? 120_000 : rules.baseCents(null);
+        }
+        occupancyBp = new int[] { 2_000, 4_000, 5_500, 6_000, 9_200, 9_600, 7_000 };
+    }
+
+    @Benchmark
+    public long compiledWeek() {
+        long total = 0;
+        for (int d = 0; d < WEEK.length; d++) {
+            rules.priceCents(WEEK[d], startMinutes, baseCents, occupancyBp[d], out);
+            total += out[out.length - 1];
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void parsedWeek(Blackhole blackhole) {
+        for (int d = 0; d < WEEK.length; d++) {
+            PricingEngine.CompiledRules parsed = PricingEngine.compile(RULES, BASE_PRICE);
+            parsed.priceCents(WEEK[d], startMinutes, baseCents, occupancyBp[d], out);
+            blackhole.consume(out);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PricingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
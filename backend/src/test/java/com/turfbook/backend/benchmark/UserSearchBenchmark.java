@@ -0,0 +1,97 @@
+package com.turfbook.backend.benchmark;
+
+import com.turfbook.backend.service.UserSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a top-20 user search over 1M synthetic users through
+ * UserSearchIndex, with 200 friend-of-friend boosts, against a linear
+ * case-insensitive substring scan of the same names as a LIKE '%query%' full
+ * scan (which returned every match) performs.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main UserSearchBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xms3g", "-Xmx3g" })
+public class UserSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = { "Aarav", "Vivaan", "Aditya", "Vihaan", "Arjun", "Sai", "Reyansh",
+            "Krishna", "Ishaan", "Rohan", "Ananya", "Diya", "Priya", "Saanvi", "Aadhya", "Kavya", "Meera", "Isha",
+            "Riya", "Neha", "Rahul", "Karan", "Vikram", "Nikhil", "Sneha", "Pooja", "Divya", "Amit", "Suresh",
+            "Lakshmi" };
+    private static final String[] SURNAMES = { "Sharma", "Verma", "Iyer", "Nair", "Reddy", "Rao", "Gupta", "Patel",
+            "Mehta", "Joshi", "Kulkarni", "Menon", "Pillai", "Das", "Bose", "Singh", "Kapoor", "Malhotra", "Chopra",
+            "Banerjee", "Mukherjee", "Chatterjee", "Desai", "Shah", "Agarwal", "Bhat", "Hegde", "Kamath", "Shetty",
+            "Naidu" };
+
+    @Param({ "1000000" })
+    private int users;
+
+    // Short prefix, common surname, name plus surname, rare email fragment
+    @Param({ "ka", "sharm", "priya me", "rma4217" })
+    private String query;
+
+    private UserSearchIndex index;
+    private String[] names;
+    private String[] emails;
+    private Map<Long, Integer> boosts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new UserSearchIndex();
+        names = new String[users];
+        emails = new String[users];
+        for (int i = 0; i < users; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = SURNAMES[random.nextInt(SURNAMES.length)];
+            names[i] = first + " " + last;
+            emails[i] = (first.charAt(0) + last + i).toLowerCase(Locale.ROOT) + "@example.com";
+            index.put((long) i + 1, names[i], emails[i]);
+        }
+        boosts = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            boosts.put((long) random.nextInt(users) + 1, 1 + random.nextInt(5));
+        }
+    }
+
+    @Benchmark
+    public List<Long> index() {
+        return index.search(query, true, boosts, Set.of(), 20);
+    }
+
+    @Benchmark
+    public List<Long> linearScan() {
+        List<Long> matches = new ArrayList<>();
+        String needle = query.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].toLowerCase(Locale.ROOT).contains(needle)
+                    || emails[i].toLowerCase(Locale.ROOT).contains(needle)) {
+                matches.add((long) i + 1);
+            }
+        }
+        return matches;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UserSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
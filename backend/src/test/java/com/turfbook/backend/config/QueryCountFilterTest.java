@@ -0,0 +1,92 @@
+package com.turfbook.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class QueryCountFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountFilter filter;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new QueryCountFilter();
+        ReflectionTestUtils.setField(filter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(filter, "defaultBudget", 5);
+        ReflectionTestUtils.setField(filter, "failOnExceed", true);
+        ReflectionTestUtils.setField(filter, "headerEnabled", true);
+        mockMvc = MockMvcBuilders.standaloneSetup(new QueryingController()).addFilters(filter).build();
+    }
+
+    @Test
+    void shouldSendQueryCountHeaderAndRecordMetric() throws Exception {
+        mockMvc.perform(get("/budgeted").param("queries", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.HEADER, "2"));
+
+        assertEquals(2.0, meterRegistry.get("http.server.queries").tag("uri", "/budgeted").summary().totalAmount());
+    }
+
+    @Test
+    void shouldFailWhenEndpointExceedsDeclaredBudget() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> mockMvc.perform(get("/budgeted").param("queries", "3")));
+
+        assertEquals("GET /budgeted executed 3 queries, budget is 2", e.getMessage());
+        assertEquals(1.0, meterRegistry.get("http.server.queries.over.budget").counter().count());
+    }
+
+    @Test
+    void shouldApplyDefaultBudgetToUndeclaredEndpoints() throws Exception {
+        mockMvc.perform(get("/unbudgeted").param("queries", "5")).andExpect(status().isOk());
+
+        assertThrows(IllegalStateException.class,
+                () -> mockMvc.perform(get("/unbudgeted").param("queries", "6")));
+    }
+
+    @Test
+    void shouldOnlyCountWhileARequestIsInFlight() {
+        new QueryCounter().inspect("select 1");
+
+        assertEquals(0, QueryCounter.current());
+    }
+
+    @RestController
+    static class QueryingController {
+
+        @GetMapping("/budgeted")
+        @QueryBudget(2)
+        public List<String> budgeted(@RequestParam int queries) {
+            return run(queries);
+        }
+
+        @GetMapping("/unbudgeted")
+        public List<String> unbudgeted(@RequestParam int queries) {
+            return run(queries);
+        }
+
+        private List<String> run(int queries) {
+            QueryCounter inspector = new QueryCounter();
+            for (int i = 0; i < queries; i++) {
+                inspector.inspect("select * from users where id = ?");
+            }
+            return List.of("ok");
+        }
+    }
+}
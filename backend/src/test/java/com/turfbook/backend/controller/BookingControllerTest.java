@@ -0,0 +1,52 @@
+package com.turfbook.backend.controller;
+
+import com.turfbook.backend.model.Booking;
+import com.turfbook.backend.service.BookingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BookingControllerTest {
+
+    @Mock
+    private BookingService bookingService;
+
+    @InjectMocks
+    private BookingController bookingController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(bookingController).build();
+    }
+
+    @Test
+    void initiateBooking_ShouldChargeServerPrice_WhenClientSendsTamperedAmount() throws Exception {
+        Booking booking = new Booking();
+        booking.setSlotId(5L);
+        booking.setTotalAmount(new BigDecimal("800"));
+        when(bookingService.initiateBooking(1L, 2L, 5L)).thenReturn(booking);
+
+        mockMvc.perform(post("/api/bookings/initiate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\": 1, \"turfId\": 2, \"slotId\": 5, \"totalAmount\": 1}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalAmount").value(800));
+
+        verify(bookingService).initiateBooking(1L, 2L, 5L);
+    }
+}
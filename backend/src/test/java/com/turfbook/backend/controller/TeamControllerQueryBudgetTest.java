@@ -0,0 +1,146 @@
+package com.turfbook.backend.controller;
+
+import com.turfbook.backend.config.QueryCountConfig;
+import com.turfbook.backend.config.QueryCountFilter;
+import com.turfbook.backend.model.Team;
+import com.turfbook.backend.model.TeamMember;
+import com.turfbook.backend.model.User;
+import com.turfbook.backend.model.enums.UserRole;
+import com.turfbook.backend.repository.FriendRepository;
+import com.turfbook.backend.repository.TeamMemberRepository;
+import com.turfbook.backend.repository.TeamRepository;
+import com.turfbook.backend.repository.UserRepository;
+import com.turfbook.backend.security.SecurityUtils;
+import com.turfbook.backend.service.NotificationService;
+import com.turfbook.backend.service.TeamService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the team list endpoint against H2 through Hibernate's statement
+ * inspector and QueryCountFilter, so its QueryBudget is actually enforced.
+ * schema.sql is MySQL DDL, so H2 gets its schema from the entities instead.
+ */
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never" })
+@Import(QueryCountConfig.class)
+class TeamControllerQueryBudgetTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long playerId;
+
+    @BeforeEach
+    void setUp() {
+        User player = entityManager.persist(user("Player", "player@turf.test"));
+        User captain = entityManager.persist(user("Captain", "captain@turf.test"));
+        playerId = player.getId();
+        for (int i = 0; i < 3; i++) {
+            Team team = new Team();
+            team.setName("Team " + i);
+            team.setCaptainId(captain.getId());
+            team = entityManager.persist(team);
+            entityManager.persist(member(team.getId(), captain.getId(), "CAPTAIN"));
+            entityManager.persist(member(team.getId(), player.getId(), "PLAYER"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getMyTeams_ShouldStayWithinBudget() throws Exception {
+        mockMvc(teamMemberRepository).perform(get("/api/teams/my"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].members.length()").value(2))
+                .andExpect(header().string(QueryCountFilter.HEADER, "2"));
+    }
+
+    @Test
+    void getMyTeams_ShouldFail_WhenMembersAreLoadedPerTeam() {
+        // A regression to one member query per team: 1 + 3 queries against a budget of 3
+        TeamMemberRepository perTeam = mock(TeamMemberRepository.class, delegatesTo(teamMemberRepository));
+        doAnswer(inv -> {
+            List<TeamMember> members = new ArrayList<>();
+            for (Long teamId : inv.<List<Long>>getArgument(0)) {
+                members.addAll(teamMemberRepository.findAcceptedWithUserByTeamIdIn(List.of(teamId)));
+            }
+            return members;
+        }).when(perTeam).findAcceptedWithUserByTeamIdIn(anyList());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> mockMvc(perTeam).perform(get("/api/teams/my")));
+
+        assertEquals("GET /api/teams/my executed 4 queries, budget is 3", e.getMessage());
+    }
+
+    private MockMvc mockMvc(TeamMemberRepository members) {
+        TeamService teamService = new TeamService();
+        ReflectionTestUtils.setField(teamService, "teamRepository", teamRepository);
+        ReflectionTestUtils.setField(teamService, "teamMemberRepository", members);
+        ReflectionTestUtils.setField(teamService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(teamService, "friendRepository", mock(FriendRepository.class));
+        ReflectionTestUtils.setField(teamService, "notificationService", mock(NotificationService.class));
+
+        SecurityUtils securityUtils = mock(SecurityUtils.class);
+        when(securityUtils.getCurrentUserId()).thenReturn(playerId);
+        TeamController teamController = new TeamController();
+        ReflectionTestUtils.setField(teamController, "teamService", teamService);
+        ReflectionTestUtils.setField(teamController, "securityUtils", securityUtils);
+
+        QueryCountFilter filter = new QueryCountFilter();
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "defaultBudget", 50);
+        ReflectionTestUtils.setField(filter, "failOnExceed", true);
+        ReflectionTestUtils.setField(filter, "headerEnabled", true);
+        return MockMvcBuilders.standaloneSetup(teamController).addFilters(filter).build();
+    }
+
+    private static User user(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        user.setPassword("hash");
+        user.setRole(UserRole.USER);
+        return user;
+    }
+
+    private static TeamMember member(Long teamId, Long userId, String role) {
+        TeamMember member = new TeamMember();
+        member.setTeamId(teamId);
+        member.setUserId(userId);
+        member.setRole(role);
+        member.setStatus("ACCEPTED");
+        return member;
+    }
+}
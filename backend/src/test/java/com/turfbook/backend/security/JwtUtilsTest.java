@@ -0,0 +1,88 @@
+package com.turfbook.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtUtilsTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    @Test
+    void verifyJwtToken_ShouldServeCachedTokenWithoutParsing() {
+        JwtUtils jwtUtils = jwtUtils(60000, 100);
+        String token = token(jwtUtils, "player@turf.com");
+        Claims first = jwtUtils.verifyJwtToken(token);
+
+        JwtParser parser = mock(JwtParser.class);
+        ReflectionTestUtils.setField(jwtUtils, "parser", parser);
+        Claims second = jwtUtils.verifyJwtToken(token);
+
+        assertSame(first, second);
+        verifyNoInteractions(parser);
+    }
+
+    @Test
+    void verifyJwtToken_ShouldRejectCachedTokenOnceExpired() throws InterruptedException {
+        // exp has second precision, so this token expires 1-2 s from now
+        JwtUtils jwtUtils = jwtUtils(2000, 100);
+        String token = token(jwtUtils, "player@turf.com");
+        Claims claims = jwtUtils.verifyJwtToken(token);
+        assertNotNull(claims);
+
+        Thread.sleep(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()) + 50);
+
+        assertNull(jwtUtils.verifyJwtToken(token));
+    }
+
+    @Test
+    void verifyJwtToken_ShouldRejectTamperedSignature() {
+        JwtUtils jwtUtils = jwtUtils(60000, 100);
+        String token = token(jwtUtils, "player@turf.com");
+        assertNotNull(jwtUtils.verifyJwtToken(token));
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertNull(jwtUtils.verifyJwtToken(tampered));
+    }
+
+    @Test
+    void verifyJwtToken_ShouldRejectTamperedClaims() {
+        JwtUtils jwtUtils = jwtUtils(60000, 100);
+        String[] parts = token(jwtUtils, "player@turf.com").split("\\.");
+        String forged = token(jwtUtils, "owner@turf.com").split("\\.")[1];
+
+        assertNull(jwtUtils.verifyJwtToken(parts[0] + "." + forged + "." + parts[2]));
+    }
+
+    @Test
+    void verifyJwtToken_ShouldKeepCacheBounded() {
+        JwtUtils jwtUtils = jwtUtils(60000, 3);
+
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(jwtUtils.verifyJwtToken(token(jwtUtils, "player" + i + "@turf.com")));
+        }
+
+        ExpiringCache<?, ?> cache = (ExpiringCache<?, ?>) ReflectionTestUtils.getField(jwtUtils, "verifiedTokens");
+        assertEquals(3, cache.size());
+    }
+
+    private JwtUtils jwtUtils(int expirationMs, int cacheSize) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(jwtUtils, "verifyCacheMaxSize", cacheSize);
+        jwtUtils.init();
+        return jwtUtils;
+    }
+
+    private String token(JwtUtils jwtUtils, String email) {
+        return jwtUtils.generateTokenFromUserDetails(UserDetailsImpl.build(1L, email, List.of("ROLE_USER")));
+    }
+}
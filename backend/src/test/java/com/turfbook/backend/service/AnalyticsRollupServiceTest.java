@@ -0,0 +1,145 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.Booking;
+import com.turfbook.backend.repository.BookingRepository;
+import com.turfbook.backend.repository.TurfCustomerRepository;
+import com.turfbook.backend.repository.TurfDailyStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AnalyticsRollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 14);
+
+    @Mock
+    private TurfDailyStatsRepository turfDailyStatsRepository;
+
+    @Mock
+    private TurfCustomerRepository turfCustomerRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private AnalyticsRollupService analyticsRollupService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    void onBookingCreated_ShouldAddRevenueAndActiveBookingForBookingDay() {
+        Booking booking = booking(new BigDecimal("800"), 5L);
+        booking.setBookingDate(DAY);
+
+        analyticsRollupService.onBookingCreated(booking);
+
+        verify(turfDailyStatsRepository).addDelta(2L, DAY, new BigDecimal("800"), 1, 0, 0);
+        verify(turfCustomerRepository).addIfAbsent(2L, 5L);
+    }
+
+    @Test
+    void onBookingCreated_ShouldKeyOnCreationDayAndZeroAmount_WhenUnset() {
+        Booking booking = booking(null, null);
+        booking.setCreatedAt(DAY.atTime(23, 59));
+
+        analyticsRollupService.onBookingCreated(booking);
+
+        verify(turfDailyStatsRepository).addDelta(2L, DAY, BigDecimal.ZERO, 1, 0, 0);
+        verifyNoInteractions(turfCustomerRepository);
+    }
+
+    @Test
+    void onSlotBooked_ShouldOnlyAddBookedSlot() {
+        analyticsRollupService.onSlotBooked(2L, DAY);
+
+        verify(turfDailyStatsRepository).addDelta(2L, DAY, BigDecimal.ZERO, 0, 0, 1);
+    }
+
+    @Test
+    void onSlotsGenerated_ShouldOnlyAddTotalSlots() {
+        analyticsRollupService.onSlotsGenerated(2L, DAY, 12);
+        analyticsRollupService.onSlotsGenerated(2L, DAY, 0);
+
+        verify(turfDailyStatsRepository).addDelta(2L, DAY, BigDecimal.ZERO, 0, 12, 0);
+        verifyNoMoreInteractions(turfDailyStatsRepository);
+    }
+
+    @Test
+    void onBookingClosed_ShouldDecrementActiveBookingsOfCreationDay() {
+        Booking booking = booking(new BigDecimal("800"), 5L);
+        booking.setCreatedAt(DAY.atTime(12, 0));
+
+        analyticsRollupService.onBookingClosed(booking);
+
+        verify(turfDailyStatsRepository).decrementActiveBookings(2L, DAY);
+    }
+
+    @Test
+    void onBookingsExpired_ShouldDecrementPerBookingBatch() {
+        analyticsRollupService.onBookingsExpired(List.of(7L, 8L));
+        analyticsRollupService.onBookingsExpired(List.of());
+
+        verify(turfDailyStatsRepository).decrementActiveBookingsForExpired(List.of(7L, 8L));
+        verifyNoMoreInteractions(turfDailyStatsRepository);
+    }
+
+    @Test
+    void backfill_ShouldReplaceRollupRatherThanAddToIt() {
+        analyticsRollupService.backfill();
+
+        InOrder inOrder = inOrder(turfDailyStatsRepository, turfCustomerRepository);
+        inOrder.verify(turfDailyStatsRepository).deleteAllRows();
+        inOrder.verify(turfCustomerRepository).deleteAllRows();
+        inOrder.verify(turfDailyStatsRepository).backfillBookings();
+        inOrder.verify(turfDailyStatsRepository).backfillSlots();
+        inOrder.verify(turfCustomerRepository).backfill();
+        verify(turfDailyStatsRepository, never()).addDelta(any(), any(), any(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void backfillIfEmpty_ShouldLeaveExistingRollupAlone() {
+        when(turfDailyStatsRepository.count()).thenReturn(3L);
+
+        analyticsRollupService.backfillIfEmpty();
+
+        verify(turfDailyStatsRepository, never()).deleteAllRows();
+        verify(turfDailyStatsRepository, never()).backfillBookings();
+    }
+
+    @Test
+    void backfillBookingDates_ShouldRunChunksUntilNoneAreLeft() {
+        when(bookingRepository.backfillBookingDates(anyInt())).thenReturn(5000, 1200, 0);
+
+        analyticsRollupService.backfillBookingDates();
+
+        verify(bookingRepository, times(3)).backfillBookingDates(5000);
+    }
+
+    private Booking booking(BigDecimal amount, Long userId) {
+        Booking booking = new Booking();
+        booking.setTurfId(2L);
+        booking.setUserId(userId);
+        booking.setTotalAmount(amount);
+        return booking;
+    }
+}
@@ -3,7 +3,9 @@ package com.turfbook.backend.service;
 import com.turfbook.backend.dto.response.OwnerAnalyticsResponse;
 import com.turfbook.backend.dto.response.RevenueDataPoint;
 import com.turfbook.backend.repository.BookingRepository;
-import com.turfbook.backend.repository.TurfSlotRepository;
+import com.turfbook.backend.repository.TurfCustomerRepository;
+import com.turfbook.backend.repository.TurfDailyStatsRepository;
+import com.turfbook.backend.repository.TurfScheduleTemplateRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -28,7 +30,13 @@ public class AnalyticsServiceNullSafetyTest {
     private BookingRepository bookingRepository;
 
     @Mock
-    private TurfSlotRepository turfSlotRepository;
+    private TurfDailyStatsRepository turfDailyStatsRepository;
+
+    @Mock
+    private TurfCustomerRepository turfCustomerRepository;
+
+    @Mock
+    private TurfScheduleTemplateRepository turfScheduleTemplateRepository;
 
     @BeforeEach
     void setUp() {
@@ -38,10 +46,10 @@ public class AnalyticsServiceNullSafetyTest {
     @Test
     void testGetOwnerDetailedAnalytics_AllNulls() {
         // Mock repositories returning null
-        when(bookingRepository.calculateTotalRevenueByOwnerId(anyLong())).thenReturn(null);
-        when(bookingRepository.countActiveBookingsByOwnerId(anyLong())).thenReturn(null);
-        when(bookingRepository.countUniqueCustomersByOwnerId(anyLong())).thenReturn(null);
-        when(turfSlotRepository.getDailyOccupancyStats(anyLong(), any(), any())).thenReturn(null);
+        when(turfDailyStatsRepository.sumRevenueByOwnerId(anyLong())).thenReturn(null);
+        when(turfDailyStatsRepository.sumActiveBookingsByOwnerId(anyLong())).thenReturn(null);
+        when(turfCustomerRepository.countUniqueCustomersByOwnerId(anyLong())).thenReturn(null);
+        when(turfDailyStatsRepository.getDailyOccupancyStats(anyLong(), any(), any())).thenReturn(null);
 
         OwnerAnalyticsResponse response = analyticsService.getOwnerDetailedAnalytics(1L);
 
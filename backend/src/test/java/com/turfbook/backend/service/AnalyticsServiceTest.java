@@ -4,7 +4,12 @@ import com.turfbook.backend.dto.AnalyticsDTO;
 import com.turfbook.backend.dto.response.OwnerAnalyticsResponse;
 import com.turfbook.backend.dto.response.RevenueDataPoint;
 import com.turfbook.backend.dto.response.OccupancyDataPoint;
+import com.turfbook.backend.model.TurfScheduleTemplate;
+import com.turfbook.backend.model.enums.RevenueGranularity;
 import com.turfbook.backend.repository.BookingRepository;
+import com.turfbook.backend.repository.TurfCustomerRepository;
+import com.turfbook.backend.repository.TurfDailyStatsRepository;
+import com.turfbook.backend.repository.TurfScheduleTemplateRepository;
 import com.turfbook.backend.repository.TurfSlotRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +19,7 @@ import org.mockito.MockitoAnnotations;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -29,6 +34,15 @@ class AnalyticsServiceTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private TurfDailyStatsRepository turfDailyStatsRepository;
+
+    @Mock
+    private TurfCustomerRepository turfCustomerRepository;
+
+    @Mock
+    private TurfScheduleTemplateRepository turfScheduleTemplateRepository;
+
     @Mock
     private TurfSlotRepository turfSlotRepository;
 
@@ -44,14 +58,14 @@ class AnalyticsServiceTest {
     void getOwnerDetailedAnalytics_ShouldReturnCorrectAnalytics() {
         Long ownerId = 1L;
 
-        when(bookingRepository.calculateTotalRevenueByOwnerId(ownerId)).thenReturn(new BigDecimal("3000"));
-        when(bookingRepository.countActiveBookingsByOwnerId(ownerId)).thenReturn(5);
-        when(bookingRepository.countUniqueCustomersByOwnerId(ownerId)).thenReturn(10L);
+        when(turfDailyStatsRepository.sumRevenueByOwnerId(ownerId)).thenReturn(new BigDecimal("3000"));
+        when(turfDailyStatsRepository.sumActiveBookingsByOwnerId(ownerId)).thenReturn(5L);
+        when(turfCustomerRepository.countUniqueCustomersByOwnerId(ownerId)).thenReturn(10L);
 
         // Mock occupancy stats: [date, totalSlots, bookedSlots]
         List<Object[]> occupancyStats = new ArrayList<>();
         occupancyStats.add(new Object[] { LocalDate.now(), 10L, 5L }); // 50% occupancy
-        when(turfSlotRepository.getDailyOccupancyStats(eq(ownerId), any(LocalDate.class), any(LocalDate.class)))
+        when(turfDailyStatsRepository.getDailyOccupancyStats(eq(ownerId), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(occupancyStats);
 
         OwnerAnalyticsResponse response = analyticsService.getOwnerDetailedAnalytics(ownerId);
@@ -61,19 +75,19 @@ class AnalyticsServiceTest {
         assertEquals(10, response.getTotalCustomers());
         assertEquals(50.0, response.getOccupancyRate());
 
-        verify(bookingRepository).calculateTotalRevenueByOwnerId(ownerId);
-        verify(bookingRepository).countActiveBookingsByOwnerId(ownerId);
-        verify(bookingRepository).countUniqueCustomersByOwnerId(ownerId);
+        verify(turfDailyStatsRepository).sumRevenueByOwnerId(ownerId);
+        verify(turfDailyStatsRepository).sumActiveBookingsByOwnerId(ownerId);
+        verify(turfCustomerRepository).countUniqueCustomersByOwnerId(ownerId);
     }
 
     @Test
     void getOwnerDetailedAnalytics_ShouldHandleNulls() {
         Long ownerId = 1L;
 
-        when(bookingRepository.calculateTotalRevenueByOwnerId(ownerId)).thenReturn(null);
-        when(bookingRepository.countActiveBookingsByOwnerId(ownerId)).thenReturn(null);
-        when(bookingRepository.countUniqueCustomersByOwnerId(ownerId)).thenReturn(null);
-        when(turfSlotRepository.getDailyOccupancyStats(eq(ownerId), any(LocalDate.class), any(LocalDate.class)))
+        when(turfDailyStatsRepository.sumRevenueByOwnerId(ownerId)).thenReturn(null);
+        when(turfDailyStatsRepository.sumActiveBookingsByOwnerId(ownerId)).thenReturn(null);
+        when(turfCustomerRepository.countUniqueCustomersByOwnerId(ownerId)).thenReturn(null);
+        when(turfDailyStatsRepository.getDailyOccupancyStats(eq(ownerId), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(Collections.emptyList());
 
         OwnerAnalyticsResponse response = analyticsService.getOwnerDetailedAnalytics(ownerId);
@@ -90,9 +104,9 @@ class AnalyticsServiceTest {
         int days = 7;
 
         List<AnalyticsDTO.DailyRevenueDTO> revenueList = new ArrayList<>();
-        revenueList.add(new AnalyticsDTO.DailyRevenueDTO(LocalDate.now().toString(), new BigDecimal("100")));
+        revenueList.add(new AnalyticsDTO.DailyRevenueDTO(LocalDate.now(), new BigDecimal("100")));
 
-        when(bookingRepository.getDailyRevenue(eq(ownerId), any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(bookingRepository.getDailyRevenue(eq(ownerId), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(revenueList);
 
         List<RevenueDataPoint> result = analyticsService.getOwnerRevenueData(ownerId, days);
@@ -105,6 +119,28 @@ class AnalyticsServiceTest {
         assertTrue(foundData);
     }
 
+    @Test
+    void getOwnerRevenueData_ShouldSumDaysIntoMonthBuckets() {
+        Long ownerId = 1L;
+        LocalDate today = LocalDate.now();
+        LocalDate firstOfMonth = today.withDayOfMonth(1);
+
+        List<AnalyticsDTO.DailyRevenueDTO> revenueList = new ArrayList<>();
+        revenueList.add(new AnalyticsDTO.DailyRevenueDTO(firstOfMonth, new BigDecimal("100")));
+        revenueList.add(new AnalyticsDTO.DailyRevenueDTO(today, new BigDecimal("50")));
+        revenueList.add(new AnalyticsDTO.DailyRevenueDTO(firstOfMonth.minusDays(1), new BigDecimal("30")));
+
+        when(bookingRepository.getDailyRevenue(eq(ownerId), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(revenueList);
+
+        List<RevenueDataPoint> result = analyticsService.getOwnerRevenueData(ownerId, 60, RevenueGranularity.MONTH);
+
+        RevenueDataPoint current = result.get(result.size() - 1);
+        RevenueDataPoint previous = result.get(result.size() - 2);
+        assertEquals(0, new BigDecimal("150").compareTo(current.getAmount()));
+        assertEquals(0, new BigDecimal("30").compareTo(previous.getAmount()));
+    }
+
     @Test
     void getOwnerOccupancyData_ShouldReturnDataPoints() {
         Long ownerId = 1L;
@@ -113,7 +149,7 @@ class AnalyticsServiceTest {
         List<Object[]> stats = new ArrayList<>();
         stats.add(new Object[] { LocalDate.now(), 10L, 5L }); // 50%
 
-        when(turfSlotRepository.getDailyOccupancyStats(eq(ownerId), any(LocalDate.class), any(LocalDate.class)))
+        when(turfDailyStatsRepository.getDailyOccupancyStats(eq(ownerId), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(stats);
 
         List<OccupancyDataPoint> result = analyticsService.getOwnerOccupancyData(ownerId, days);
@@ -124,4 +160,36 @@ class AnalyticsServiceTest {
         boolean foundData = result.stream().anyMatch(p -> p.getOccupancy() == 50.0);
         assertTrue(foundData);
     }
+
+    @Test
+    void getOwnerOccupancyData_ShouldNotCountStoredTemplateSlotsTwice() {
+        Long ownerId = 1L;
+        LocalDate today = LocalDate.now();
+
+        // 10:00-14:00 in hour slots: 4 slots, two of which have rows
+        TurfScheduleTemplate template = new TurfScheduleTemplate();
+        template.setTurfId(7L);
+        template.setDayOfWeek(today.getDayOfWeek());
+        template.setOpenTime(LocalTime.of(10, 0));
+        template.setCloseTime(LocalTime.of(14, 0));
+        template.setSlotDurationMinutes(60);
+        when(turfScheduleTemplateRepository.findByOwnerId(ownerId)).thenReturn(List.of(template));
+        when(turfSlotRepository.findSlotTimesByTurfIdInAndDateBetween(List.of(7L), today, today))
+                .thenReturn(List.of(storedSlot(7L, today, 10), storedSlot(7L, today, 11)));
+
+        List<Object[]> stats = new ArrayList<>();
+        stats.add(new Object[] { today, 2L, 1L });
+        when(turfDailyStatsRepository.getDailyOccupancyStats(ownerId, today, today)).thenReturn(stats);
+
+        List<OccupancyDataPoint> result = analyticsService.getOwnerOccupancyData(ownerId, 1);
+
+        // Materialized rows are in the rollup's total, so only the 2 template
+        // slots without a row are added: 1 booked out of 4
+        assertEquals(1, result.size());
+        assertEquals(25.0, result.get(0).getOccupancy());
+    }
+
+    private static Object[] storedSlot(Long turfId, LocalDate date, int hour) {
+        return new Object[] { turfId, date, LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0) };
+    }
 }
@@ -0,0 +1,262 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.response.BookingPage;
+import com.turfbook.backend.dto.response.BookingSummary;
+import com.turfbook.backend.model.Booking;
+import com.turfbook.backend.model.Turf;
+import com.turfbook.backend.model.TurfSlot;
+import com.turfbook.backend.model.enums.BookingStatus;
+import com.turfbook.backend.repository.BookingRepository;
+import com.turfbook.backend.repository.TurfRepository;
+import com.turfbook.backend.repository.TurfSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BookingServiceTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private TurfSlotRepository turfSlotRepository;
+
+    @Mock
+    private TurfRepository turfRepository;
+
+    @Mock
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Mock
+    private SlotLockManager slotLockManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private LockExpiryScheduler lockExpiryScheduler;
+
+    @Mock
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Mock
+    private SlotCalendarService slotCalendarService;
+
+    @Mock
+    private PricingEngine pricingEngine;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private BookingService bookingService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(bookingService, "sweepChunkSize", 2);
+        ReflectionTestUtils.setField(bookingService, "historyPageSize", 20);
+        ReflectionTestUtils.setField(bookingService, "historyMaxPageSize", 100);
+        when(slotLockManager.withSlotLock(anyLong(), any()))
+                .thenAnswer(inv -> ((Supplier<?>) inv.getArgument(1)).get());
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(slotCalendarService.materialize(anyLong(), anyLong())).thenAnswer(inv -> inv.getArgument(1));
+    }
+
+    private TurfSlot slot(Long id, Long turfId) {
+        TurfSlot slot = new TurfSlot();
+        slot.setId(id);
+        slot.setTurfId(turfId);
+        slot.setIsAvailable(true);
+        return slot;
+    }
+
+    @Test
+    void initiateBooking_ShouldClaimSlotWithSingleUpdate() {
+        TurfSlot slot = slot(5L, 2L);
+        when(turfSlotRepository.findById(5L)).thenReturn(Optional.of(slot));
+        when(pricingEngine.price(eq(2L), eq(slot), anyDouble())).thenReturn(new BigDecimal("800"));
+        when(turfSlotRepository.claimSlot(eq(5L), eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        Booking booking = bookingService.initiateBooking(1L, 2L, 5L);
+
+        assertEquals(BookingStatus.PENDING, booking.getStatus());
+        assertEquals(5L, booking.getSlotId());
+        assertEquals(new BigDecimal("800"), booking.getTotalAmount());
+        verify(slotAvailabilityService).markLocked(eq(5L), eq(1L), any(LocalDateTime.class),
+                any(LocalDateTime.class));
+        verify(lockExpiryScheduler).schedule(eq(5L), eq(booking.getExpiresAt()));
+    }
+
+    @Test
+    void initiateBooking_ShouldReportLockedSlot_WhenClaimMatchesNoRows() {
+        TurfSlot slot = slot(5L, 2L);
+        slot.setIsLocked(true);
+        slot.setLockedBy(9L);
+        when(turfSlotRepository.claimSlot(eq(5L), eq(1L), any(), any())).thenReturn(0);
+        when(turfSlotRepository.findById(5L)).thenReturn(Optional.of(slot));
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> bookingService.initiateBooking(1L, 2L, 5L));
+
+        assertEquals("Slot is currently locked by another user", e.getMessage());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(slotAvailabilityService, never()).markLocked(anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    void initiateBooking_ShouldReportBookedSlot_WhenUniqueIndexRejectsInsert() {
+        when(turfSlotRepository.findById(5L)).thenReturn(Optional.of(slot(5L, 2L)));
+        when(turfSlotRepository.claimSlot(eq(5L), eq(1L), any(), any())).thenReturn(1);
+        when(bookingRepository.save(any(Booking.class))).thenThrow(new DataIntegrityViolationException("dup"));
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> bookingService.initiateBooking(1L, 2L, 5L));
+
+        assertEquals("Slot is already booked", e.getMessage());
+    }
+
+    @Test
+    void initiateBooking_ShouldRejectSlotOfAnotherTurf() {
+        when(turfSlotRepository.findById(5L)).thenReturn(Optional.of(slot(5L, 3L)));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> bookingService.initiateBooking(1L, 2L, 5L));
+
+        assertEquals("Slot not found: 5", e.getMessage());
+        verify(turfSlotRepository, never()).claimSlot(anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    void initiateBooking_ShouldMaterializeVirtualSlotUnderItsLock() {
+        TurfSlot slot = slot(5L, 2L);
+        when(slotCalendarService.materialize(2L, -9L)).thenReturn(5L);
+        when(turfSlotRepository.findById(5L)).thenReturn(Optional.of(slot));
+        when(pricingEngine.price(eq(2L), eq(slot), anyDouble())).thenReturn(new BigDecimal("800"));
+        when(turfSlotRepository.claimSlot(eq(5L), eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        Booking booking = bookingService.initiateBooking(1L, 2L, -9L);
+
+        assertEquals(5L, booking.getSlotId());
+        InOrder inOrder = inOrder(slotLockManager, slotCalendarService);
+        inOrder.verify(slotLockManager).withSlotLock(eq(-9L), any());
+        inOrder.verify(slotCalendarService).materialize(2L, -9L);
+        inOrder.verify(slotLockManager).withSlotLock(eq(5L), any());
+    }
+
+    @Test
+    void initiateBooking_ShouldRejectVirtualSlotContenderBeforeTouchingDb() {
+        doThrow(new RuntimeException("Slot is currently being booked by another user"))
+                .when(slotLockManager).withSlotLock(eq(-9L), any());
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> bookingService.initiateBooking(1L, 2L, -9L));
+
+        assertEquals("Slot is currently being booked by another user", e.getMessage());
+        verifyNoInteractions(slotCalendarService, turfSlotRepository, transactionTemplate);
+    }
+
+    @Test
+    void releaseExpiredLocksAndBookings_ShouldSweepInChunksAndRecordMetrics() {
+        when(turfSlotRepository.findExpiredLockIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L), Collections.emptyList());
+        when(turfSlotRepository.releaseExpiredLocks(anyList(), any(LocalDateTime.class)))
+                .thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+        when(bookingRepository.findExpiredPendingIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(7L), Collections.emptyList());
+        when(bookingRepository.expirePendingBookings(anyList(), any(LocalDateTime.class))).thenReturn(1);
+
+        bookingService.releaseExpiredLocksAndBookings();
+
+        verify(transactionTemplate, times(5)).execute(any());
+        verify(slotAvailabilityService).markReleased(List.of(1L, 2L));
+        verify(slotAvailabilityService).markReleased(List.of(3L));
+        assertEquals(3.0, meterRegistry.counter("booking.sweeper.slots.released").count());
+        assertEquals(1.0, meterRegistry.counter("booking.sweeper.bookings.expired").count());
+        assertEquals(1, meterRegistry.timer("booking.sweeper.duration").count());
+    }
+
+    @Test
+    void releaseExpiredLock_ShouldExpireBooking_OnlyWhenLockWasReleased() {
+        LocalDateTime expiresAt = LocalDateTime.now();
+        when(turfSlotRepository.releaseLockExpiringBy(5L, expiresAt)).thenReturn(1, 0);
+        when(turfSlotRepository.findLockExpiryById(5L)).thenReturn(Optional.empty());
+
+        assertNull(bookingService.releaseExpiredLock(5L, expiresAt));
+        assertNull(bookingService.releaseExpiredLock(5L, expiresAt));
+
+        verify(bookingRepository, times(1)).expirePendingBookingForSlot(eq(5L), any(LocalDateTime.class));
+        verify(slotAvailabilityService, times(1)).markReleased(5L);
+        assertEquals(1.0, meterRegistry.counter("booking.lock-expiry.released").count());
+    }
+
+    @Test
+    void releaseExpiredLock_ShouldReturnHeldExpiry_WhenLockWasNotReleased() {
+        LocalDateTime expiresAt = LocalDateTime.now();
+        LocalDateTime renewed = expiresAt.plusMinutes(5);
+        when(turfSlotRepository.releaseLockExpiringBy(5L, expiresAt)).thenReturn(0);
+        when(turfSlotRepository.findLockExpiryById(5L)).thenReturn(Optional.of(renewed));
+
+        assertEquals(renewed, bookingService.releaseExpiredLock(5L, expiresAt));
+        verify(slotAvailabilityService, never()).markReleased(5L);
+    }
+
+    @Test
+    void getBookingHistory_ShouldPageByIdCursor() {
+        when(bookingRepository.findSummariesByUserId(1L, Long.MAX_VALUE, PageRequest.of(0, 3)))
+                .thenReturn(List.of(summary(9L), summary(7L), summary(4L)));
+        when(bookingRepository.findSummariesByUserId(1L, 7L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(summary(4L)));
+
+        BookingPage first = bookingService.getBookingHistory(1L, null, 2);
+        BookingPage second = bookingService.getBookingHistory(1L, first.getNextCursor(), 2);
+
+        assertEquals(2, first.getBookings().size());
+        assertEquals(7L, first.getNextCursor());
+        assertEquals(1, second.getBookings().size());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void getOwnerBookings_ShouldRejectTurfOfAnotherOwner() {
+        Turf turf = new Turf();
+        turf.setId(3L);
+        turf.setOwnerId(2L);
+        when(turfRepository.findById(3L)).thenReturn(Optional.of(turf));
+
+        assertThrows(RuntimeException.class, () -> bookingService.getOwnerBookings(1L, 3L, null, null));
+        verify(bookingRepository, never()).findSummariesByTurfId(anyLong(), anyLong(), any(Pageable.class));
+    }
+
+    private BookingSummary summary(Long id) {
+        BookingSummary summary = new BookingSummary();
+        summary.setId(id);
+        return summary;
+    }
+}
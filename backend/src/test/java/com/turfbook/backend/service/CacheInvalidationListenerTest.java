@@ -0,0 +1,88 @@
+package com.turfbook.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheInvalidationListenerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 14);
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Mock
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @InjectMocks
+    private CacheInvalidationListener cacheInvalidationListener;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(cacheInvalidationPublisher.getNodeId()).thenReturn("node-a");
+    }
+
+    @Test
+    void init_ShouldSubscribeOnRelayNextToExistingSystemSubscriptions() {
+        StompBrokerRelayMessageHandler relay = new StompBrokerRelayMessageHandler(mock(SubscribableChannel.class),
+                mock(MessageChannel.class), mock(SubscribableChannel.class), List.of("/topic"));
+        MessageHandler userRegistry = mock(MessageHandler.class);
+        relay.setSystemSubscriptions(Map.of("/topic/simp-user-registry", userRegistry));
+        ReflectionTestUtils.setField(cacheInvalidationListener, "brokerHandlers",
+                List.<AbstractBrokerMessageHandler>of(relay));
+
+        cacheInvalidationListener.init();
+
+        assertSame(userRegistry, relay.getSystemSubscriptions().get("/topic/simp-user-registry"));
+        assertSame(cacheInvalidationListener,
+                relay.getSystemSubscriptions().get(CacheInvalidationPublisher.DESTINATION));
+    }
+
+    @Test
+    void handleMessage_ShouldDropOtherNodesChanges() {
+        receive("node-b|slots|2|" + DAY);
+        receive("node-b|turf|3");
+        receive("node-b|unread|5");
+        receive("node-b|unread|*");
+
+        verify(slotAvailabilityService).dropGrid(2L, DAY);
+        verify(slotAvailabilityService).dropTurf(3L);
+        verify(unreadNotificationCounter).forget(5L);
+        verify(unreadNotificationCounter).forgetAll();
+    }
+
+    @Test
+    void handleMessage_ShouldSkipOwnAndMalformedInvalidations() {
+        receive("node-a|slots|2|" + DAY);
+        receive("node-b|slots|2");
+        receive("node-b|bookings|2");
+
+        verifyNoInteractions(slotAvailabilityService, unreadNotificationCounter);
+    }
+
+    private void receive(String text) {
+        cacheInvalidationListener.handleMessage(
+                MessageBuilder.withPayload(text.getBytes(StandardCharsets.UTF_8)).build());
+    }
+}
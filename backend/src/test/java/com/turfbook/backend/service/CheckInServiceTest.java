@@ -0,0 +1,132 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.Booking;
+import com.turfbook.backend.model.enums.BookingStatus;
+import com.turfbook.backend.repository.BookingRepository;
+import com.turfbook.backend.repository.TurfRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CheckInServiceTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private TurfRepository turfRepository;
+
+    @Mock
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private CheckInService checkInService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+        when(turfRepository.existsById(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void checkIn_ShouldServeRepeatScansFromTodayCache() {
+        when(bookingRepository.findConfirmedByTurfIdAndSlotDate(1L, LocalDate.now()))
+                .thenReturn(List.of(booking(7L, "secret")));
+        when(bookingRepository.checkIn(eq(7L), any(LocalDateTime.class))).thenReturn(1);
+
+        checkInService.checkIn("secret", 1L);
+        RuntimeException e = assertThrows(RuntimeException.class, () -> checkInService.checkIn("secret", 1L));
+
+        assertEquals("Already checked in", e.getMessage());
+        verify(bookingRepository, times(1)).findConfirmedByTurfIdAndSlotDate(1L, LocalDate.now());
+        verify(bookingRepository, times(1)).checkIn(eq(7L), any(LocalDateTime.class));
+        verify(bookingRepository, never()).findByQrSecret(anyString());
+        verify(analyticsRollupService).onBookingClosed(1L, LocalDate.now());
+    }
+
+    @Test
+    void checkIn_ShouldUseQrIndex_WhenTurfUnknown() {
+        when(bookingRepository.findByQrSecret("secret")).thenReturn(Optional.of(booking(7L, "secret")));
+        when(bookingRepository.checkIn(eq(7L), any(LocalDateTime.class))).thenReturn(1);
+
+        checkInService.checkIn("secret", null);
+
+        verify(bookingRepository, never()).findAll();
+        verify(bookingRepository).checkIn(eq(7L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void checkIn_ShouldRejectLosingConcurrentScan() {
+        Booking scanned = booking(7L, "secret");
+        scanned.setStatus(BookingStatus.COMPLETED);
+        scanned.setCheckedInAt(LocalDateTime.now());
+        when(bookingRepository.findByQrSecret("secret")).thenReturn(Optional.of(booking(7L, "secret")));
+        when(bookingRepository.checkIn(eq(7L), any(LocalDateTime.class))).thenReturn(0);
+        when(bookingRepository.findById(7L)).thenReturn(Optional.of(scanned));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> checkInService.checkIn("secret", null));
+
+        assertEquals("Already checked in", e.getMessage());
+        verify(analyticsRollupService, never()).onBookingClosed(anyLong(), any(LocalDate.class));
+    }
+
+    @Test
+    void checkIn_ShouldRejectUnknownCode() {
+        when(bookingRepository.findByQrSecret("nope")).thenReturn(Optional.empty());
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> checkInService.checkIn("nope", null));
+
+        assertEquals("Invalid QR Code", e.getMessage());
+    }
+
+    @Test
+    void checkIn_ShouldRejectBookingOfAnotherTurf_WhenNotCached() {
+        when(bookingRepository.findConfirmedByTurfIdAndSlotDate(2L, LocalDate.now())).thenReturn(List.of());
+        when(bookingRepository.findByQrSecret("secret")).thenReturn(Optional.of(booking(7L, "secret")));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> checkInService.checkIn("secret", 2L));
+
+        assertEquals("Booking is not valid for this turf", e.getMessage());
+        verify(bookingRepository, never()).checkIn(anyLong(), any());
+    }
+
+    @Test
+    void checkIn_ShouldNotCacheDayForUnknownTurf() {
+        when(turfRepository.existsById(99L)).thenReturn(false);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> checkInService.checkIn("secret", 99L));
+
+        assertEquals("Turf not found", e.getMessage());
+        verify(bookingRepository, never()).findConfirmedByTurfIdAndSlotDate(anyLong(), any());
+        assertThrows(RuntimeException.class, () -> checkInService.checkIn("secret", 99L));
+        verify(turfRepository, times(2)).existsById(99L);
+    }
+
+    private Booking booking(Long id, String qrSecret) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setTurfId(1L);
+        booking.setQrSecret(qrSecret);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setBookingDate(LocalDate.now());
+        return booking;
+    }
+}
@@ -0,0 +1,94 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.repository.FriendRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FriendGraphTest {
+
+    @Mock
+    private FriendRepository friendRepository;
+
+    @InjectMocks
+    private FriendGraph friendGraph;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(friendGraph, "loadBatchSize", 10);
+        // 1 - 2, 1 - 3, 2 - 4, 3 - 4, 3 - 5, 4 - 6
+        friendGraph.addFriendship(1L, 2L);
+        friendGraph.addFriendship(3L, 1L);
+        friendGraph.addFriendship(2L, 4L);
+        friendGraph.addFriendship(3L, 4L);
+        friendGraph.addFriendship(3L, 5L);
+        friendGraph.addFriendship(4L, 6L);
+    }
+
+    @Test
+    void areFriends_ShouldBeSymmetric() {
+        assertTrue(friendGraph.areFriends(1L, 3L));
+        assertTrue(friendGraph.areFriends(3L, 1L));
+        assertFalse(friendGraph.areFriends(1L, 4L));
+        assertFalse(friendGraph.areFriends(9L, 1L));
+        assertArrayEquals(new long[] { 1L, 4L, 5L }, friendGraph.friendsOf(3L));
+    }
+
+    @Test
+    void mutualFriends_ShouldIntersectFriendLists() {
+        assertArrayEquals(new long[] { 2L, 3L }, friendGraph.mutualFriends(1L, 4L));
+        assertEquals(2, friendGraph.mutualFriendCount(2L, 3L));
+        assertEquals(0, friendGraph.mutualFriendCount(1L, 9L));
+    }
+
+    @Test
+    void suggestions_ShouldRankFriendsOfFriendsByMutualCount() {
+        assertEquals(Map.of(4L, 2, 5L, 1), friendGraph.friendsOfFriends(1L));
+
+        List<long[]> suggestions = friendGraph.suggestions(1L, new long[0], 10);
+        assertArrayEquals(new long[] { 4L, 2L }, suggestions.get(0));
+        assertArrayEquals(new long[] { 5L, 1L }, suggestions.get(1));
+
+        // Ties break on lower ID; excluded users are left out
+        friendGraph.addFriendship(2L, 7L);
+        suggestions = friendGraph.suggestions(1L, new long[] { 4L }, 1);
+        assertEquals(1, suggestions.size());
+        assertArrayEquals(new long[] { 5L, 1L }, suggestions.get(0));
+    }
+
+    @Test
+    void removeFriendship_ShouldUnlinkBothSides() {
+        friendGraph.removeFriendship(4L, 3L);
+
+        assertFalse(friendGraph.areFriends(3L, 4L));
+        assertArrayEquals(new long[] { 2L, 6L }, friendGraph.friendsOf(4L));
+        assertArrayEquals(new long[] { 3L }, friendGraph.mutualFriends(1L, 5L));
+    }
+
+    @Test
+    void rebuild_ShouldReplaceGraphAndKeepChangesMadeDuringLoad() {
+        when(friendRepository.findMutuallyAcceptedAfter(0L, PageRequest.of(0, 10))).thenAnswer(inv -> {
+            // Accepted while the reload runs
+            friendGraph.addFriendship(8L, 9L);
+            return List.<Object[]>of(new Object[] { 5L, 1L, 2L });
+        });
+
+        friendGraph.rebuild();
+
+        assertTrue(friendGraph.areFriends(1L, 2L));
+        assertTrue(friendGraph.areFriends(9L, 8L));
+        assertFalse(friendGraph.areFriends(3L, 4L));
+        assertEquals(0, friendGraph.friendCount(6L));
+    }
+}
@@ -0,0 +1,108 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.response.FriendSuggestion;
+import com.turfbook.backend.model.Friend;
+import com.turfbook.backend.model.User;
+import com.turfbook.backend.model.enums.FriendStatus;
+import com.turfbook.backend.repository.FriendRepository;
+import com.turfbook.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FriendServiceTest {
+
+    @Mock
+    private FriendRepository friendRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private FriendGraph friendGraph;
+
+    @InjectMocks
+    private FriendService friendService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void searchUsers_ShouldBoostFriendsAndFriendsOfFriendsAndSkipPendingRequests() {
+        // 1 has sent a request to 4 and blocked 5
+        when(friendRepository.findRelationsOf(1L)).thenReturn(List.of(
+                new Object[] { 1L, 2L, FriendStatus.ACCEPTED },
+                new Object[] { 1L, 4L, FriendStatus.SENT },
+                new Object[] { 4L, 1L, FriendStatus.PENDING },
+                new Object[] { 5L, 1L, FriendStatus.BLOCKED }));
+        when(friendGraph.friendsOf(1L)).thenReturn(new long[] { 2L, 3L });
+        when(friendGraph.friendsOfFriends(1L)).thenReturn(Map.of(6L, 2, 7L, 1));
+        when(userService.searchUsers(any(), anyBoolean(), any(), any())).thenReturn(List.<User>of());
+
+        friendService.searchUsers(1L, "ra");
+
+        verify(userService).searchUsers("ra", false,
+                Map.of(2L, Integer.MAX_VALUE, 3L, Integer.MAX_VALUE, 6L, 2, 7L, 1),
+                Set.of(1L, 4L, 5L));
+    }
+
+    @Test
+    void getSuggestions_ShouldExcludePendingRequestsAndKeepRankOrder() {
+        when(friendRepository.findRelationsOf(1L)).thenReturn(List.<Object[]>of(
+                new Object[] { 9L, 1L, FriendStatus.SENT }));
+        when(friendGraph.suggestions(1L, new long[] { 9L }, 5))
+                .thenReturn(List.of(new long[] { 7L, 3L }, new long[] { 6L, 1L }));
+        when(userRepository.findAllById(List.of(7L, 6L))).thenReturn(List.of(user(6L), user(7L)));
+
+        List<FriendSuggestion> suggestions = friendService.getSuggestions(1L, 5);
+
+        assertEquals(List.of(7L, 6L), suggestions.stream().map(s -> s.getUser().getId()).toList());
+        assertEquals(3, suggestions.get(0).getMutualFriends());
+    }
+
+    @Test
+    void removeFriend_ShouldEndFriendshipOnBothSides() {
+        Friend mine = friend(1L, 2L);
+        Friend theirs = friend(2L, 1L);
+        when(friendRepository.findFriendship(1L, 2L)).thenReturn(Optional.of(mine));
+        when(friendRepository.findFriendship(2L, 1L)).thenReturn(Optional.of(theirs));
+
+        friendService.removeFriend(1L, 2L);
+
+        assertEquals(FriendStatus.REMOVED, mine.getStatus());
+        assertEquals(FriendStatus.REMOVED, theirs.getStatus());
+        verify(friendGraph).removeFriendship(1L, 2L);
+    }
+
+    private Friend friend(Long userId, Long friendId) {
+        Friend friend = new Friend();
+        friend.setUserId(userId);
+        friend.setFriendId(friendId);
+        friend.setStatus(FriendStatus.ACCEPTED);
+        return friend;
+    }
+
+    private User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
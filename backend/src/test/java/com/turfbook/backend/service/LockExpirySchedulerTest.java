@@ -0,0 +1,89 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.repository.TurfSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LockExpirySchedulerTest {
+
+    @Mock
+    private TurfSlotRepository turfSlotRepository;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private LockExpiryScheduler lockExpiryScheduler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockExpiryScheduler.stop();
+    }
+
+    @Test
+    void start_ShouldReleaseLocksLoadedFromDb_WhenAlreadyExpired() {
+        List<Object[]> locks = new ArrayList<>();
+        locks.add(new Object[] { 1L, LocalDateTime.now().minusMinutes(1) });
+        locks.add(new Object[] { 2L, LocalDateTime.now().plusHours(1) });
+        when(turfSlotRepository.findActiveLockExpiries()).thenReturn(locks);
+
+        lockExpiryScheduler.start();
+
+        verify(bookingService, timeout(1000)).releaseExpiredLock(eq(1L), any(LocalDateTime.class));
+        verify(bookingService, never()).releaseExpiredLock(eq(2L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void schedule_ShouldReleaseLockAtExactlyItsExpiry() {
+        when(turfSlotRepository.findActiveLockExpiries()).thenReturn(new ArrayList<>());
+        List<LocalDateTime> calledAt = new ArrayList<>();
+        when(bookingService.releaseExpiredLock(eq(3L), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            calledAt.add(LocalDateTime.now());
+            return null;
+        });
+        lockExpiryScheduler.start();
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(200_000_000);
+        lockExpiryScheduler.schedule(3L, expiresAt);
+
+        verify(bookingService, after(100).never()).releaseExpiredLock(eq(3L), any(LocalDateTime.class));
+        verify(bookingService, timeout(1000)).releaseExpiredLock(3L, expiresAt);
+        assertFalse(calledAt.get(0).isBefore(expiresAt));
+    }
+
+    @Test
+    void run_ShouldRetryLockThatIsStillHeld() {
+        when(turfSlotRepository.findActiveLockExpiries()).thenReturn(new ArrayList<>());
+        LocalDateTime expiresAt = LocalDateTime.now();
+        when(bookingService.releaseExpiredLock(eq(4L), any(LocalDateTime.class))).thenReturn(expiresAt, null);
+        lockExpiryScheduler.start();
+
+        lockExpiryScheduler.schedule(4L, expiresAt);
+
+        verify(bookingService, timeout(3000).times(2)).releaseExpiredLock(eq(4L), any(LocalDateTime.class));
+    }
+}
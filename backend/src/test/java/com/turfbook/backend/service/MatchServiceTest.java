@@ -0,0 +1,190 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.request.MatchRequest;
+import com.turfbook.backend.dto.response.MatchResponse;
+import com.turfbook.backend.model.Match;
+import com.turfbook.backend.model.Team;
+import com.turfbook.backend.repository.MatchRepository;
+import com.turfbook.backend.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MatchServiceTest {
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private MatchService matchService;
+
+    private MatchmakingQueue matchmakingQueue;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        matchmakingQueue = new MatchmakingQueue();
+        ReflectionTestUtils.setField(matchmakingQueue, "bandWidth", 100);
+        ReflectionTestUtils.setField(matchmakingQueue, "widenEveryMs", 30000L);
+        ReflectionTestUtils.setField(matchmakingQueue, "maxBands", 5);
+        ReflectionTestUtils.setField(matchService, "matchmakingQueue", matchmakingQueue);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+        when(matchRepository.save(any(Match.class))).thenAnswer(invocation -> {
+            Match match = invocation.getArgument(0);
+            if (match.getId() == null) {
+                match.setId(100L + match.getTeamA().getId());
+            }
+            return match;
+        });
+    }
+
+    @Test
+    void findMatch_ShouldOpenMatchAndQueueTeamWhenNoOpponentIsWaiting() {
+        Team team = team(1L, 1200);
+
+        MatchResponse response = matchService.findMatch(request(1L));
+
+        assertEquals("LOOKING_FOR_OPPONENT", response.getStatus());
+        assertEquals(101L, response.getId());
+        assertEquals(101L, matchmakingQueue.ticketOf(team.getId()).matchId());
+        verify(matchRepository, never()).findByStatus(any());
+    }
+
+    @Test
+    void findMatch_ShouldScheduleWaitingTeamsOpenMatch() {
+        Team waiting = team(1L, 1210);
+        Team caller = team(2L, 1280);
+        matchService.findMatch(request(1L));
+        openMatch(101L, waiting);
+
+        MatchResponse response = matchService.findMatch(request(2L));
+
+        assertEquals("SCHEDULED", response.getStatus());
+        assertEquals(101L, response.getId());
+        assertEquals(caller.getId(), response.getTeamB().getId());
+        assertEquals(0, matchmakingQueue.size());
+        verify(matchRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void findMatch_ShouldNotPairTeamsOutsideTheirBands() {
+        team(1L, 1200);
+        team(2L, 1900);
+        matchService.findMatch(request(1L));
+
+        MatchResponse response = matchService.findMatch(request(2L));
+
+        assertEquals("LOOKING_FOR_OPPONENT", response.getStatus());
+        assertEquals(2, matchmakingQueue.size());
+    }
+
+    @Test
+    void findMatch_ShouldOfferOpenMatchOnlyAfterItCommits() {
+        team(1L, 1200);
+        List<Long> matchIdsAtCommit = new ArrayList<>();
+        doAnswer(inv -> {
+            Object result = ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null);
+            matchIdsAtCommit.add(matchmakingQueue.ticketOf(1L).matchId());
+            return result;
+        }).when(transactionTemplate).execute(any());
+
+        matchService.findMatch(request(1L));
+
+        assertEquals(Collections.singletonList(null), matchIdsAtCommit);
+        assertEquals(101L, matchmakingQueue.ticketOf(1L).matchId());
+    }
+
+    @Test
+    void findMatch_ShouldDiscardWaitingTicketWhoseMatchIsNoLongerOpen() {
+        Team waiting = team(1L, 1210);
+        team(2L, 1280);
+        matchService.findMatch(request(1L));
+        openMatch(101L, waiting).setStatus("COMPLETED");
+
+        MatchResponse response = matchService.findMatch(request(2L));
+
+        assertEquals("LOOKING_FOR_OPPONENT", response.getStatus());
+        assertEquals(102L, response.getId());
+        assertNull(matchmakingQueue.ticketOf(1L));
+        assertEquals(102L, matchmakingQueue.ticketOf(2L).matchId());
+        verify(matchRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void pairWaitingTeams_ShouldScheduleEachPairingInItsOwnTransaction() {
+        team(1L, 1200);
+        team(2L, 1450);
+        Team third = team(3L, 2000);
+        Team fourth = team(4L, 2250);
+        matchmakingQueue.restore(new MatchmakingQueue.Ticket(1L, 1200, 101L, 0),
+                new MatchmakingQueue.Ticket(2L, 1450, 102L, 0),
+                new MatchmakingQueue.Ticket(3L, 2000, 103L, 0),
+                new MatchmakingQueue.Ticket(4L, 2250, 104L, 0));
+        when(matchRepository.findById(101L)).thenThrow(new RuntimeException("connection reset"));
+        Match open = openMatch(103L, third);
+        openMatch(104L, fourth);
+
+        matchService.pairWaitingTeams();
+
+        verify(transactionTemplate, times(2)).execute(any());
+        assertEquals("SCHEDULED", open.getStatus());
+        assertEquals(fourth, open.getTeamB());
+        verify(matchRepository).deleteById(104L);
+    }
+
+    @Test
+    void completeMatch_ShouldStopOfferingMatchClosedWithoutOpponent() {
+        Team team = team(1L, 1200);
+        matchService.findMatch(request(1L));
+        openMatch(101L, team);
+
+        matchService.completeMatch(101L, null);
+
+        assertEquals(0, matchmakingQueue.size());
+    }
+
+    private Match openMatch(Long id, Team teamA) {
+        Match match = new Match();
+        match.setId(id);
+        match.setTeamA(teamA);
+        match.setStatus("LOOKING_FOR_OPPONENT");
+        when(matchRepository.findById(id)).thenReturn(Optional.of(match));
+        return match;
+    }
+
+    private Team team(Long id, int rating) {
+        Team team = new Team();
+        team.setId(id);
+        team.setName("Team " + id);
+        team.setSkillRating(rating);
+        when(teamRepository.findById(id)).thenReturn(Optional.of(team));
+        return team;
+    }
+
+    private MatchRequest request(Long teamId) {
+        MatchRequest request = new MatchRequest();
+        request.setTeamId(teamId);
+        return request;
+    }
+}
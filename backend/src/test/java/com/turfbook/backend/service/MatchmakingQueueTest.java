@@ -0,0 +1,129 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.repository.MatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchmakingQueueTest {
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @InjectMocks
+    private MatchmakingQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(queue, "bandWidth", 100);
+        ReflectionTestUtils.setField(queue, "widenEveryMs", 1000L);
+        ReflectionTestUtils.setField(queue, "maxBands", 3);
+    }
+
+    private void waiting(long teamId, int rating, long enqueuedAt) {
+        queue.restore(new MatchmakingQueue.Ticket(teamId, rating, teamId * 10, enqueuedAt));
+    }
+
+    @Test
+    void offer_ShouldPairWithinSameBandOldestFirst() {
+        waiting(1L, 1210, 0);
+        waiting(2L, 1250, 10);
+
+        MatchmakingQueue.Pairing pairing = queue.offer(3L, 1290, 20);
+
+        assertEquals(1L, pairing.waiting().teamId());
+        assertEquals(10L, pairing.waiting().matchId());
+        assertEquals(3L, pairing.opponent().teamId());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void offer_ShouldOnlyReachFurtherBandsAfterWaiting() {
+        waiting(1L, 1500, 0);
+
+        // Two bands away: the waiting team has to have waited two widening steps
+        assertNull(queue.offer(2L, 1300, 1500));
+        queue.remove(2L);
+        MatchmakingQueue.Pairing pairing = queue.offer(3L, 1300, 2000);
+
+        assertEquals(1L, pairing.waiting().teamId());
+        assertEquals(3L, pairing.opponent().teamId());
+    }
+
+    @Test
+    void offer_ShouldNotPairWithTeamsWithoutOpenMatchOrTwice() {
+        assertNull(queue.offer(1L, 1200, 0));
+
+        // Team 1 has no open match yet, so team 2 has to wait as well
+        assertNull(queue.offer(2L, 1200, 0));
+        assertThrows(RuntimeException.class, () -> queue.offer(1L, 1200, 0));
+
+        MatchmakingQueue.Pairing pairing = queue.attach(2L, 20L, 0);
+        assertNull(pairing);
+        pairing = queue.attach(1L, 10L, 0);
+        assertEquals(2L, pairing.waiting().teamId());
+        assertEquals(1L, pairing.opponent().teamId());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void pairWaiting_ShouldPairTeamsOnceTheirBandsHaveWidened() {
+        waiting(1L, 1000, 0);
+        waiting(2L, 1150, 500);
+        waiting(3L, 2000, 0);
+
+        assertTrue(queue.pairWaiting(500).isEmpty());
+        List<MatchmakingQueue.Pairing> pairings = queue.pairWaiting(1000);
+
+        assertEquals(1, pairings.size());
+        assertEquals(1L, pairings.get(0).waiting().teamId());
+        assertEquals(2L, pairings.get(0).opponent().teamId());
+        assertEquals(3L, queue.ticketOf(3L).teamId());
+    }
+
+    @Test
+    void restore_ShouldRequeueTickets() {
+        waiting(1L, 1200, 0);
+        MatchmakingQueue.Pairing pairing = queue.offer(2L, 1200, 0);
+
+        queue.restore(pairing.waiting());
+
+        assertEquals(10L, queue.ticketOf(1L).matchId());
+        assertNull(queue.ticketOf(2L));
+    }
+
+    @Test
+    void offer_ShouldNeverHandTheSameOpponentToTwoTeams() throws Exception {
+        for (long id = 1; id <= 500; id++) {
+            waiting(id, 1200, 0);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<MatchmakingQueue.Pairing>> futures = new ArrayList<>();
+        for (long id = 1001; id <= 1500; id++) {
+            long teamId = id;
+            futures.add(executor.submit(() -> queue.offer(teamId, 1200, 0)));
+        }
+        Set<Long> claimed = new HashSet<>();
+        for (Future<MatchmakingQueue.Pairing> future : futures) {
+            assertTrue(claimed.add(future.get().waiting().teamId()));
+        }
+        executor.shutdown();
+
+        assertEquals(500, claimed.size());
+        assertEquals(0, queue.size());
+    }
+}
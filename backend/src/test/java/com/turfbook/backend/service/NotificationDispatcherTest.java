@@ -0,0 +1,79 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.response.NotificationPush;
+import com.turfbook.backend.model.Notification;
+import com.turfbook.backend.model.enums.NotificationType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private WebSocketPublisher webSocketPublisher;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(notificationDispatcher, "batchSize", 2);
+    }
+
+    @Test
+    void flush_ShouldInsertInMultiRowChunksAndPushOncePerUser() {
+        List<Notification> batch = List.of(notification(1L), notification(2L), notification(1L));
+        when(unreadNotificationCounter.add(1L, 2)).thenReturn(5L);
+
+        notificationDispatcher.flush(batch);
+
+        // 3 rows with a batch size of 2 -> two multi-row INSERTs
+        verify(jdbcTemplate, times(2)).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+
+        ArgumentCaptor<NotificationPush> push = ArgumentCaptor.forClass(NotificationPush.class);
+        verify(webSocketPublisher).sendToUser(eq(1L), eq("/queue/notifications"), push.capture());
+        assertEquals(2, push.getValue().getNotifications().size());
+        assertEquals(5L, push.getValue().getUnreadCount());
+        verify(webSocketPublisher).sendToUser(eq(2L), eq("/queue/notifications"),
+                any(NotificationPush.class));
+        assertEquals(3.0, meterRegistry.counter("notification.inserted").count());
+    }
+
+    private Notification notification(Long userId) {
+        Notification notification = new Notification();
+        notification.setUserId(userId);
+        notification.setType(NotificationType.INFO);
+        notification.setMessage("Booking confirmed");
+        notification.setRead(false);
+        notification.setActionable(false);
+        notification.setCreatedAt(LocalDateTime.now());
+        return notification;
+    }
+}
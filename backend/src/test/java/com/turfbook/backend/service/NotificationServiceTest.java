@@ -1,5 +1,6 @@
 package com.turfbook.backend.service;
 
+import com.turfbook.backend.dto.response.NotificationPage;
 import com.turfbook.backend.dto.response.NotificationResponse;
 import com.turfbook.backend.model.Notification;
 import com.turfbook.backend.model.enums.NotificationType;
@@ -9,6 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -23,12 +27,20 @@ class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
     @InjectMocks
     private NotificationService notificationService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(notificationService, "feedPageSize", 50);
+        ReflectionTestUtils.setField(notificationService, "feedMaxPageSize", 100);
     }
 
     @Test
@@ -50,7 +62,7 @@ class NotificationServiceTest {
         notification2.setRead(true);
         notification2.setCreatedAt(LocalDateTime.now().minusHours(1));
 
-        when(notificationRepository.findByUserIdOrderByCreatedAtDesc(userId))
+        when(notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(eq(userId), any(Pageable.class)))
                 .thenReturn(Arrays.asList(notification1, notification2));
 
         List<Notification> responses = notificationService.getUserNotifications(userId);
@@ -58,7 +70,58 @@ class NotificationServiceTest {
         assertEquals(2, responses.size());
         assertEquals("Test Notification 1", responses.get(0).getMessage());
         assertEquals("Test Notification 2", responses.get(1).getMessage());
-        verify(notificationRepository, times(1)).findByUserIdOrderByCreatedAtDesc(userId);
+        verify(notificationRepository, times(1)).findByUserIdOrderByCreatedAtDescIdDesc(userId, PageRequest.of(0, 50));
+    }
+
+    @Test
+    void getNotificationFeed_ShouldReturnCursorThatResumesAfterLastItem() {
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 18, 30);
+        List<Notification> rows = Arrays.asList(notification(30L, now), notification(29L, now),
+                notification(28L, now.minusMinutes(1)));
+        when(notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, PageRequest.of(0, 3)))
+                .thenReturn(rows);
+
+        NotificationPage first = notificationService.getNotificationFeed(userId, null, 2);
+
+        assertEquals(2, first.getNotifications().size());
+        assertNotNull(first.getNextCursor());
+
+        when(notificationRepository.findPageBefore(userId, now, 29L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(notification(28L, now.minusMinutes(1))));
+
+        NotificationPage second = notificationService.getNotificationFeed(userId, first.getNextCursor(), 2);
+
+        assertEquals(1, second.getNotifications().size());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void getUnreadNotifications_ShouldCapPageAndResumeFromCursor() {
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 18, 30);
+        ReflectionTestUtils.setField(notificationService, "feedMaxPageSize", 2);
+        when(notificationRepository.findByUserIdAndReadFalseOrderByCreatedAtDescIdDesc(userId, PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(notification(30L, now), notification(29L, now),
+                        notification(28L, now.minusMinutes(1))));
+
+        NotificationPage first = notificationService.getUnreadNotifications(userId, null, 500);
+
+        assertEquals(2, first.getNotifications().size());
+        assertNotNull(first.getNextCursor());
+
+        when(notificationRepository.findUnreadPageBefore(userId, now, 29L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(notification(28L, now.minusMinutes(1))));
+
+        NotificationPage second = notificationService.getUnreadNotifications(userId, first.getNextCursor(), 500);
+
+        assertEquals(28L, second.getNotifications().get(0).getId());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void getNotificationFeed_ShouldRejectMalformedCursor() {
+        assertThrows(RuntimeException.class, () -> notificationService.getNotificationFeed(1L, "not-a-cursor", 10));
     }
 
     @Test
@@ -72,12 +135,26 @@ class NotificationServiceTest {
 
         when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(notification));
         when(notificationRepository.save(any(Notification.class))).thenReturn(notification);
+        when(unreadNotificationCounter.add(userId, -1)).thenReturn(2L);
 
         notificationService.markAsRead(notificationId, userId);
 
         assertTrue(notification.getRead());
         verify(notificationRepository, times(1)).findById(notificationId);
         verify(notificationRepository, times(1)).save(notification);
+        verify(notificationDispatcher, times(1)).pushUnreadCount(userId, 2L);
+    }
+
+    @Test
+    void markAllAsRead_ShouldUseBulkUpdateAndPushCount() {
+        Long userId = 1L;
+        when(notificationRepository.markAllAsReadByUserId(userId)).thenReturn(3);
+        when(unreadNotificationCounter.add(userId, -3)).thenReturn(0L);
+
+        notificationService.markAllAsRead(userId);
+
+        verify(notificationRepository, never()).saveAll(any());
+        verify(notificationDispatcher, times(1)).pushUnreadCount(userId, 0L);
     }
 
     @Test
@@ -95,11 +172,19 @@ class NotificationServiceTest {
     void getUnreadCount_ShouldReturnCount() {
         Long userId = 1L;
         Long expectedCount = 5L;
-        when(notificationRepository.countByUserIdAndReadFalse(userId)).thenReturn(expectedCount);
+        when(unreadNotificationCounter.get(userId)).thenReturn(expectedCount);
 
         Long actualCount = notificationService.getUnreadCount(userId);
 
         assertEquals(expectedCount, actualCount);
-        verify(notificationRepository, times(1)).countByUserIdAndReadFalse(userId);
+        verify(notificationRepository, never()).countByUserIdAndReadFalse(userId);
+    }
+
+    private Notification notification(Long id, LocalDateTime createdAt) {
+        Notification notification = new Notification();
+        notification.setId(id);
+        notification.setUserId(1L);
+        notification.setCreatedAt(createdAt);
+        return notification;
     }
 }
@@ -0,0 +1,108 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.Turf;
+import com.turfbook.backend.model.TurfSlot;
+import com.turfbook.backend.repository.TurfRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PricingEngineTest {
+
+    private static final String RULES = "{"
+            + "\"peakHours\": [{\"start\": \"18:00\", \"end\": \"22:00\", \"multiplier\": 1.5},"
+            + "  {\"days\": [\"FRIDAY\"], \"start\": \"20:00\", \"end\": \"23:00\", \"multiplier\": 2}],"
+            + "\"weekendMultiplier\": 1.2,"
+            + "\"surge\": [{\"occupancy\": 0.9, \"multiplier\": 1.25}, {\"occupancy\": 0.5, \"multiplier\": 1.1}]"
+            + "}";
+
+    @Mock
+    private TurfRepository turfRepository;
+
+    @InjectMocks
+    private PricingEngine pricingEngine;
+
+    // A Monday
+    private final LocalDate monday = LocalDate.of(2030, 1, 7);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(pricingEngine, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(pricingEngine, "maxSize", 100);
+        pricingEngine.init();
+
+        Turf turf = new Turf();
+        turf.setId(1L);
+        turf.setBasePrice(new BigDecimal("800"));
+        turf.setPricingRules(RULES);
+        when(turfRepository.findById(1L)).thenReturn(Optional.of(turf));
+    }
+
+    @Test
+    void price_ShouldApplyPeakWeekendAndSurge() {
+        // Off-peak weekday at the turf base price
+        assertEquals(new BigDecimal("800.00"), pricingEngine.price(1L, slot(monday, 10, null), 0.0));
+        // Peak window on a custom price
+        assertEquals(new BigDecimal("750.00"), pricingEngine.price(1L, slot(monday, 19, new BigDecimal("500")), 0.0));
+        // Friday's own window beats the everyday one
+        assertEquals(new BigDecimal("1600.00"), pricingEngine.price(1L, slot(monday.plusDays(4), 21, null), 0.0));
+        // Weekend peak with the highest surge step reached
+        assertEquals(new BigDecimal("1800.00"), pricingEngine.price(1L, slot(monday.plusDays(5), 18, null), 0.95));
+    }
+
+    @Test
+    void priceDay_ShouldSurgeOnOccupancyOfTheGrid() {
+        TurfSlot booked = slot(monday, 8, null);
+        booked.setIsAvailable(false);
+        TurfSlot free = slot(monday, 9, null);
+
+        pricingEngine.priceDay(1L, List.of(booked, free));
+
+        assertEquals(new BigDecimal("880.00"), free.getPrice());
+    }
+
+    @Test
+    void invalidate_ShouldRecompileRules() {
+        pricingEngine.price(1L, slot(monday, 10, null), 0.0);
+        pricingEngine.price(1L, slot(monday, 11, null), 0.0);
+        verify(turfRepository, times(1)).findById(1L);
+
+        pricingEngine.invalidate(1L);
+        pricingEngine.price(1L, slot(monday, 10, null), 0.0);
+        verify(turfRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void compile_ShouldRejectMalformedRules() {
+        assertThrows(IllegalArgumentException.class, () -> PricingEngine.compile("{\"weekendMultiplier\": -1}", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> PricingEngine.compile("{\"peakHours\": [{\"start\": \"22:00\", \"end\": \"18:00\", "
+                        + "\"multiplier\": 1.5}]}", null));
+        assertThrows(IllegalArgumentException.class, () -> PricingEngine.compile("not json", null));
+    }
+
+    private TurfSlot slot(LocalDate date, int hour, BigDecimal customPrice) {
+        TurfSlot slot = new TurfSlot();
+        slot.setTurfId(1L);
+        slot.setDate(date);
+        slot.setStartTime(LocalTime.of(hour, 0));
+        slot.setEndTime(LocalTime.of(hour + 1, 0));
+        slot.setCustomPrice(customPrice);
+        slot.setIsAvailable(true);
+        slot.setIsLocked(false);
+        return slot;
+    }
+}
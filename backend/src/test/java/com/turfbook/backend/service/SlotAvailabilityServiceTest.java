@@ -0,0 +1,170 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.response.SlotDelta;
+import com.turfbook.backend.model.TurfSlot;
+import com.turfbook.backend.model.enums.SlotState;
+import com.turfbook.backend.repository.TurfSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SlotAvailabilityServiceTest {
+
+    @Mock
+    private TurfSlotRepository turfSlotRepository;
+
+    @Mock
+    private SlotScheduleService slotScheduleService;
+
+    @Mock
+    private SlotDeltaPublisher slotDeltaPublisher;
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @InjectMocks
+    private SlotAvailabilityService slotAvailabilityService;
+
+    private final LocalDate date = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(slotScheduleService.getSlots(1L, date))
+                .thenReturn(Arrays.asList(slot(11L, 7), slot(10L, 6), slot(12L, 8)));
+    }
+
+    @Test
+    void getSlots_ShouldLoadOnceAndServeFromMemory() {
+        List<TurfSlot> first = slotAvailabilityService.getSlots(1L, date);
+        List<TurfSlot> second = slotAvailabilityService.getSlots(1L, date);
+
+        assertEquals(3, first.size());
+        assertEquals(10L, first.get(0).getId()); // ordered by start time
+        assertEquals(3, second.size());
+        verify(slotScheduleService, times(1)).getSlots(1L, date);
+    }
+
+    @Test
+    void getSlots_ShouldNotCacheGrid_WhenWriteLandsDuringLoad() {
+        when(slotScheduleService.getSlots(1L, date)).thenAnswer(invocation -> {
+            slotAvailabilityService.markBooked(11L);
+            return Arrays.asList(slot(11L, 7), slot(10L, 6), slot(12L, 8));
+        });
+
+        slotAvailabilityService.getSlots(1L, date);
+        slotAvailabilityService.getSlots(1L, date);
+
+        verify(slotScheduleService, times(2)).getSlots(1L, date);
+    }
+
+    @Test
+    void stateTransitions_ShouldBeReflectedInGrid() {
+        slotAvailabilityService.getSlots(1L, date);
+
+        LocalDateTime now = LocalDateTime.now();
+        slotAvailabilityService.markLocked(10L, 5L, now, now.plusMinutes(15));
+        slotAvailabilityService.markBooked(11L);
+
+        List<TurfSlot> slots = slotAvailabilityService.getSlots(1L, date);
+        assertTrue(slots.get(0).getIsLocked());
+        assertEquals(5L, slots.get(0).getLockedBy());
+        assertFalse(slots.get(1).getIsAvailable());
+        assertEquals(1, slotAvailabilityService.countFreeSlots(1L, date));
+
+        slotAvailabilityService.markReleased(10L);
+
+        slots = slotAvailabilityService.getSlots(1L, date);
+        assertFalse(slots.get(0).getIsLocked());
+        assertNull(slots.get(0).getLockedBy());
+        assertEquals(2, slotAvailabilityService.countFreeSlots(1L, date));
+        verify(slotScheduleService, times(1)).getSlots(1L, date);
+    }
+
+    @Test
+    void stateTransitions_ShouldPublishDeltasWithGridVersions() {
+        slotAvailabilityService.getSlots(1L, date);
+
+        LocalDateTime now = LocalDateTime.now();
+        slotAvailabilityService.markLocked(10L, 5L, now, now.plusMinutes(15));
+        slotAvailabilityService.markBooked(10L);
+
+        ArgumentCaptor<SlotDelta> delta = ArgumentCaptor.forClass(SlotDelta.class);
+        verify(slotDeltaPublisher, times(2)).publish(eq(1L), eq(date), delta.capture());
+        assertEquals(SlotState.LOCKED, delta.getAllValues().get(0).getState());
+        assertEquals(1L, delta.getAllValues().get(0).getVersion());
+        assertEquals(SlotState.BOOKED, delta.getAllValues().get(1).getState());
+        assertEquals(2L, delta.getAllValues().get(1).getVersion());
+        verify(cacheInvalidationPublisher, times(2)).slotsChanged(1L, date);
+    }
+
+    @Test
+    void markReleased_ShouldResolveTurfAndDay_WhenGridNotCached() {
+        when(turfSlotRepository.findTurfAndDateByIdIn(List.of(20L)))
+                .thenReturn(List.<Object[]>of(new Object[] { 20L, 2L, date }));
+
+        slotAvailabilityService.markReleased(List.of(20L));
+
+        ArgumentCaptor<SlotDelta> delta = ArgumentCaptor.forClass(SlotDelta.class);
+        verify(slotDeltaPublisher).publish(eq(2L), eq(date), delta.capture());
+        assertEquals(20L, delta.getValue().getSlotId());
+        assertEquals(SlotState.AVAILABLE, delta.getValue().getState());
+        assertNull(delta.getValue().getVersion());
+    }
+
+    @Test
+    void evict_ShouldReloadFromRepository() {
+        slotAvailabilityService.getSlots(1L, date);
+        slotAvailabilityService.evict(1L, date);
+        slotAvailabilityService.getSlots(1L, date);
+
+        verify(slotScheduleService, times(2)).getSlots(1L, date);
+    }
+
+    @Test
+    void evictTurf_ShouldReloadEveryDayOfTurf() {
+        slotAvailabilityService.getSlots(1L, date);
+        slotAvailabilityService.getSlots(1L, date.plusDays(1));
+        slotAvailabilityService.evictTurf(1L);
+        slotAvailabilityService.getSlots(1L, date);
+        slotAvailabilityService.getSlots(1L, date.plusDays(1));
+
+        verify(slotScheduleService, times(2)).getSlots(1L, date);
+        verify(slotScheduleService, times(2)).getSlots(1L, date.plusDays(1));
+        verify(cacheInvalidationPublisher).turfChanged(1L);
+    }
+
+    @Test
+    void dropGrid_ShouldReloadWithoutNotifyingOtherNodes() {
+        slotAvailabilityService.getSlots(1L, date);
+        slotAvailabilityService.dropGrid(1L, date);
+        slotAvailabilityService.getSlots(1L, date);
+
+        verify(slotScheduleService, times(2)).getSlots(1L, date);
+        verifyNoInteractions(cacheInvalidationPublisher);
+    }
+
+    private TurfSlot slot(Long id, int hour) {
+        TurfSlot slot = new TurfSlot();
+        slot.setId(id);
+        slot.setTurfId(1L);
+        slot.setDate(date);
+        slot.setStartTime(LocalTime.of(hour, 0));
+        slot.setEndTime(LocalTime.of(hour + 1, 0));
+        slot.setIsAvailable(true);
+        slot.setIsLocked(false);
+        return slot;
+    }
+}
@@ -0,0 +1,290 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.request.SlotCalendarRequest;
+import com.turfbook.backend.dto.response.SlotGenerationResult;
+import com.turfbook.backend.model.Turf;
+import com.turfbook.backend.model.TurfScheduleTemplate;
+import com.turfbook.backend.model.TurfSlot;
+import com.turfbook.backend.repository.TurfDailyStatsRepository;
+import com.turfbook.backend.repository.TurfRepository;
+import com.turfbook.backend.repository.TurfScheduleTemplateRepository;
+import com.turfbook.backend.repository.TurfSlotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SlotCalendarServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TurfRepository turfRepository;
+
+    @Mock
+    private TurfSlotRepository turfSlotRepository;
+
+    @Mock
+    private TurfScheduleTemplateRepository turfScheduleTemplateRepository;
+
+    @Mock
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Mock
+    private SlotScheduleService slotScheduleService;
+
+    @Mock
+    private AnalyticsRollupService analyticsRollupService;
+
+    @InjectMocks
+    private SlotCalendarService slotCalendarService;
+
+    // A Monday, so the week runs Monday to Sunday
+    private final LocalDate monday = LocalDate.of(2030, 1, 7);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(slotCalendarService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(slotCalendarService, "batchSize", 10);
+        ReflectionTestUtils.setField(slotCalendarService, "maxDays", 366);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+        when(turfRepository.findAllById(List.of(1L))).thenReturn(List.of(turf(1L, 7L)));
+    }
+
+    @Test
+    void generateCalendar_ShouldInsertTemplatesPerWeekdayInChunks() {
+        // Weekdays 18:00-22:00 (4 slots x 5 days), weekends 06:00-09:00 (3 x 2)
+        SlotCalendarRequest request = request(
+                new SlotCalendarRequest.DayTemplate(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY,
+                        DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY),
+                        LocalTime.of(18, 0), LocalTime.of(22, 0), 60, null),
+                new SlotCalendarRequest.DayTemplate(List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY),
+                        LocalTime.of(6, 0), LocalTime.of(9, 0), 60, new BigDecimal("900")));
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenAnswer(inv -> rows(inv.getArgument(0)));
+
+        SlotGenerationResult result = slotCalendarService.generateCalendar(7L, request);
+
+        assertEquals(26, result.getSlotsPlanned());
+        assertEquals(26, result.getSlotsInserted());
+        assertEquals(0, result.getSlotsSkipped());
+        // Chunks of 10: Mon, Tue, Wed | Wed, Thu, Fri | Sat, Sun
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(jdbcTemplate, times(8)).update(any(PreparedStatementCreator.class));
+        verify(analyticsRollupService).onSlotsGenerated(1L, monday, 4);
+        verify(analyticsRollupService, times(2)).onSlotsGenerated(1L, monday.plusDays(2), 2);
+        verify(analyticsRollupService).onSlotsGenerated(1L, monday.plusDays(5), 3);
+        for (int day = 0; day < 7; day++) {
+            // A day split across two chunks is evicted after each
+            verify(slotAvailabilityService, atLeastOnce()).evict(1L, monday.plusDays(day));
+        }
+    }
+
+    @Test
+    void generateCalendar_ShouldSkipExistingSlots() {
+        SlotCalendarRequest request = request(new SlotCalendarRequest.DayTemplate(List.of(DayOfWeek.MONDAY),
+                LocalTime.of(18, 0), LocalTime.of(20, 0), 60, null));
+        when(turfSlotRepository.findSlotStartsByTurfIdInAndDateBetween(List.of(1L), monday, monday.plusDays(6)))
+                .thenReturn(List.<Object[]>of(new Object[] { 1L, monday, LocalTime.of(18, 0) }));
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(1);
+
+        SlotGenerationResult result = slotCalendarService.generateCalendar(7L, request);
+
+        assertEquals(2, result.getSlotsPlanned());
+        assertEquals(1, result.getSlotsInserted());
+        assertEquals(1, result.getSlotsSkipped());
+        verify(analyticsRollupService).onSlotsGenerated(1L, monday, 1);
+    }
+
+    @Test
+    void generateCalendar_ShouldOnlyCountSlotsActuallyInserted() throws SQLException {
+        // Another run inserts one Monday and one Tuesday slot after the existence check
+        SlotCalendarRequest request = request(new SlotCalendarRequest.DayTemplate(
+                List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), LocalTime.of(18, 0), LocalTime.of(21, 0), 60, null));
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(2, 2);
+
+        SlotGenerationResult result = slotCalendarService.generateCalendar(7L, request);
+
+        assertEquals(4, result.getSlotsInserted());
+        verify(analyticsRollupService).onSlotsGenerated(1L, monday, 2);
+        verify(analyticsRollupService).onSlotsGenerated(1L, monday.plusDays(1), 2);
+
+        ArgumentCaptor<PreparedStatementCreator> statement = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate, times(2)).update(statement.capture());
+        String sql = sql(statement.getValue());
+        assertTrue(sql.startsWith("INSERT INTO turf_slots"));
+        assertTrue(sql.endsWith("ON DUPLICATE KEY UPDATE id = id"));
+    }
+
+    @Test
+    void generateCalendar_ShouldRejectTurfOfAnotherOwner() {
+        SlotCalendarRequest request = request(new SlotCalendarRequest.DayTemplate(List.of(DayOfWeek.MONDAY),
+                LocalTime.of(18, 0), LocalTime.of(20, 0), 60, null));
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> slotCalendarService.generateCalendar(8L, request));
+
+        assertEquals("You do not own this turf", e.getMessage());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void materialize_ShouldInsertVirtualSlotAndReturnStoredId() {
+        LocalDate date = monday.plusDays(1);
+        TurfSlot virtual = new TurfSlot();
+        virtual.setTurfId(1L);
+        virtual.setDate(date);
+        virtual.setStartTime(LocalTime.of(19, 0));
+        virtual.setEndTime(LocalTime.of(20, 0));
+        TurfSlot stored = new TurfSlot();
+        stored.setId(55L);
+        when(slotScheduleService.resolveVirtualSlot(-9L)).thenReturn(virtual);
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(1);
+        when(turfSlotRepository.findByTurfIdAndDateAndStartTime(1L, date, LocalTime.of(19, 0)))
+                .thenReturn(Optional.empty(), Optional.of(stored));
+
+        assertEquals(55L, slotCalendarService.materialize(1L, -9L));
+        assertEquals(12L, slotCalendarService.materialize(1L, 12L));
+
+        verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class));
+        verify(slotAvailabilityService).evict(1L, date);
+        verify(analyticsRollupService).onSlotsGenerated(1L, date, 1);
+    }
+
+    @Test
+    void materialize_ShouldKeepOccupancyWithinCapacity() {
+        // 10:00-14:00 in hour slots; the 10:00 slot is materialized, then booked
+        LocalDate today = LocalDate.now();
+        TurfScheduleTemplate template = new TurfScheduleTemplate();
+        template.setTurfId(1L);
+        template.setDayOfWeek(today.getDayOfWeek());
+        template.setOpenTime(LocalTime.of(10, 0));
+        template.setCloseTime(LocalTime.of(14, 0));
+        template.setSlotDurationMinutes(60);
+        TurfSlot virtual = SlotScheduleService.layOut(1L, today, template).get(0);
+        TurfSlot stored = SlotScheduleService.layOut(1L, today, template).get(0);
+        stored.setId(55L);
+        when(slotScheduleService.resolveVirtualSlot(-9L)).thenReturn(virtual);
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(1);
+        when(turfSlotRepository.findByTurfIdAndDateAndStartTime(1L, today, LocalTime.of(10, 0)))
+                .thenReturn(Optional.empty(), Optional.of(stored));
+
+        // Rollup row for today: total slots as reported to the rollup, 1 booked
+        AtomicLong totalSlots = new AtomicLong();
+        doAnswer(inv -> totalSlots.addAndGet((int) inv.getArgument(2)))
+                .when(analyticsRollupService).onSlotsGenerated(eq(1L), eq(today), anyInt());
+        TurfDailyStatsRepository turfDailyStatsRepository = mock(TurfDailyStatsRepository.class);
+        when(turfDailyStatsRepository.getDailyOccupancyStats(7L, today, today))
+                .thenAnswer(inv -> List.<Object[]>of(new Object[] { today, totalSlots.get(), 1L }));
+        TurfScheduleTemplateRepository templates = mock(TurfScheduleTemplateRepository.class);
+        when(templates.findByOwnerId(7L)).thenReturn(List.of(template));
+        when(turfSlotRepository.findSlotTimesByTurfIdInAndDateBetween(List.of(1L), today, today))
+                .thenReturn(List.<Object[]>of(new Object[] { 1L, today, stored.getStartTime(), stored.getEndTime() }));
+        AnalyticsService analyticsService = new AnalyticsService();
+        ReflectionTestUtils.setField(analyticsService, "turfDailyStatsRepository", turfDailyStatsRepository);
+        ReflectionTestUtils.setField(analyticsService, "turfScheduleTemplateRepository", templates);
+        ReflectionTestUtils.setField(analyticsService, "turfSlotRepository", turfSlotRepository);
+
+        slotCalendarService.materialize(1L, -9L);
+
+        // 1 booked out of the 4 template slots: 1 stored in the rollup, 3 still virtual
+        assertEquals(25.0, analyticsService.getOwnerOccupancyData(7L, 1).get(0).getOccupancy());
+    }
+
+    @Test
+    void materialize_ShouldNotCountSlotAnotherCallerMaterialized() {
+        LocalDate date = monday.plusDays(1);
+        TurfSlot virtual = new TurfSlot();
+        virtual.setTurfId(1L);
+        virtual.setDate(date);
+        virtual.setStartTime(LocalTime.of(19, 0));
+        virtual.setEndTime(LocalTime.of(20, 0));
+        TurfSlot stored = new TurfSlot();
+        stored.setId(55L);
+        when(slotScheduleService.resolveVirtualSlot(-9L)).thenReturn(virtual);
+        // Another node inserts the row between the lookup and the insert
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(0);
+        when(turfSlotRepository.findByTurfIdAndDateAndStartTime(1L, date, LocalTime.of(19, 0)))
+                .thenReturn(Optional.empty(), Optional.of(stored));
+
+        assertEquals(55L, slotCalendarService.materialize(1L, -9L));
+
+        verify(analyticsRollupService, never()).onSlotsGenerated(any(), any(), intThat(count -> count > 0));
+        verify(slotAvailabilityService, never()).evict(any(), any());
+    }
+
+    @Test
+    void materialize_ShouldNotInsert_WhenRowAlreadyExists() {
+        LocalDate date = monday.plusDays(1);
+        TurfSlot virtual = new TurfSlot();
+        virtual.setTurfId(1L);
+        virtual.setDate(date);
+        virtual.setStartTime(LocalTime.of(19, 0));
+        virtual.setEndTime(LocalTime.of(20, 0));
+        TurfSlot stored = new TurfSlot();
+        stored.setId(55L);
+        when(slotScheduleService.resolveVirtualSlot(-9L)).thenReturn(virtual);
+        when(turfSlotRepository.findByTurfIdAndDateAndStartTime(1L, date, LocalTime.of(19, 0)))
+                .thenReturn(Optional.of(stored));
+
+        assertEquals(55L, slotCalendarService.materialize(1L, -9L));
+
+        verifyNoInteractions(jdbcTemplate, transactionTemplate, analyticsRollupService);
+    }
+
+    private int rows(PreparedStatementCreator statement) throws SQLException {
+        return sql(statement).split("\\(\\?").length - 1;
+    }
+
+    private String sql(PreparedStatementCreator statement) throws SQLException {
+        Connection con = mock(Connection.class);
+        when(con.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        statement.createPreparedStatement(con);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(con).prepareStatement(sql.capture());
+        return sql.getValue();
+    }
+
+    private SlotCalendarRequest request(SlotCalendarRequest.DayTemplate... templates) {
+        SlotCalendarRequest request = new SlotCalendarRequest();
+        request.setTurfIds(List.of(1L));
+        request.setStartDate(monday);
+        request.setEndDate(monday.plusDays(6));
+        request.setTemplates(List.of(templates));
+        return request;
+    }
+
+    private Turf turf(Long id, Long ownerId) {
+        Turf turf = new Turf();
+        turf.setId(id);
+        turf.setOwnerId(ownerId);
+        return turf;
+    }
+}
@@ -0,0 +1,61 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.response.SlotDelta;
+import com.turfbook.backend.dto.response.SlotDeltaPush;
+import com.turfbook.backend.model.enums.SlotState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SlotDeltaPublisherTest {
+
+    @Mock
+    private WebSocketPublisher webSocketPublisher;
+
+    @InjectMocks
+    private SlotDeltaPublisher slotDeltaPublisher;
+
+    private final LocalDate date = LocalDate.of(2024, 6, 1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // Long window so only the explicit stop() below flushes
+        ReflectionTestUtils.setField(slotDeltaPublisher, "coalesceMs", 60000L);
+        slotDeltaPublisher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        slotDeltaPublisher.stop();
+    }
+
+    @Test
+    void publish_ShouldCoalesceDeltasPerTopicKeepingLatestStatePerSlot() {
+        slotDeltaPublisher.publish(1L, date, new SlotDelta(10L, SlotState.LOCKED, 1L));
+        slotDeltaPublisher.publish(1L, date, new SlotDelta(11L, SlotState.LOCKED, 1L));
+        slotDeltaPublisher.publish(1L, date, new SlotDelta(10L, SlotState.BOOKED, 2L));
+        slotDeltaPublisher.publish(2L, date, new SlotDelta(20L, SlotState.AVAILABLE, 3L));
+
+        verifyNoInteractions(webSocketPublisher);
+        slotDeltaPublisher.stop();
+
+        ArgumentCaptor<Object> push = ArgumentCaptor.forClass(Object.class);
+        verify(webSocketPublisher).send(eq("/topic/turfs/1/2024-06-01/slots"), push.capture());
+        SlotDeltaPush turfOne = (SlotDeltaPush) push.getValue();
+        assertEquals(2, turfOne.getDeltas().size());
+        assertEquals(SlotState.BOOKED, turfOne.getDeltas().get(0).getState());
+        assertEquals(2L, turfOne.getDeltas().get(0).getVersion());
+        verify(webSocketPublisher).send(eq("/topic/turfs/2/2024-06-01/slots"), any(SlotDeltaPush.class));
+    }
+}
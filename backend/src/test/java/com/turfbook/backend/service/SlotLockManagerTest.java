@@ -0,0 +1,94 @@
+package com.turfbook.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotLockManagerTest {
+
+    private SlotLockManager slotLockManager;
+
+    @BeforeEach
+    void setUp() {
+        slotLockManager = new SlotLockManager();
+        ReflectionTestUtils.setField(slotLockManager, "waitMs", 10L);
+    }
+
+    @Test
+    void withSlotLock_ShouldRejectContenderForSameSlot() throws Exception {
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> holder = executor.submit(() -> slotLockManager.withSlotLock(1L, () -> {
+                held.countDown();
+                await(release);
+                return "first";
+            }));
+            assertTrue(held.await(1, TimeUnit.SECONDS));
+
+            RuntimeException e = assertThrows(RuntimeException.class,
+                    () -> slotLockManager.withSlotLock(1L, () -> "second"));
+            assertEquals("Slot is currently being booked by another user", e.getMessage());
+
+            release.countDown();
+            assertEquals("first", holder.get(1, TimeUnit.SECONDS));
+            assertEquals("third", slotLockManager.withSlotLock(1L, () -> "third"));
+            assertEquals(0, slotLockManager.activeLocks());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void withSlotLock_ShouldNotBlockOtherSlots() throws Exception {
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> holder = executor.submit(() -> slotLockManager.withSlotLock(1L, () -> {
+                held.countDown();
+                await(release);
+                return "first";
+            }));
+            assertTrue(held.await(1, TimeUnit.SECONDS));
+
+            // Slots 1 and 65 shared a stripe when locks were striped 64 ways
+            assertEquals("other", slotLockManager.withSlotLock(65L, () -> "other"));
+            assertEquals(1, slotLockManager.activeLocks());
+
+            release.countDown();
+            assertEquals("first", holder.get(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void withSlotLock_ShouldReleaseWhenActionThrows() {
+        assertThrows(IllegalStateException.class, () -> slotLockManager.withSlotLock(2L, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals("ok", slotLockManager.withSlotLock(2L, () -> "ok"));
+        assertEquals(0, slotLockManager.activeLocks());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
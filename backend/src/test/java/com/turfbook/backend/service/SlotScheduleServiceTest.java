@@ -0,0 +1,90 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.TurfScheduleTemplate;
+import com.turfbook.backend.model.TurfSlot;
+import com.turfbook.backend.repository.TurfScheduleTemplateRepository;
+import com.turfbook.backend.repository.TurfSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SlotScheduleServiceTest {
+
+    @Mock
+    private TurfSlotRepository turfSlotRepository;
+
+    @Mock
+    private TurfScheduleTemplateRepository turfScheduleTemplateRepository;
+
+    @InjectMocks
+    private SlotScheduleService slotScheduleService;
+
+    private final LocalDate date = LocalDate.of(2030, 1, 7);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        TurfScheduleTemplate template = new TurfScheduleTemplate();
+        template.setTurfId(3L);
+        template.setDayOfWeek(date.getDayOfWeek());
+        template.setOpenTime(LocalTime.of(18, 0));
+        template.setCloseTime(LocalTime.of(22, 0));
+        template.setSlotDurationMinutes(60);
+        template.setPrice(new BigDecimal("1200"));
+        when(turfScheduleTemplateRepository.findByTurfIdAndDayOfWeek(3L, date.getDayOfWeek()))
+                .thenReturn(Optional.of(template));
+    }
+
+    @Test
+    void getSlots_ShouldMergeStoredSlotsWithTemplate() {
+        TurfSlot booked = new TurfSlot();
+        booked.setId(40L);
+        booked.setTurfId(3L);
+        booked.setDate(date);
+        booked.setStartTime(LocalTime.of(19, 0));
+        booked.setEndTime(LocalTime.of(20, 0));
+        booked.setIsAvailable(false);
+        when(turfSlotRepository.findByTurfIdAndDate(3L, date)).thenReturn(List.of(booked));
+
+        List<TurfSlot> slots = slotScheduleService.getSlots(3L, date);
+        slots.sort(Comparator.comparing(TurfSlot::getStartTime));
+
+        assertEquals(4, slots.size());
+        assertEquals(40L, slots.get(1).getId());
+        assertTrue(SlotScheduleService.isVirtual(slots.get(0).getId()));
+        assertTrue(slots.get(0).getIsAvailable());
+        assertEquals(new BigDecimal("1200"), slots.get(0).getCustomPrice());
+    }
+
+    @Test
+    void resolveVirtualSlot_ShouldDecodeTurfDateAndStart() {
+        long slotId = SlotScheduleService.virtualId(3L, date, LocalTime.of(21, 0));
+
+        TurfSlot slot = slotScheduleService.resolveVirtualSlot(slotId);
+
+        assertEquals(3L, slot.getTurfId());
+        assertEquals(date, slot.getDate());
+        assertEquals(LocalTime.of(21, 0), slot.getStartTime());
+        assertEquals(LocalTime.of(22, 0), slot.getEndTime());
+        assertNull(slot.getId());
+    }
+
+    @Test
+    void resolveVirtualSlot_ShouldRejectStartOutsideSchedule() {
+        long slotId = SlotScheduleService.virtualId(3L, date, LocalTime.of(18, 30));
+
+        assertThrows(RuntimeException.class, () -> slotScheduleService.resolveVirtualSlot(slotId));
+    }
+}
@@ -0,0 +1,136 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.response.TeamResponse;
+import com.turfbook.backend.model.Friend;
+import com.turfbook.backend.model.Team;
+import com.turfbook.backend.model.TeamMember;
+import com.turfbook.backend.model.User;
+import com.turfbook.backend.model.enums.FriendStatus;
+import com.turfbook.backend.repository.FriendRepository;
+import com.turfbook.backend.repository.TeamMemberRepository;
+import com.turfbook.backend.repository.TeamRepository;
+import com.turfbook.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TeamServiceTest {
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FriendRepository friendRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private TeamService teamService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void getMyTeams_ShouldLoadTeamsAndMembersInTwoQueries() {
+        // 20 teams of 11 players each used to take 1 + 20 * 2 + 220 lookups
+        List<Team> teams = new ArrayList<>();
+        List<TeamMember> members = new ArrayList<>();
+        for (long t = 1; t <= 20; t++) {
+            teams.add(team(t));
+            for (long p = 0; p < 11; p++) {
+                members.add(member(t, t * 100 + p));
+            }
+        }
+        when(teamRepository.findByMemberUserIdAndStatus(100L, "ACCEPTED")).thenReturn(teams);
+        when(teamMemberRepository.findAcceptedWithUserByTeamIdIn(anyList())).thenReturn(members);
+
+        List<TeamResponse> result = teamService.getMyTeams(100L);
+
+        assertEquals(20, result.size());
+        assertEquals(11, result.get(4).getMembers().size());
+        assertEquals(500L, result.get(4).getMembers().get(0).getId());
+        verify(teamRepository).findByMemberUserIdAndStatus(100L, "ACCEPTED");
+        verify(teamMemberRepository).findAcceptedWithUserByTeamIdIn(anyList());
+        verifyNoMoreInteractions(teamRepository, teamMemberRepository);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getPendingInvites_ShouldSkipMemberQueryWhenThereAreNoInvites() {
+        when(teamRepository.findByMemberUserIdAndStatus(100L, "INVITED")).thenReturn(List.of());
+
+        assertTrue(teamService.getPendingInvites(100L).isEmpty());
+
+        verifyNoInteractions(teamMemberRepository);
+    }
+
+    @Test
+    void invitePlayer_ShouldCheckFriendshipInDatabase() {
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(team(1L)));
+        when(friendRepository.findFriendship(100L, 7L)).thenReturn(Optional.of(friend(100L, 7L, FriendStatus.REMOVED)));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> teamService.invitePlayer(1L, 7L, 100L));
+
+        assertEquals("You can only invite friends", e.getMessage());
+        verify(teamMemberRepository, never()).save(any());
+    }
+
+    @Test
+    void invitePlayer_ShouldInviteAcceptedFriend() {
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(team(1L)));
+        when(friendRepository.findFriendship(100L, 7L))
+                .thenReturn(Optional.of(friend(100L, 7L, FriendStatus.ACCEPTED)));
+        when(teamMemberRepository.findByTeamIdAndUserId(1L, 7L)).thenReturn(Optional.empty());
+
+        teamService.invitePlayer(1L, 7L, 100L);
+
+        verify(teamMemberRepository).save(argThat(m -> m.getUserId().equals(7L) && "INVITED".equals(m.getStatus())));
+    }
+
+    private Friend friend(Long userId, Long friendId, FriendStatus status) {
+        Friend friend = new Friend();
+        friend.setUserId(userId);
+        friend.setFriendId(friendId);
+        friend.setStatus(status);
+        return friend;
+    }
+
+    private Team team(Long id) {
+        Team team = new Team();
+        team.setId(id);
+        team.setName("Team " + id);
+        team.setCaptainId(id * 100);
+        return team;
+    }
+
+    private TeamMember member(Long teamId, Long userId) {
+        User user = new User();
+        user.setId(userId);
+        user.setName("Player " + userId);
+        TeamMember member = new TeamMember();
+        member.setTeamId(teamId);
+        member.setUserId(userId);
+        member.setStatus("ACCEPTED");
+        member.setUser(user);
+        return member;
+    }
+}
@@ -0,0 +1,92 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.model.Turf;
+import com.turfbook.backend.repository.TurfRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TurfGeoIndexTest {
+
+    @Mock
+    private TurfRepository turfRepository;
+
+    @InjectMocks
+    private TurfGeoIndex turfGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(turfGeoIndex, "cellDegrees", 0.05);
+    }
+
+    @Test
+    void nearby_ShouldReturnTurfsWithinRadiusClosestFirst() {
+        // Bengaluru: MG Road, Indiranagar (~4 km), Whitefield (~15 km)
+        turfGeoIndex.put(turf(1L, "Whitefield", 12.9698, 77.7500));
+        turfGeoIndex.put(turf(2L, "Indiranagar", 12.9784, 77.6408));
+        turfGeoIndex.put(turf(3L, "MG Road", 12.9756, 77.6050));
+        turfGeoIndex.put(turf(4L, "No coordinates", null, null));
+
+        List<TurfGeoIndex.Hit> hits = turfGeoIndex.nearby(12.9750, 77.6040, 10);
+
+        assertEquals(List.of(3L, 2L), hits.stream().map(TurfGeoIndex.Hit::turfId).toList());
+        assertTrue(hits.get(0).distanceKm() < 0.2);
+        assertEquals(3.9, hits.get(1).distanceKm(), 0.2);
+    }
+
+    @Test
+    void nearby_ShouldMatchAcrossTheAntimeridian() {
+        turfGeoIndex.put(turf(1L, "Taveuni", -16.80, 179.99));
+
+        List<TurfGeoIndex.Hit> hits = turfGeoIndex.nearby(-16.80, -179.99, 5);
+
+        assertEquals(1, hits.size());
+        assertEquals(2.1, hits.get(0).distanceKm(), 0.1);
+    }
+
+    @Test
+    void put_ShouldMoveUpdatedTurfAndRemoveShouldDropIt() {
+        turfGeoIndex.put(turf(1L, "Koramangala", 12.9352, 77.6245));
+        turfGeoIndex.put(turf(1L, "Hebbal", 13.0358, 77.5970));
+
+        assertTrue(turfGeoIndex.nearby(12.9352, 77.6245, 2).isEmpty());
+        assertEquals(1, turfGeoIndex.nearby(13.0358, 77.5970, 2).size());
+        assertEquals(List.of(1L), turfGeoIndex.matchLocation("hebb"));
+        assertTrue(turfGeoIndex.matchLocation("Koramangala").isEmpty());
+
+        turfGeoIndex.remove(1L);
+
+        assertTrue(turfGeoIndex.nearby(13.0358, 77.5970, 2).isEmpty());
+        assertEquals(0, turfGeoIndex.size());
+    }
+
+    @Test
+    void rebuild_ShouldDropTurfsMissingFromTheDb() {
+        turfGeoIndex.put(turf(1L, "Gone", 12.97, 77.60));
+        when(turfRepository.findLocations())
+                .thenReturn(List.<Object[]>of(new Object[] { 2L, "Jayanagar", 12.925, 77.593 }));
+
+        turfGeoIndex.rebuild();
+
+        assertEquals(1, turfGeoIndex.size());
+        assertEquals(List.of(2L), turfGeoIndex.matchLocation("jayanagar"));
+    }
+
+    private Turf turf(Long id, String location, Double latitude, Double longitude) {
+        Turf turf = new Turf();
+        turf.setId(id);
+        turf.setLocation(location);
+        turf.setLatitude(latitude);
+        turf.setLongitude(longitude);
+        return turf;
+    }
+}
@@ -0,0 +1,91 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.dto.response.NearbyTurf;
+import com.turfbook.backend.dto.response.NearbyTurfPage;
+import com.turfbook.backend.model.Turf;
+import com.turfbook.backend.repository.TurfRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class TurfServiceTest {
+
+    @Mock
+    private TurfRepository turfRepository;
+
+    @Mock
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Mock
+    private TurfGeoIndex turfGeoIndex;
+
+    @InjectMocks
+    private TurfService turfService;
+
+    private final LocalDate date = LocalDate.of(2030, 1, 7);
+    private final LocalTime from = LocalTime.of(18, 0);
+    private final LocalTime to = LocalTime.of(21, 0);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        turfService.maxRadiusKm = 50;
+        turfService.maxPageSize = 100;
+        when(turfGeoIndex.nearby(12.97, 77.60, 5)).thenReturn(List.of(
+                new TurfGeoIndex.Hit(1L, 0.5), new TurfGeoIndex.Hit(2L, 1.2),
+                new TurfGeoIndex.Hit(3L, 2.0), new TurfGeoIndex.Hit(4L, 3.333)));
+        when(turfRepository.findAllById(anyList())).thenAnswer(inv -> ((List<Long>) inv.getArgument(0)).stream()
+                .map(this::turf).toList());
+    }
+
+    @Test
+    void searchNearby_ShouldPageThroughTurfsWithFreeSlotInWindow() {
+        when(slotAvailabilityService.hasFreeSlot(anyLong(), eq(date), eq(from), eq(to))).thenReturn(true);
+        when(slotAvailabilityService.hasFreeSlot(2L, date, from, to)).thenReturn(false);
+
+        NearbyTurfPage first = turfService.searchNearby(12.97, 77.60, 5, date, from, to, 0, 2);
+        NearbyTurfPage second = turfService.searchNearby(12.97, 77.60, 5, date, from, to, 1, 2);
+
+        assertEquals(List.of(1L, 3L), first.getTurfs().stream().map(t -> t.getTurf().getId()).toList());
+        assertEquals(1, first.getNextPage());
+        List<NearbyTurf> last = second.getTurfs();
+        assertEquals(1, last.size());
+        assertEquals(4L, last.get(0).getTurf().getId());
+        assertEquals(3.33, last.get(0).getDistanceKm());
+        assertNull(second.getNextPage());
+    }
+
+    @Test
+    void searchNearby_WithoutDateShouldNotCheckSlots() {
+        NearbyTurfPage page = turfService.searchNearby(12.97, 77.60, 5, null, null, null, 0, 2);
+
+        assertEquals(2, page.getTurfs().size());
+        assertEquals(1, page.getNextPage());
+        verifyNoInteractions(slotAvailabilityService);
+    }
+
+    @Test
+    void searchNearby_ShouldRejectRadiusAboveLimit() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> turfService.searchNearby(12.97, 77.60, 80, null, null, null, 0, 20));
+
+        assertEquals("Radius must be between 0 and 50.0 km", e.getMessage());
+        verifyNoInteractions(turfGeoIndex);
+    }
+
+    private Turf turf(Long id) {
+        Turf turf = new Turf();
+        turf.setId(id);
+        return turf;
+    }
+}
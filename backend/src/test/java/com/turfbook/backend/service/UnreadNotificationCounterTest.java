@@ -0,0 +1,61 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UnreadNotificationCounterTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @InjectMocks
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(unreadNotificationCounter, "ttlMs", 600000L);
+    }
+
+    @Test
+    void add_ShouldApplyDeltasWithoutCountingAgain() {
+        when(notificationRepository.countByUserIdAndReadFalse(1L)).thenReturn(3L);
+
+        assertEquals(3L, unreadNotificationCounter.get(1L));
+        assertEquals(5L, unreadNotificationCounter.add(1L, 2));
+        assertEquals(0L, unreadNotificationCounter.add(1L, -10));
+
+        verify(notificationRepository, times(1)).countByUserIdAndReadFalse(1L);
+        verify(cacheInvalidationPublisher, times(2)).unreadChanged(1L);
+    }
+
+    @Test
+    void forget_ShouldRecountWithoutNotifyingOtherNodes() {
+        when(notificationRepository.countByUserIdAndReadFalse(1L)).thenReturn(3L, 7L);
+
+        assertEquals(3L, unreadNotificationCounter.get(1L));
+        unreadNotificationCounter.forget(1L);
+
+        assertEquals(7L, unreadNotificationCounter.get(1L));
+        verifyNoInteractions(cacheInvalidationPublisher);
+    }
+
+    @Test
+    void add_ShouldLoadFromDatabaseWhenNotCached() {
+        // The COUNT already reflects the committed change, so the delta is not applied on top
+        when(notificationRepository.countByUserIdAndReadFalse(1L)).thenReturn(4L);
+
+        assertEquals(4L, unreadNotificationCounter.add(1L, 1));
+    }
+}
@@ -0,0 +1,92 @@
+package com.turfbook.backend.service;
+
+import com.turfbook.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserSearchIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserSearchIndex userSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(userSearchIndex, "loadBatchSize", 2);
+        userSearchIndex.put(1L, "Rahul Sharma", "rahul@example.com");
+        userSearchIndex.put(2L, "Anita Rao", "anita.r@example.com");
+        userSearchIndex.put(3L, "Sharmila Iyer", "sharmila@example.com");
+        userSearchIndex.put(4L, "Kiran Sharman", "kiran@example.com");
+        userSearchIndex.put(5L, "Arjun", "arjun.sharma@mail.com");
+    }
+
+    @Test
+    void search_ShouldMatchSubstringsAndRankNamePrefixFirst() {
+        assertEquals(List.of(3L, 1L, 4L), search("SHARM", false));
+        assertEquals(List.of(3L, 1L, 4L, 5L), search("sharm", true));
+        assertEquals(List.of(2L), search("ita r", false));
+        assertTrue(search("sharmx", true).isEmpty());
+    }
+
+    @Test
+    void search_ShortQueryShouldMatchWordPrefixesOnly() {
+        assertEquals(List.of(3L, 1L, 4L), search("sh", false));
+        // Equal match quality: shorter name first
+        assertEquals(List.of(5L, 2L), search("a", false));
+        assertTrue(search("hu", true).isEmpty());
+    }
+
+    @Test
+    void search_ShouldApplyBoostsExclusionsAndLimit() {
+        List<Long> ranked = userSearchIndex.search("sharm", false, Map.of(4L, 2, 1L, 1), Set.of(3L), 10);
+        assertEquals(List.of(4L, 1L), ranked);
+
+        assertEquals(List.of(3L), userSearchIndex.search("sharm", false, Map.of(), Set.of(), 1));
+    }
+
+    @Test
+    void put_ShouldReindexUpdatedUser() {
+        userSearchIndex.put(1L, "Rahul Verma", "rahul@example.com");
+
+        assertEquals(List.of(3L, 4L), search("sharm", false));
+        assertEquals(List.of(1L), search("verma", false));
+        assertEquals(5, userSearchIndex.size());
+    }
+
+    @Test
+    void rebuild_ShouldPageThroughUsersAndKeepConcurrentWrites() {
+        when(userRepository.findSearchFieldsAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(
+                new Object[] { 10L, "Meera Nair", "meera@example.com" },
+                new Object[] { 11L, "Vikram Nair", "vikram@example.com" }));
+        when(userRepository.findSearchFieldsAfter(11L, PageRequest.of(0, 2))).thenAnswer(inv -> {
+            // Registered while the reload runs
+            userSearchIndex.put(12L, "Nair Junior", "junior@example.com");
+            return List.<Object[]>of();
+        });
+
+        userSearchIndex.rebuild();
+
+        assertEquals(3, userSearchIndex.size());
+        assertEquals(List.of(12L, 10L, 11L), search("nair", false));
+        assertTrue(search("sharm", true).isEmpty());
+    }
+
+    private List<Long> search(String query, boolean includeEmail) {
+        return userSearchIndex.search(query, includeEmail, Map.of(), Set.of(), 10);
+    }
+}
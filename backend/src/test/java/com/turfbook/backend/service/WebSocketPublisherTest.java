@@ -0,0 +1,66 @@
+package com.turfbook.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WebSocketPublisherTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private WebSocketPublisher webSocketPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(webSocketPublisher, "bufferSize", 2);
+    }
+
+    @Test
+    void drain_ShouldSendBufferedMessagesInOrderAndDropOldestOnOverflow() {
+        webSocketPublisher.send("/topic/bookings/1", "v1");
+        webSocketPublisher.send("/topic/bookings/1", "v2");
+        webSocketPublisher.send("/topic/bookings/1", "v3");
+        webSocketPublisher.sendToUser(7L, "/queue/notifications", "n1");
+
+        webSocketPublisher.drain("/topic/bookings/1");
+        webSocketPublisher.drain("/user/7/queue/notifications");
+
+        InOrder inOrder = inOrder(messagingTemplate);
+        inOrder.verify(messagingTemplate).convertAndSend("/topic/bookings/1", (Object) "v2");
+        inOrder.verify(messagingTemplate).convertAndSend("/topic/bookings/1", (Object) "v3");
+        verify(messagingTemplate, never()).convertAndSend("/topic/bookings/1", (Object) "v1");
+        verify(messagingTemplate).convertAndSend("/user/7/queue/notifications", (Object) "n1");
+        assertEquals(1.0, meterRegistry.counter("websocket.publisher.dropped").count());
+    }
+
+    @Test
+    void drain_ShouldForgetIdleDestinations() {
+        webSocketPublisher.send("/topic/bookings/1", "v1");
+
+        webSocketPublisher.drain("/topic/bookings/1");
+        webSocketPublisher.drain("/topic/bookings/1");
+
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+        assertEquals(0, ((Map<?, ?>) ReflectionTestUtils.getField(webSocketPublisher, "buffers")).size());
+    }
+}
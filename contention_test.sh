@@ -0,0 +1,60 @@
+#!/bin/bash
+
+# Contention Benchmark
+# Simulates hundreds of users trying to book the same slot simultaneously
+# and reports how many won, how many were rejected and how long it took.
+# Each client is its own user (contender<N>@turf.test, registered on the
+# first run) with its own token. The server prices the slot, so no amount
+# is sent.
+#
+# Usage: CLIENTS=300 SLOT_ID=1 TURF_ID=1 ./contention_test.sh
+
+BASE_URL="${BASE_URL:-http://localhost:8080/api}"
+URL="$BASE_URL/bookings/initiate"
+CLIENTS=${CLIENTS:-300}
+SLOT_ID=${SLOT_ID:-1}
+TURF_ID=${TURF_ID:-1}
+PASSWORD="contender123"
+
+USERS=$(mktemp -d)
+echo "Registering and logging in $CLIENTS users..."
+for i in $(seq 1 $CLIENTS); do
+  (
+    EMAIL="contender$i@turf.test"
+    curl -s -o /dev/null -X POST "$BASE_URL/auth/register" \
+      -H "Content-Type: application/json" \
+      -d "{\"name\": \"Contender $i\", \"email\": \"$EMAIL\", \"password\": \"$PASSWORD\"}"
+    curl -s -X POST "$BASE_URL/auth/login" \
+      -H "Content-Type: application/json" \
+      -d "{\"email\": \"$EMAIL\", \"password\": \"$PASSWORD\"}" | jq -r '"\(.id) \(.token)"' > "$USERS/$i"
+  ) &
+done
+wait
+
+RESULTS=$(mktemp)
+START=$(date +%s%N)
+
+for i in $(seq 1 $CLIENTS); do
+  read -r USER_ID TOKEN < "$USERS/$i"
+  curl -s -o /dev/null -w "%{http_code} %{time_total}\n" -X POST $URL \
+    -H "Content-Type: application/json" \
+    -H "Authorization: Bearer $TOKEN" \
+    -d "{\"userId\": $USER_ID, \"turfId\": $TURF_ID, \"slotId\": $SLOT_ID}" >> "$RESULTS" &
+done
+
+wait
+END=$(date +%s%N)
+
+echo "Clients:        $CLIENTS"
+echo "Wall time:      $(( (END - START) / 1000000 )) ms"
+echo "Succeeded:      $(grep -c '^200 ' "$RESULTS")"
+echo "Rejected (400): $(grep -c '^400 ' "$RESULTS")"
+echo "Other:          $(grep -vc '^\(200\|400\) ' "$RESULTS")"
+sort -k2 -n "$RESULTS" | awk '{ t[NR] = $2 } END {
+  printf "Latency p50:    %.0f ms\n", t[int(NR * 0.50)] * 1000
+  printf "Latency p99:    %.0f ms\n", t[int(NR * 0.99)] * 1000
+  printf "Latency max:    %.0f ms\n", t[NR] * 1000
+}'
+
+rm -rf "$RESULTS" "$USERS"
+echo "Contention Benchmark Completed"
@@ -89,9 +89,11 @@ CREATE TABLE bookings (
     qr_secret VARCHAR(36), -- UUID
     checked_in_at TIMESTAMP NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    booking_date DATE, -- DATE(created_at), for indexed revenue reports
     FOREIGN KEY (user_id) REFERENCES users(id),
     FOREIGN KEY (turf_id) REFERENCES turfs(id),
-    FOREIGN KEY (slot_id) REFERENCES turf_slots(id)
+    FOREIGN KEY (slot_id) REFERENCES turf_slots(id),
+    INDEX idx_bookings_turf_date_status (turf_id, booking_date, status)
 );
 
 -- Booking Participants Table
@@ -117,3 +119,23 @@ CREATE TABLE payments (
     FOREIGN KEY (booking_id) REFERENCES bookings(id),
     FOREIGN KEY (user_id) REFERENCES users(id)
 );
+
+-- Owner Analytics Rollup (maintained incrementally by AnalyticsRollupService)
+CREATE TABLE turf_daily_stats (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    turf_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    revenue DECIMAL(12, 2) NOT NULL DEFAULT 0, -- by booking creation date
+    active_bookings INT NOT NULL DEFAULT 0, -- PENDING + CONFIRMED, by booking creation date
+    total_slots INT NOT NULL DEFAULT 0, -- by slot date
+    booked_slots INT NOT NULL DEFAULT 0, -- by slot date
+    UNIQUE KEY idx_turf_daily_stats_turf_date (turf_id, stat_date)
+);
+
+-- Distinct customers per turf
+CREATE TABLE turf_customers (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    turf_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    UNIQUE KEY idx_turf_customers_turf_user (turf_id, user_id)
+);
@@ -5,13 +5,16 @@ import { Calendar, Clock, MapPin } from 'lucide-react';
 
 const BookingHistory: React.FC = () => {
     const [bookings, setBookings] = useState<Booking[]>([]);
+    const [nextCursor, setNextCursor] = useState<number | undefined>();
     const [loading, setLoading] = useState(true);
+    const [loadingMore, setLoadingMore] = useState(false);
 
     useEffect(() => {
         const fetchBookings = async () => {
             try {
                 const res = await BookingService.getMyBookings();
-                setBookings(res.data);
+                setBookings(res.data.bookings);
+                setNextCursor(res.data.nextCursor ?? undefined);
             } catch (error) {
                 console.error("Error fetching bookings", error);
             } finally {
@@ -21,6 +24,20 @@ const BookingHistory: React.FC = () => {
         fetchBookings();
     }, []);
 
+    const loadMore = async () => {
+        if (nextCursor === undefined) return;
+        setLoadingMore(true);
+        try {
+            const res = await BookingService.getMyBookings(nextCursor);
+            setBookings(prev => [...prev, ...res.data.bookings]);
+            setNextCursor(res.data.nextCursor ?? undefined);
+        } catch (error) {
+            console.error("Error fetching bookings", error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     if (loading) return <div>Loading bookings...</div>;
 
     return (
@@ -93,6 +110,17 @@ const BookingHistory: React.FC = () => {
                                 )}
                             </div>
                         ))}
+                        {nextCursor !== undefined && (
+                            <div className="flex justify-center pt-2">
+                                <button
+                                    onClick={loadMore}
+                                    disabled={loadingMore}
+                                    className="text-indigo-600 text-sm font-medium hover:bg-indigo-50 px-4 py-2 rounded transition-colors disabled:opacity-50"
+                                >
+                                    {loadingMore ? 'Loading...' : 'Load older bookings'}
+                                </button>
+                            </div>
+                        )}
                     </div>
                 )}
             </div>
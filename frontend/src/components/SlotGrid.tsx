@@ -30,7 +30,7 @@ const SlotGrid: React.FC<SlotGridProps> = ({ slots, onSelectSlot, selectedSlot }
                             {slot.startTime.substring(0, 5)} - {slot.endTime.substring(0, 5)}
                         </div>
                         <div className="text-xs mt-1 text-gray-400">
-                            ₹{slot.customPrice || '1000'}
+                            ₹{slot.price || slot.customPrice || '1000'}
                         </div>
                     </button>
                 );
@@ -27,8 +27,7 @@ const UserBookingModal: React.FC<UserBookingModalProps> = ({ slot, turfId, userI
             const res = await BookingService.initiateBooking(
                 userId,
                 turfId,
-                slot.id,
-                slot.customPrice || 1000 // Default price if not set
+                slot.id
             );
 
             if (isSplit) {
@@ -88,7 +87,7 @@ const UserBookingModal: React.FC<UserBookingModalProps> = ({ slot, turfId, userI
                             <CreditCard size={16} /> Price
                         </span>
                         <span className="text-emerald-400 font-bold text-lg">
-                            ₹{slot.customPrice || 1000}
+                            ₹{slot.price || slot.customPrice || 1000}
                         </span>
                     </div>
                 </div>
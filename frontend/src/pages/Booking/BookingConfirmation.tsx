@@ -44,8 +44,7 @@ const BookingConfirmation = () => {
             const response = await BookingService.initiateBooking(
                 user?.id || 1, // Fallback for dev
                 turf.id,
-                slot.id,
-                slot.customPrice || 1000
+                slot.id
             );
 
             setBookingId(response.data.id);
@@ -136,7 +135,7 @@ const BookingConfirmation = () => {
                             <div className="bg-gray-700/30 rounded-xl p-4 space-y-3 border border-gray-700">
                                 <div className="flex justify-between text-gray-300">
                                     <span>Turf Fee</span>
-                                    <span>₹{slot.customPrice || 1000}</span>
+                                    <span>₹{slot.price || slot.customPrice || 1000}</span>
                                 </div>
                                 <div className="flex justify-between text-gray-300">
                                     <span>Convenience Fee</span>
@@ -144,7 +143,7 @@ const BookingConfirmation = () => {
                                 </div>
                                 <div className="border-t border-gray-600 pt-3 flex justify-between text-white font-bold text-lg">
                                     <span>Total Payable</span>
-                                    <span>₹{(slot.customPrice || 1000) + 50}</span>
+                                    <span>₹{(slot.price || slot.customPrice || 1000) + 50}</span>
                                 </div>
                             </div>
 
@@ -1,13 +1,16 @@
-import { useQuery } from '@tanstack/react-query';
+import { useInfiniteQuery } from '@tanstack/react-query';
 import { BookingService } from '../../services/api';
 import { Skeleton } from '../../components/loaders/Skeleton';
 import { Badge } from '../../components/ui/Badge';
 
 const MyBookings = () => {
-    const { data: bookings, isLoading } = useQuery({
+    const { data, isLoading, hasNextPage, fetchNextPage, isFetchingNextPage } = useInfiniteQuery({
         queryKey: ['my-bookings'],
-        queryFn: () => BookingService.getMyBookings().then(res => res.data),
+        queryFn: ({ pageParam }) => BookingService.getMyBookings(pageParam).then(res => res.data),
+        initialPageParam: undefined as number | undefined,
+        getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
     });
+    const bookings = data?.pages.flatMap(page => page.bookings);
 
     if (isLoading) {
         return (
@@ -50,6 +53,17 @@ const MyBookings = () => {
                             </div>
                         </div>
                     ))}
+                    {hasNextPage && (
+                        <div className="flex justify-center pt-2">
+                            <button
+                                onClick={() => fetchNextPage()}
+                                disabled={isFetchingNextPage}
+                                className="px-4 py-2 text-sm font-medium text-emerald-400 hover:bg-emerald-500/10 rounded-lg transition-colors disabled:opacity-50"
+                            >
+                                {isFetchingNextPage ? 'Loading...' : 'Load older bookings'}
+                            </button>
+                        </div>
+                    )}
                 </div>
             )}
         </div>
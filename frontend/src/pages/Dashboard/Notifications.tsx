@@ -7,7 +7,7 @@ import { CheckCheck } from 'lucide-react';
 import { toast } from 'react-hot-toast';
 
 const Notifications = () => {
-    const { notifications, notificationsLoading, fetchNotifications } = useDashboardStore();
+    const { notifications, notificationsLoading, notificationsCursor, fetchNotifications, fetchMoreNotifications } = useDashboardStore();
 
     useEffect(() => {
         fetchNotifications();
@@ -60,6 +60,17 @@ const Notifications = () => {
 
             <div className="bg-gray-800 rounded-xl border border-gray-700 p-6 min-h-[400px]">
                 <NotificationsList notifications={notifications} />
+                {notificationsCursor && (
+                    <div className="flex justify-center mt-6">
+                        <button
+                            onClick={fetchMoreNotifications}
+                            disabled={notificationsLoading}
+                            className="px-4 py-2 text-sm font-medium text-emerald-400 hover:bg-emerald-500/10 rounded-lg transition-colors disabled:opacity-50"
+                        >
+                            {notificationsLoading ? 'Loading...' : 'Load older notifications'}
+                        </button>
+                    </div>
+                )}
             </div>
         </div>
     );
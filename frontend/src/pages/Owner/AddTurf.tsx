@@ -14,6 +14,8 @@ const AddTurf = () => {
     const [formData, setFormData] = useState({
         name: '',
         location: '',
+        latitude: '',
+        longitude: '',
         description: '',
         pricePerHour: '',
         amenities: '',
@@ -33,6 +35,8 @@ const AddTurf = () => {
             setFormData({
                 name: turf.name || '',
                 location: turf.location || '',
+                latitude: turf.latitude?.toString() || '',
+                longitude: turf.longitude?.toString() || '',
                 description: turf.description || '',
                 pricePerHour: turf.pricePerHour?.toString() || '',
                 amenities: Array.isArray(turf.amenities) ? turf.amenities.join(', ') : '',
@@ -60,6 +64,8 @@ const AddTurf = () => {
             const turfData = {
                 name: formData.name,
                 location: formData.location,
+                latitude: formData.latitude ? parseFloat(formData.latitude) : null,
+                longitude: formData.longitude ? parseFloat(formData.longitude) : null,
                 description: formData.description,
                 pricePerHour: parseFloat(formData.pricePerHour),
                 amenities: amenitiesArray,
@@ -120,6 +126,27 @@ const AddTurf = () => {
                         required
                     />
 
+                    <div className="grid grid-cols-2 gap-4">
+                        <Input
+                            label="Latitude"
+                            name="latitude"
+                            type="number"
+                            step="any"
+                            value={formData.latitude}
+                            onChange={handleChange}
+                            placeholder="e.g., 12.9352"
+                        />
+                        <Input
+                            label="Longitude"
+                            name="longitude"
+                            type="number"
+                            step="any"
+                            value={formData.longitude}
+                            onChange={handleChange}
+                            placeholder="e.g., 77.6245"
+                        />
+                    </div>
+
                     <div>
                         <label className="block text-sm font-medium text-gray-300 mb-2">Description</label>
                         <textarea
@@ -129,7 +129,7 @@ const TurfDetails = () => {
                                 onClick={() => setShowBookingModal(true)}
                                 className="bg-emerald-600 hover:bg-emerald-700 text-white px-8 py-3 rounded-lg font-bold text-lg transition-colors"
                             >
-                                Book Now (₹{selectedSlot.customPrice || 1000})
+                                Book Now (₹{selectedSlot.price || selectedSlot.customPrice || 1000})
                             </button>
                         </div>
                     )}
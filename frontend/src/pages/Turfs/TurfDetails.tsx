@@ -1,7 +1,8 @@
-import { useState } from 'react';
+import { useEffect, useState } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
-import { useQuery } from '@tanstack/react-query';
+import { useQuery, useQueryClient } from '@tanstack/react-query';
 import { TurfService } from '../../services/api';
+import { applySlotDeltas, hasUnknownSlots, subscribeToSlots } from '../../services/slotStream';
 import SlotGrid from '../../components/SlotGrid';
 import { Button } from '../../components/ui/Button';
 import { Skeleton } from '../../components/loaders/Skeleton';
@@ -25,9 +26,25 @@ const TurfDetails = () => {
         queryKey: ['slots', id, selectedDate],
         queryFn: () => TurfService.getSlots(Number(id), selectedDate).then(res => res.data),
         enabled: !!id,
-        refetchInterval: 5000, // Poll every 5 seconds for real-time updates
     });
 
+    // Live slot updates replace polling
+    const queryClient = useQueryClient();
+    useEffect(() => {
+        if (!id) return;
+        const resync = () => queryClient.invalidateQueries({ queryKey: ['slots', id, selectedDate] });
+        return subscribeToSlots(Number(id), selectedDate, (deltas) => {
+            const current = queryClient.getQueryData<TurfSlot[]>(['slots', id, selectedDate]);
+            // Nothing loaded yet to apply the deltas to, or they name slots we don't have
+            if (!current || hasUnknownSlots(current, deltas)) {
+                resync();
+                return;
+            }
+            queryClient.setQueryData<TurfSlot[]>(['slots', id, selectedDate],
+                (slots) => slots && applySlotDeltas(slots, deltas));
+        }, resync);
+    }, [id, selectedDate, queryClient]);
+
     const handleBook = () => {
         if (selectedSlot) {
             // Navigate to booking flow with selected slot state
@@ -148,7 +165,7 @@ const TurfDetails = () => {
                             <div className="flex justify-between text-sm">
                                 <span className="text-gray-400">Price</span>
                                 <span className="text-emerald-400 font-bold">
-                                    {selectedSlot ? `₹${selectedSlot.customPrice || 1000}` : '-'}
+                                    {selectedSlot ? `₹${selectedSlot.price || selectedSlot.customPrice || 1000}` : '-'}
                                 </span>
                             </div>
                         </div>
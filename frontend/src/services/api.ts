@@ -1,5 +1,5 @@
 import axios from 'axios';
-import type { Turf, TurfSlot, Booking, Friend, Team } from '../types';
+import type { Turf, NearbyTurfPage, TurfSlot, Booking, BookingPage, Friend, FriendSuggestion, Team, User } from '../types';
 
 const API_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080/api';
 
@@ -140,6 +140,18 @@ export const TurfService = {
     getAllTurfs: (location?: string) => {
         return api.get<Turf[]>('/turfs', { params: { location } });
     },
+    getNearbyTurfs: (params: {
+        lat: number;
+        lng: number;
+        radiusKm?: number;
+        date?: string;
+        from?: string;
+        to?: string;
+        page?: number;
+        size?: number;
+    }) => {
+        return api.get<NearbyTurfPage>('/turfs/nearby', { params });
+    },
     getTurfById: (id: number) => {
         return api.get<Turf>(`/turfs/${id}`);
     },
@@ -149,14 +161,15 @@ export const TurfService = {
 };
 
 export const BookingService = {
-    initiateBooking: (userId: number, turfId: number, slotId: number, totalAmount: number) => {
-        return api.post<Booking>('/bookings/initiate', { userId, turfId, slotId, totalAmount });
+    // The server prices the slot; no amount is sent
+    initiateBooking: (userId: number, turfId: number, slotId: number) => {
+        return api.post<Booking>('/bookings/initiate', { userId, turfId, slotId });
     },
     addParticipant: (bookingId: number, userId: number) => {
         return api.post(`/bookings/${bookingId}/participants/add`, { userId });
     },
-    getMyBookings: () => {
-        return api.get<Booking[]>('/bookings/my');
+    getMyBookings: (cursor?: number, limit?: number) => {
+        return api.get<BookingPage>('/bookings/my', { params: { cursor, limit } });
     }
 };
 
@@ -216,6 +229,12 @@ export const FriendService = {
     removeFriend: (friendId: number) => {
         return api.delete(`/friends/${friendId}`);
     },
+    getSuggestions: (limit?: number) => {
+        return api.get<FriendSuggestion[]>('/friends/suggestions', { params: { limit } });
+    },
+    getMutualFriends: (userId: number) => {
+        return api.get<User[]>(`/friends/mutual/${userId}`);
+    },
     searchUsers: (query: string) => {
         return api.get<any[]>(`/users/search`, { params: { query } }).then(res => res.data);
     }
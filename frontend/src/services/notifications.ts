@@ -1,11 +1,16 @@
 import { api } from './api';
-import type { Notification } from '../types';
+import type { Notification, NotificationPage } from '../types';
 
 export const NotificationService = {
     getAll: () => {
         return api.get<Notification[]>('/notifications');
     },
 
+    // Newest first; pass the previous page's nextCursor to load older ones
+    getFeed: (cursor?: string | null) => {
+        return api.get<NotificationPage>('/notifications/feed', { params: cursor ? { cursor } : {} });
+    },
+
     getUnreadCount: () => {
         return api.get<{ count: number }>('/notifications/unread-count');
     },
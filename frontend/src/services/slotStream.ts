@@ -0,0 +1,59 @@
+import { Client } from '@stomp/stompjs';
+import type { SlotDelta, SlotDeltaPush, TurfSlot } from '../types';
+
+const API_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080/api';
+
+// Raw WebSocket transport of the SockJS endpoint at /ws
+const WS_URL = API_URL.replace(/^http/, 'ws').replace(/\/api\/?$/, '') + '/ws/websocket';
+
+/**
+ * Subscribe to slot-grid deltas for a turf and day. onConnect runs after every
+ * (re)connect, once subscribed, so the caller can resync anything missed while
+ * disconnected. Returns an unsubscribe function.
+ */
+export const subscribeToSlots = (turfId: number, date: string, onDeltas: (deltas: SlotDelta[]) => void,
+    onConnect?: () => void) => {
+    const client = new Client({
+        brokerURL: WS_URL,
+        reconnectDelay: 5000,
+        onConnect: () => {
+            client.subscribe(`/topic/turfs/${turfId}/${date}/slots`, (message) => {
+                const push: SlotDeltaPush = JSON.parse(message.body);
+                onDeltas(push.deltas);
+            });
+            onConnect?.();
+        },
+    });
+    client.activate();
+    return () => {
+        client.deactivate();
+    };
+};
+
+/**
+ * Apply deltas to a slot list, skipping any older than the slot's current version
+ */
+export const applySlotDeltas = (slots: TurfSlot[], deltas: SlotDelta[]): TurfSlot[] => {
+    const byId = new Map(deltas.map((delta) => [delta.slotId, delta]));
+    return slots.map((slot) => {
+        const delta = byId.get(slot.id);
+        if (!delta || (delta.version != null && slot.version != null && delta.version <= slot.version)) {
+            return slot;
+        }
+        return {
+            ...slot,
+            version: delta.version ?? slot.version,
+            isAvailable: delta.state !== 'BOOKED',
+            isLocked: delta.state === 'LOCKED',
+        };
+    });
+};
+
+/**
+ * True if a delta refers to a slot the list does not have, e.g. a schedule slot
+ * (negative virtual ID) that has just been stored under a real ID
+ */
+export const hasUnknownSlots = (slots: TurfSlot[], deltas: SlotDelta[]): boolean => {
+    const ids = new Set(slots.map((slot) => slot.id));
+    return deltas.some((delta) => !ids.has(delta.slotId));
+};
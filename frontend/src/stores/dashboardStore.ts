@@ -8,6 +8,7 @@ interface DashboardState {
     pendingRequests: Friend[]; // Added pendingRequests
     teams: Team[];
     notifications: Notification[];
+    notificationsCursor: string | null;
     matchHistory: Match[];
     achievements: Achievement[];
     stats: UserStats | null;
@@ -39,18 +40,20 @@ interface DashboardState {
     fetchPendingRequests: () => Promise<void>;
     fetchTeams: () => Promise<void>;
     fetchNotifications: () => Promise<void>;
+    fetchMoreNotifications: () => Promise<void>;
     fetchMatchHistory: () => Promise<void>;
     fetchAchievements: () => Promise<void>;
     fetchStats: () => Promise<void>;
 }
 
-export const useDashboardStore = create<DashboardState>((set) => ({
+export const useDashboardStore = create<DashboardState>((set, get) => ({
     // Initial state
     profile: null,
     friends: [],
     pendingRequests: [],
     teams: [],
     notifications: [],
+    notificationsCursor: null,
     matchHistory: [],
     achievements: [],
     stats: null,
@@ -172,11 +175,32 @@ export const useDashboardStore = create<DashboardState>((set) => ({
         set({ notificationsLoading: true });
         try {
             const { NotificationService } = await import('../services/notifications');
-            const response = await NotificationService.getAll();
-            set({ notifications: response.data || [] });
+            const response = await NotificationService.getFeed();
+            set({
+                notifications: response.data?.notifications || [],
+                notificationsCursor: response.data?.nextCursor ?? null,
+            });
         } catch (error) {
             console.error('Error fetching notifications:', error);
-            set({ notifications: [] });
+            set({ notifications: [], notificationsCursor: null });
+        } finally {
+            set({ notificationsLoading: false });
+        }
+    },
+
+    fetchMoreNotifications: async () => {
+        const { notificationsCursor, notificationsLoading } = get();
+        if (!notificationsCursor || notificationsLoading) return;
+        set({ notificationsLoading: true });
+        try {
+            const { NotificationService } = await import('../services/notifications');
+            const response = await NotificationService.getFeed(notificationsCursor);
+            set((state) => ({
+                notifications: [...state.notifications, ...(response.data?.notifications || [])],
+                notificationsCursor: response.data?.nextCursor ?? null,
+            }));
+        } catch (error) {
+            console.error('Error fetching more notifications:', error);
         } finally {
             set({ notificationsLoading: false });
         }
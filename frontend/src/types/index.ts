@@ -11,11 +11,23 @@ export interface Turf {
     id: number;
     name: string;
     location: string;
+    latitude?: number;
+    longitude?: number;
     amenities: string[]; // Parsed from JSON
     images: string[]; // Parsed from JSON
     pricingRules: any;
 }
 
+export interface NearbyTurf {
+    turf: Turf;
+    distanceKm: number;
+}
+
+export interface NearbyTurfPage {
+    turfs: NearbyTurf[];
+    nextPage?: number | null; // null on the last page
+}
+
 export interface TurfSlot {
     id: number;
     turfId: number;
@@ -25,6 +37,22 @@ export interface TurfSlot {
     isAvailable: boolean;
     isLocked: boolean;
     customPrice?: number;
+    price?: number; // Dynamic price from the turf's pricing rules
+    version?: number;
+}
+
+export type SlotState = 'AVAILABLE' | 'LOCKED' | 'BOOKED';
+
+export interface SlotDelta {
+    slotId: number;
+    state: SlotState;
+    version?: number;
+}
+
+export interface SlotDeltaPush {
+    turfId: number;
+    date: string;
+    deltas: SlotDelta[];
 }
 
 export interface Booking {
@@ -38,6 +66,15 @@ export interface Booking {
     qrSecret?: string;
     checkedInAt?: string;
     participants?: BookingParticipant[];
+    turfName?: string;
+    slotDate?: string;
+    startTime?: string;
+    endTime?: string;
+}
+
+export interface BookingPage {
+    bookings: Booking[];
+    nextCursor?: number;
 }
 
 export type FriendStatus = 'SENT' | 'PENDING' | 'ACCEPTED' | 'REJECTED' | 'REMOVED' | 'BLOCKED';
@@ -51,6 +88,11 @@ export interface Friend {
     user?: User;
 }
 
+export interface FriendSuggestion {
+    user: User;
+    mutualFriends: number;
+}
+
 export type TeamMemberStatus = 'INVITED' | 'PENDING' | 'ACCEPTED' | 'REJECTED' | 'REMOVED';
 export type TeamRole = 'CAPTAIN' | 'PLAYER';
 
@@ -107,6 +149,11 @@ export interface Notification {
     relatedType?: 'FRIEND' | 'TEAM' | 'MATCH' | 'BOOKING';
 }
 
+export interface NotificationPage {
+    notifications: Notification[];
+    nextCursor?: string | null;
+}
+
 // Match History
 export type MatchResult = 'WIN' | 'LOSE' | 'DRAW';
 
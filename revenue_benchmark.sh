@@ -0,0 +1,80 @@
+#!/bin/bash
+
+# Revenue Query Benchmark
+# Seeds ROWS synthetic bookings spread over the last year across all turfs,
+# then times the old DATE_FORMAT(created_at) grouping against the indexed
+# booking_date range scan used by /api/analytics/owner/revenue.
+# Seeded rows are removed afterwards (KEEP=1 to keep them).
+#
+# Usage: OWNER_ID=2 ROWS=1000000 DAYS=30 ./revenue_benchmark.sh
+
+DB_HOST=${DB_HOST:-localhost}
+DB_USER=${DB_USER:-root}
+DB_PASS=${DB_PASS:-1234}
+DB_NAME=${DB_NAME:-turf_book}
+OWNER_ID=${OWNER_ID:-2}
+ROWS=${ROWS:-1000000}
+DAYS=${DAYS:-30}
+RUNS=${RUNS:-10}
+SLOT_OFFSET=900000000 # synthetic slot ids, far above real ones
+
+MYSQL="mysql -h$DB_HOST -u$DB_USER -p$DB_PASS $DB_NAME --batch --skip-column-names"
+
+OLD_QUERY="SELECT DATE_FORMAT(b.created_at, '%Y-%m-%d'), COALESCE(SUM(b.total_amount), 0)
+  FROM bookings b JOIN turfs t ON b.turf_id = t.id
+  WHERE t.owner_id = $OWNER_ID
+  AND b.created_at BETWEEN CURDATE() - INTERVAL $DAYS DAY AND NOW()
+  GROUP BY DATE_FORMAT(b.created_at, '%Y-%m-%d')"
+
+NEW_QUERY="SELECT b.booking_date, COALESCE(SUM(b.total_amount), 0)
+  FROM bookings b JOIN turfs t ON b.turf_id = t.id
+  WHERE t.owner_id = $OWNER_ID
+  AND b.booking_date BETWEEN CURDATE() - INTERVAL $DAYS DAY AND CURDATE()
+  GROUP BY b.booking_date"
+
+echo "Seeding $ROWS bookings..."
+START=$(date +%s%N)
+$MYSQL <<SQL
+SET SESSION cte_max_recursion_depth = $ROWS;
+CREATE TEMPORARY TABLE bench_turfs AS
+  SELECT id, ROW_NUMBER() OVER (ORDER BY id) - 1 AS idx FROM turfs;
+SET @turfs = (SELECT COUNT(*) FROM bench_turfs);
+INSERT INTO bookings (turf_id, slot_id, status, total_amount, created_at, booking_date)
+WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < $ROWS - 1)
+SELECT bt.id, $SLOT_OFFSET + seq.n,
+       ELT(1 + seq.n % 5, 'PENDING', 'CONFIRMED', 'EXPIRED', 'CANCELLED', 'COMPLETED'),
+       500 + seq.n % 1000,
+       NOW() - INTERVAL (seq.n % 525600) MINUTE,
+       DATE(NOW() - INTERVAL (seq.n % 525600) MINUTE)
+FROM seq JOIN bench_turfs bt ON bt.idx = seq.n % @turfs;
+ANALYZE TABLE bookings;
+SQL
+echo "Seeded in $(( ($(date +%s%N) - START) / 1000000 )) ms"
+
+time_query() {
+  local query="$1"
+  local start=$(date +%s%N)
+  for i in $(seq 1 $RUNS); do
+    $MYSQL -e "$query" > /dev/null
+  done
+  echo $(( ($(date +%s%N) - start) / 1000000 / RUNS ))
+}
+
+echo ""
+echo "Plan (DATE_FORMAT on created_at):"
+$MYSQL -e "EXPLAIN $OLD_QUERY"
+echo "Plan (booking_date range):"
+$MYSQL -e "EXPLAIN $NEW_QUERY"
+
+echo ""
+echo "Owner:             $OWNER_ID, last $DAYS days, $RUNS runs"
+echo "DATE_FORMAT avg:   $(time_query "$OLD_QUERY") ms"
+echo "booking_date avg:  $(time_query "$NEW_QUERY") ms"
+
+if [ "$KEEP" != "1" ]; then
+  echo ""
+  echo "Removing seeded bookings..."
+  $MYSQL -e "DELETE FROM bookings WHERE slot_id >= $SLOT_OFFSET"
+fi
+
+echo "Revenue Benchmark Completed"